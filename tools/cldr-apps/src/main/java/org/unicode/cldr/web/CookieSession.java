@@ -13,11 +13,11 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Hashtable;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -81,7 +81,7 @@ public class CookieSession {
      *
      * <p>Compare lastBrowserCallMillisSinceEpoch.
      */
-    private long lastActionMillisSinceEpoch = System.currentTimeMillis();
+    private volatile long lastActionMillisSinceEpoch = System.currentTimeMillis();
 
     /**
      * Get the time (in millis since 1970) when the user last took an explicit action.
@@ -108,10 +108,9 @@ public class CookieSession {
         }
         final long nowMillisSinceEpoch = System.currentTimeMillis();
         final boolean observer = (user == null);
-        long myTimeoutSecs; // timeout in seconds.
+        long myTimeoutSecs = getTimeoutSecs(); // timeout in seconds.
 
         if (observer) {
-            myTimeoutSecs = Params.CLDR_OBSERVER_TIMEOUT_SECS.value();
             /*
              * Allow twice as much time, if there aren't too many observers.
              */
@@ -119,7 +118,6 @@ public class CookieSession {
                 myTimeoutSecs *= 2;
             }
         } else {
-            myTimeoutSecs = Params.CLDR_USER_TIMEOUT_SECS.value();
             /*
              * Allow twice as much time, if there aren't too many users.
              */
@@ -138,6 +136,17 @@ public class CookieSession {
         }
     }
 
+    /**
+     * The timeout for this session, in seconds, before any doubling by millisTillKick().
+     *
+     * @return CLDR_OBSERVER_TIMEOUT_SECS for an observer, otherwise CLDR_USER_TIMEOUT_SECS
+     */
+    private long getTimeoutSecs() {
+        return (user == null)
+                ? Params.CLDR_OBSERVER_TIMEOUT_SECS.value()
+                : Params.CLDR_USER_TIMEOUT_SECS.value();
+    }
+
     /**
      * The time (in millis since 1970) when the user last touched this session.
      *
@@ -145,7 +154,7 @@ public class CookieSession {
      *
      * <p>Compare lastActionMillisSinceEpoch.
      */
-    private long lastBrowserCallMillisSinceEpoch;
+    private volatile long lastBrowserCallMillisSinceEpoch;
 
     /**
      * Get the time (in millis since 1970) when the user last touched this session.
@@ -177,29 +186,28 @@ public class CookieSession {
                 + "}";
     }
 
-    static Hashtable<String, CookieSession> gHash = new Hashtable<>(); // hash by sess ID
-    static Hashtable<String, CookieSession> uHash = new Hashtable<>(); // hash by user ID
+    /** All sessions, by session ID and by user email. One-second ticks, an hour round the wheel. */
+    private static final SessionRegistry<CookieSession> sessions =
+            new SessionRegistry<>(1000, 3600);
 
     /**
      * @return the set of CookieSession objects Called by AdminAjax.jsp
      */
     public static Set<CookieSession> getAllSet() {
-        synchronized (gHash) {
-            TreeSet<CookieSession> sessSet =
-                    new TreeSet<>(
-                            (Comparator<Object>)
-                                    (a, b) -> {
-                                        CookieSession aa = (CookieSession) a;
-                                        CookieSession bb = (CookieSession) b;
-                                        if (aa == bb) return 0;
-                                        return Long.compare(
-                                                bb.lastBrowserCallMillisSinceEpoch,
-                                                aa.lastBrowserCallMillisSinceEpoch);
-                                        // same age
-                                    });
-            sessSet.addAll(gHash.values()); // ALL sessions
-            return sessSet;
-        }
+        TreeSet<CookieSession> sessSet =
+                new TreeSet<>(
+                        (Comparator<Object>)
+                                (a, b) -> {
+                                    CookieSession aa = (CookieSession) a;
+                                    CookieSession bb = (CookieSession) b;
+                                    if (aa == bb) return 0;
+                                    return Long.compare(
+                                            bb.lastBrowserCallMillisSinceEpoch,
+                                            aa.lastBrowserCallMillisSinceEpoch);
+                                    // same age
+                                });
+        sessSet.addAll(sessions.sessions()); // ALL sessions
+        return sessSet;
     }
 
     /**
@@ -227,10 +235,11 @@ public class CookieSession {
      * @return session or null
      */
     public static CookieSession retrieveWithoutTouch(String sessionid) {
+        final long start = System.nanoTime();
         checkForExpiredSessions();
-        synchronized (gHash) {
-            return gHash.get(sessionid);
-        }
+        CookieSession c = sessions.get(sessionid);
+        sessions.recordLookup(System.nanoTime() - start);
+        return c;
     }
 
     /**
@@ -240,9 +249,7 @@ public class CookieSession {
      * @return session or null
      */
     public static CookieSession retrieveUserWithoutTouch(String email) {
-        synchronized (gHash) {
-            return uHash.get(email);
-        }
+        return sessions.getByUser(email);
     }
 
     /**
@@ -252,13 +259,11 @@ public class CookieSession {
      * @return session or null
      */
     public static CookieSession retrieveUser(String email) {
-        synchronized (gHash) {
-            CookieSession c = retrieveUserWithoutTouch(email);
-            if (c != null) {
-                c.touch();
-            }
-            return c;
+        CookieSession c = retrieveUserWithoutTouch(email);
+        if (c != null) {
+            c.touch();
         }
+        return c;
     }
 
     /**
@@ -294,10 +299,7 @@ public class CookieSession {
         if (u == null) return;
         user = u;
         settings = null;
-        synchronized (gHash) {
-            uHash.put(user.email, this); // replaces any existing session by
-            // this user.
-        }
+        sessions.setUser(user.email, this); // replaces any existing session by this user.
     }
 
     /** Create a new session. */
@@ -309,13 +311,16 @@ public class CookieSession {
             id = fromId;
         }
         if (DEBUG_INOUT) System.out.println("S: new " + id + " - " + user);
-        synchronized (gHash) {
-            if (gHash.containsKey(id)) {
-                System.err.println("CookieSession.CookieSession() - dup id " + id);
-            }
-            gHash.put(id, this);
-            touch();
-        }
+        touch();
+    }
+
+    /**
+     * Add a new session to the registry, unless there is already one with its ID.
+     *
+     * @return the existing session with the ID, or null if the session was added
+     */
+    private static CookieSession register(CookieSession session) {
+        return sessions.add(session.id, session, session.getDueMillis());
     }
 
     public static CookieSession newSession(String ip) {
@@ -323,21 +328,21 @@ public class CookieSession {
     }
 
     public static CookieSession newSession(String ip, String fromId) {
-        CookieSession rv;
-        synchronized (gHash) {
-            rv = gHash.get(fromId);
-            if (rv != null) {
-                System.err.println("Trying to create extant session " + rv);
-                if (!rv.ip.equals(ip)) {
-                    if (SurveyMain.isUnofficial())
-                        System.out.println("IP changed from " + rv.ip + " to " + ip + " - " + rv);
-                    rv.ip = ip;
-                    rv.touch();
-                }
-            } else {
-                rv = new CookieSession(ip, fromId);
+        CookieSession rv = sessions.get(fromId);
+        if (rv == null) {
+            final CookieSession created = new CookieSession(ip, fromId);
+            rv = register(created);
+            if (rv == null) {
+                return created;
             }
         }
+        System.err.println("Trying to create extant session " + rv);
+        if (!rv.ip.equals(ip)) {
+            if (SurveyMain.isUnofficial())
+                System.out.println("IP changed from " + rv.ip + " to " + ip + " - " + rv);
+            rv.ip = ip;
+            rv.touch();
+        }
         return rv;
     }
 
@@ -354,12 +359,8 @@ public class CookieSession {
 
     /** Delete a session. */
     public void remove() {
-        synchronized (gHash) {
-            if (user != null) {
-                uHash.remove(user.email);
-            }
-            gHash.remove(id);
-        }
+        final UserRegistry.User u = user;
+        sessions.remove(id, this, u == null ? null : u.email);
         if (DEBUG_INOUT) System.out.println("S: Removing session: " + id + " - " + user);
     }
 
@@ -393,20 +394,58 @@ public class CookieSession {
         return (System.currentTimeMillis() - lastActionMillisSinceEpoch);
     }
 
+    /**
+     * When this session should next be checked for expiry: not after the earliest time it could
+     * expire if nothing else happens, and not after now if it has expired already. See
+     * checkForExpiredSessions() for the rules.
+     */
+    private long getDueMillis() {
+        long due = Long.MAX_VALUE;
+        if (KICK_IF_ABSENT) {
+            // kicked once the time since the last call is more than the timeout
+            due = lastBrowserCallMillisSinceEpoch + getTimeoutSecs() * 1000L + 1;
+        }
+        if (KICK_IF_INACTIVE) {
+            final long nowMillisSinceEpoch = System.currentTimeMillis();
+            final long kickMillis = nowMillisSinceEpoch + millisTillKick();
+            if (kickMillis <= nowMillisSinceEpoch) {
+                return nowMillisSinceEpoch;
+            }
+            /*
+             * millisTillKick() doubles the timeout while there are not too many users or
+             * observers, but that can change at any time. So check again at the undoubled
+             * timeout, and then every CHECK_SECS until the doubled one, as a full scan would.
+             */
+            final long undoubledMillis = lastActionMillisSinceEpoch + getTimeoutSecs() * 1000L;
+            final long checkMillis =
+                    Math.max(undoubledMillis, nowMillisSinceEpoch + CHECK_SECS * 1000L);
+            due = Math.min(due, Math.min(kickMillis, checkMillis));
+        }
+        return due;
+    }
+
     // secure stuff
-    static SecureRandom myRand = null;
 
-    /* Secure random number generator */
+    /* Secure random number generator, created on first use. SecureRandom is thread-safe. */
+    private static final class RandomHolder {
+        static final SecureRandom myRand = newRandom();
 
-    /** Generate a new ID. */
-    public static synchronized String newId() {
-        try {
-            if (myRand == null) {
-                myRand = SecureRandom.getInstance("SHA1PRNG");
+        private static SecureRandom newRandom() {
+            try {
+                return SecureRandom.getInstance("SHA1PRNG");
+            } catch (NoSuchAlgorithmException nsa) {
+                SurveyMain.busted("SecureRandom error", nsa);
+                return new SecureRandom();
             }
+        }
+    }
 
+    /** Generate a new ID. */
+    public static String newId() {
+        try {
             MessageDigest aDigest = MessageDigest.getInstance("SHA-1");
-            byte[] outBytes = aDigest.digest(Integer.toString(myRand.nextInt()).getBytes());
+            byte[] outBytes =
+                    aDigest.digest(Integer.toString(RandomHolder.myRand.nextInt()).getBytes());
             return cheapEncode(outBytes);
         } catch (NoSuchAlgorithmException nsa) {
             SurveyMain.busted("MessageDigest error", nsa);
@@ -656,13 +695,16 @@ public class CookieSession {
     // parameters
 
     /** last time reaped. Starts at 0, so reap immediately */
-    static long lastReapMillisSinceEpoch = 0;
+    static volatile long lastReapMillisSinceEpoch = 0;
+
+    /** Reap at most every CHECK_SECS, unless the count grows or there are too many observers. */
+    private static final long CHECK_SECS = 5;
 
-    /** Number of observers (users who are not logged in) */
-    private static int nObservers = 0;
+    /** Number of observers (sessions other than the current session of each user) */
+    private static volatile int nObservers = 0;
 
     /** Number of users */
-    private static int nUsers = 0;
+    private static volatile int nUsers = 0;
 
     public static int getObserverCount() {
         getUserCount();
@@ -675,82 +717,86 @@ public class CookieSession {
      * @return user count
      */
     public static int getUserCount() {
-        synchronized (uHash) {
-            return uHash.size();
-        }
+        return sessions.getUserCount();
     }
 
-    private static int lastCount = -1;
+    /** Number of sessions, including observers. */
+    public static int getSessionCount() {
+        return sessions.size();
+    }
 
-    public static int checkForExpiredSessions() {
+    /** Mean time taken by retrieveWithoutTouch(), including any reaping, in nanoseconds. */
+    public static long getMeanLookupNanos() {
+        return sessions.getMeanLookupNanos();
+    }
 
-        synchronized (gHash) {
-            int allCount = gHash.size(); // count of ALL users
-            long nowMillisSinceEpoch = System.currentTimeMillis();
-            long elapsedMillis = (nowMillisSinceEpoch - lastReapMillisSinceEpoch);
+    /** Number of sessions removed because they had expired. */
+    public static long getExpiredCount() {
+        return sessions.getExpiredCount();
+    }
 
-            final boolean tooManyUsers = tooManyUsers();
-            final boolean tooManyObservers = tooManyObservers();
+    private static volatile int lastCount = -1;
 
-            final long CHECK_SECS = 5; // check every 5 seconds or if count grows
-            if (elapsedMillis < (1000 * CHECK_SECS) && allCount <= lastCount && !tooManyObservers) {
-                return nUsers;
-            }
+    /**
+     * Remove the sessions which have expired.
+     *
+     * <p>Observers (sessions without a user) are kicked when they are absent or inactive for
+     * CLDR_OBSERVER_TIMEOUT_SECS, and all of them are kicked if there are too many users. Users are
+     * kicked when they are absent or inactive for CLDR_USER_TIMEOUT_SECS. (Inactivity timeouts are
+     * doubled when there are not too many observers or users; see millisTillKick(). Whether there
+     * are may change before a session expires, so getDueMillis() checks at the undoubled timeout.)
+     *
+     * <p>This doesn't block: only the sessions due to expire are looked at, and if another thread
+     * is already reaping, this returns without waiting for it.
+     *
+     * @return user count
+     */
+    public static int checkForExpiredSessions() {
+        int allCount = sessions.size(); // count of ALL users
+        long nowMillisSinceEpoch = System.currentTimeMillis();
+        long elapsedMillis = (nowMillisSinceEpoch - lastReapMillisSinceEpoch);
 
-            lastCount = allCount;
+        final boolean tooManyUsers = tooManyUsers();
+        final boolean tooManyObservers = tooManyObservers();
 
-            int observers = 0;
-            int users = 0;
-            lastReapMillisSinceEpoch = nowMillisSinceEpoch;
+        if (elapsedMillis < (1000 * CHECK_SECS) && allCount <= lastCount && !tooManyObservers) {
+            return nUsers;
+        }
 
-            // remove any sessions we need to get rid of, count the rest.
-            List<CookieSession> toRemove = new LinkedList<>();
-            for (CookieSession cs : gHash.values()) {
+        lastCount = allCount;
+        lastReapMillisSinceEpoch = nowMillisSinceEpoch;
+
+        // remove any sessions we need to get rid of
+        List<CookieSession> toRemove =
+                new ArrayList<>(
+                        sessions.expire(nowMillisSinceEpoch, CookieSession::getDueMillis));
+        if (tooManyUsers) {
+            for (CookieSession cs : sessions.sessions()) {
                 if (cs.user == null) { // observer
-                    if (tooManyUsers
-                            || (KICK_IF_ABSENT
-                                    && cs.millisSinceLastBrowserCall()
-                                            > Params.CLDR_OBSERVER_TIMEOUT_SECS.value() * 1000L)
-                            || (KICK_IF_INACTIVE && cs.millisTillKick() <= 0)) {
-                        toRemove.add(cs);
-                    } else {
-                        observers++;
-                    }
-                } else {
-                    if ((KICK_IF_ABSENT
-                                    && cs.millisSinceLastBrowserCall()
-                                            > Params.CLDR_USER_TIMEOUT_SECS.value() * 1000)
-                            || (KICK_IF_INACTIVE && cs.millisTillKick() <= 0)) {
-                        toRemove.add(cs);
-                    } else {
-                        users++;
-                    }
+                    toRemove.add(cs);
                 }
             }
-            for (CookieSession cs : toRemove) {
-                if (SurveyMain.isUnofficial()) {
-                    System.err.println("Removed stale session " + cs);
-                }
-                cs.remove();
+        }
+        for (CookieSession cs : toRemove) {
+            if (SurveyMain.isUnofficial()) {
+                System.err.println("Removed stale session " + cs);
             }
-            nObservers = observers;
-            return (nUsers = users);
+            cs.remove();
         }
+        final int users = sessions.getUserCount();
+        nObservers = Math.max(0, sessions.size() - users);
+        return (nUsers = users);
     }
 
     public static void shutdownDB() {
-        synchronized (gHash) {
-            CookieSession[] sessions = gHash.values().toArray(new CookieSession[0]);
-            for (CookieSession cs : sessions) {
-                try {
-                    cs.remove();
-                } catch (Throwable t) {
-                    //
-                }
+        for (CookieSession cs : sessions.sessions()) {
+            try {
+                cs.remove();
+            } catch (Throwable t) {
+                //
             }
-            gHash.clear();
-            uHash.clear();
         }
+        sessions.clear();
     }
 
     public UserSettings settings() {
@@ -771,6 +817,7 @@ public class CookieSession {
     private static synchronized CookieSession getSpecialObserver() {
         if (specialObserver == null) {
             specialObserver = new CookieSession("[throttled]", null);
+            register(specialObserver);
         }
         return specialObserver;
     }
@@ -816,19 +863,17 @@ public class CookieSession {
 
         int noSes = 0;
         long nowMillisSinceEpoch = System.currentTimeMillis();
-        synchronized (gHash) {
-            for (CookieSession cs : gHash.values()) {
-                if (!userIP.equals(cs.ip)) {
-                    continue;
-                }
-                if (cs.user != null) {
-                    return null; // has a user, OK
-                }
-                final long N_MINUTES = 5; // five minutes (why?)
-                if ((nowMillisSinceEpoch - cs.lastBrowserCallMillisSinceEpoch)
-                        < (N_MINUTES * 60 * 1000)) {
-                    noSes++;
-                }
+        for (CookieSession cs : sessions.sessions()) {
+            if (!userIP.equals(cs.ip)) {
+                continue;
+            }
+            if (cs.user != null) {
+                return null; // has a user, OK
+            }
+            final long N_MINUTES = 5; // five minutes (why?)
+            if ((nowMillisSinceEpoch - cs.lastBrowserCallMillisSinceEpoch)
+                    < (N_MINUTES * 60 * 1000)) {
+                noSes++;
             }
         }
         if ((noSes > 10)
@@ -473,9 +473,54 @@ public class DBUtils {
         }
     }
 
+    /**
+     * Execute a query, recording its time in SurveyMetrics
+     *
+     * @param ps the statement
+     * @return the ResultSet, as from ps.executeQuery()
+     */
+    public static ResultSet executeQuery(PreparedStatement ps) throws SQLException {
+        final long start = System.nanoTime();
+        try {
+            return ps.executeQuery();
+        } finally {
+            SurveyMetrics.timeDbUtilsStatement(start);
+        }
+    }
+
+    /**
+     * Execute an update, recording its time in SurveyMetrics
+     *
+     * @param ps the statement
+     * @return the row count, as from ps.executeUpdate()
+     */
+    public static int executeUpdate(PreparedStatement ps) throws SQLException {
+        final long start = System.nanoTime();
+        try {
+            return ps.executeUpdate();
+        } finally {
+            SurveyMetrics.timeDbUtilsStatement(start);
+        }
+    }
+
+    /**
+     * Execute a batch, recording its time in SurveyMetrics
+     *
+     * @param ps the statement
+     * @return the update counts, as from ps.executeBatch()
+     */
+    public static int[] executeBatch(PreparedStatement ps) throws SQLException {
+        final long start = System.nanoTime();
+        try {
+            return ps.executeBatch();
+        } finally {
+            SurveyMetrics.timeDbUtilsStatement(start);
+        }
+    }
+
     static int sqlCount(PreparedStatement ps) throws SQLException {
         int rv = -1;
-        ResultSet rs = ps.executeQuery();
+        ResultSet rs = executeQuery(ps);
         if (rs.next()) {
             rv = rs.getInt(1);
         }
@@ -486,13 +531,9 @@ public class DBUtils {
     static int sqlCount(WebContext ctx, Connection conn, String sql) {
         int rv = -1;
         try {
-            Statement s = conn.createStatement();
-            ResultSet rs = s.executeQuery(sql);
-            if (rs.next()) {
-                rv = rs.getInt(1);
-            }
-            rs.close();
-            s.close();
+            PreparedStatement ps = prepareForwardReadOnly(conn, sql);
+            rv = sqlCount(ps);
+            ps.close();
         } catch (SQLException se) {
             String complaint = " Couldn't query count - " + unchainSqlException(se) + " - " + sql;
             logger.severe(complaint);
@@ -1085,7 +1126,7 @@ public class DBUtils {
         ResultSet rs = null;
         try {
             ps = prepareStatementWithArgs(conn, str, args);
-            rs = ps.executeQuery();
+            rs = executeQuery(ps);
             return resultToArrayArrayObj(rs);
         } finally {
             DBUtils.close(rs, ps);
@@ -1100,7 +1141,7 @@ public class DBUtils {
         ResultSet rs = null;
         try {
             ps = prepareStatementWithArgs(conn, sql, args);
-            rs = ps.executeQuery();
+            rs = executeQuery(ps);
             return resultToArrayAssoc(rs);
         } finally {
             DBUtils.close(rs, ps);
@@ -1167,7 +1208,7 @@ public class DBUtils {
         ResultSet rs = null;
         try {
             conn = DBUtils.getInstance().getAConnection();
-            rs = DBUtils.prepareForwardReadOnly(conn, query).executeQuery();
+            rs = executeQuery(DBUtils.prepareForwardReadOnly(conn, query));
             writeCsv(rs, out);
         } catch (java.sql.SQLException se) {
             SurveyLog.logException(se, "running csv: " + se);
@@ -1344,7 +1385,7 @@ public class DBUtils {
             if (limit != null && !DBUtils.db_Mysql) {
                 s.setMaxRows(limit);
             }
-            rs = s.executeQuery();
+            rs = executeQuery(s);
             return getJSON(rs);
         } finally {
             close(rs, s, conn);
@@ -1446,7 +1487,7 @@ public class DBUtils {
         try (Connection conn = getInstance().getAConnection();
                 PreparedStatement s = DBUtils.prepareForwardReadOnly(conn, string)) {
             setArgs(s, args);
-            try (ResultSet rs = s.executeQuery()) {
+            try (ResultSet rs = executeQuery(s)) {
                 return resultToArrayAssoc(rs);
             }
         }
@@ -1466,7 +1507,7 @@ public class DBUtils {
         try (Connection conn = getInstance().getAConnection();
                 PreparedStatement s = DBUtils.prepareForwardReadOnly(conn, string)) {
             setArgs(s, args);
-            try (ResultSet rs = s.executeQuery()) {
+            try (ResultSet rs = executeQuery(s)) {
                 return resultToArrayArrayObj(rs);
             }
         }
@@ -1254,6 +1254,7 @@ public class DataPage {
             CLDRLocale locale,
             String prefix,
             XPathMatcher matcher) {
+        final long start = System.nanoTime();
 
         SurveyMain sm =
                 CookieSession
@@ -1298,6 +1299,7 @@ public class DataPage {
                 page.ensureComplete(checkCldr);
             }
         }
+        SurveyMetrics.timeDataPageMake(start);
         return page;
     }
 
@@ -15,11 +15,12 @@ public class MutableStamp extends Stamp {
     }
 
     /**
-     * Update the stamp to the next stamp
+     * Update the stamp to the next stamp. Safe to call from several threads: the stamp never goes
+     * back, even if a thread that got an earlier stamp time sets it last.
      *
      * @return
      */
     public long next() {
-        return (stamp = Stamp.nextStampTime());
+        return stamp.accumulateAndGet(Stamp.nextStampTime(), Math::max);
     }
 }
@@ -3,6 +3,7 @@ package org.unicode.cldr.web;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
 import com.ibm.icu.dev.util.ElapsedTimer;
 import com.ibm.icu.text.NumberFormat;
 import com.ibm.icu.util.VersionInfo;
@@ -18,7 +19,14 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Logger;
 import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.DisplayAndInputProcessor;
@@ -128,6 +136,64 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
 
     private static final String VOTE_TYPE = "vote_type";
 
+    /**
+     * Get the SQL to copy a user's vote (if any) into VOTE_VALUE_ALT, before it is replaced.
+     * Arguments: locale, xpath, submitter
+     */
+    static String getSaveOldVoteSql() {
+        if (!DBUtils.db_Mysql) {
+            throw new RuntimeException("Unexpected db type, expected " + DBUtils.db_Mysql);
+        }
+        return "insert IGNORE into "
+                + DBUtils.Table.VOTE_VALUE_ALT
+                + " select "
+                + DBUtils.Table.VOTE_VALUE
+                + ".locale,"
+                + DBUtils.Table.VOTE_VALUE
+                + ".xpath,"
+                + DBUtils.Table.VOTE_VALUE
+                + ".value "
+                + " from "
+                + DBUtils.Table.VOTE_VALUE
+                + " where locale=? and xpath=? and submitter=? and value is not null ";
+    }
+
+    /**
+     * Get the SQL to insert or update a vote. Arguments, twice: locale, xpath, submitter, value,
+     * [last_mod, if withTimestamp,] override, vote type
+     *
+     * @param withTimestamp if true, last_mod is an argument; otherwise it is the current time
+     */
+    static String getSaveVoteSql(boolean withTimestamp) {
+        final String lastMod = withTimestamp ? "?" : "CURRENT_TIMESTAMP";
+        return "INSERT INTO "
+                + DBUtils.Table.VOTE_VALUE
+                + " (locale,xpath,submitter,value,last_mod,"
+                + VOTE_OVERRIDE
+                + ","
+                + VOTE_TYPE
+                + ") values (?,?,?,?,"
+                + lastMod
+                + ",?,?) "
+                + "ON DUPLICATE KEY UPDATE locale=?,xpath=?,submitter=?,value=?,last_mod="
+                + lastMod
+                + ","
+                + VOTE_OVERRIDE
+                + "=?,"
+                + VOTE_TYPE
+                + "=?";
+    }
+
+    /** Number of locks per locale for votes, see PerLocaleData.xpathLocks */
+    private static final int VOTE_LOCK_STRIPES = 64;
+
+    /**
+     * Number of rows to fetch at a time when loading a locale's permanent votes, so that the
+     * driver reads them in batches instead of all at once. MySQL Connector/J only honors this with
+     * useCursorFetch=true in the connection URL; otherwise it reads all the rows anyway.
+     */
+    private static final int VOTE_FETCH_SIZE = 1000;
+
     private class DataBackedSource extends DelegateXMLSource {
         PerLocaleData ballotBox;
 
@@ -219,9 +285,15 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 value = resolver.getWinningValue();
                 fullPath = getFullPathWithResolver(path, resolver);
             }
-            delegate.removeValueAtDPath(path);
-            if (value != null) {
-                delegate.putValueAtPath(fullPath, value);
+            synchronized (this) { // the delegate is not thread-safe; votes on other paths may race
+                if (value == null) {
+                    delegate.removeValueAtDPath(path);
+                } else {
+                    // Replace the value in place: readers take no lock, so the path must never
+                    // be missing in between.
+                    delegate.putFullPathAtDPath(path, fullPath);
+                    delegate.putValueAtDPath(path, value);
+                }
             }
             return resolver;
         }
@@ -428,9 +500,10 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 }
             }
 
-            Date lastModDate = null;
-            Set<String> otherValues = null;
-            Map<User, PerUserData> userToData = null;
+            // Changed only with the lock for the xpath held (see xpathLocks); read without it.
+            volatile Date lastModDate = null;
+            volatile Set<String> otherValues = null;
+            volatile Map<User, PerUserData> userToData = null;
 
             /**
              * Is there any user data (votes)?
@@ -581,7 +654,23 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             }
         }
 
-        private final Map<String, PerXPathData> xpathToData = new HashMap<>();
+        private final Map<String, PerXPathData> xpathToData = new ConcurrentHashMap<>();
+
+        /**
+         * Locks for recording and resolving votes, striped by xpath, so that votes on different
+         * paths in the same locale don't wait for each other's database writes. The monitor of
+         * this PerLocaleData is only held for structural changes, such as to pathsForFile.
+         */
+        private final Striped<Lock> xpathLocks = Striped.lock(VOTE_LOCK_STRIPES);
+
+        /**
+         * Votes hold the read lock, and loading all the votes (for the source or for VXML) holds
+         * the write lock, so that a load never sees a vote that is only partly applied.
+         *
+         * <p>It is taken before the monitor of this PerLocaleData, and only once xmlsource has been
+         * made, so that makeSource can load the votes with the monitor held.
+         */
+        private final ReadWriteLock localeLock = new ReentrantReadWriteLock();
 
         private XMLSource resolvedXmlsource = null;
 
@@ -647,6 +736,18 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
          */
         private void loadVoteValues(
                 DataBackedSource targetXmlSource, VoteLoadingContext voteLoadingContext) {
+            final Lock lock = localeLock.writeLock();
+            lock.lock();
+            try {
+                loadVoteValuesLocked(targetXmlSource, voteLoadingContext);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** The body of loadVoteValues, called with the write lock of localeLock held. */
+        private void loadVoteValuesLocked(
+                DataBackedSource targetXmlSource, VoteLoadingContext voteLoadingContext) {
             VoteResolver<String> resolver = null; // save recalculating this.
             ElapsedTimer et =
                     (SurveyLog.DEBUG) ? new ElapsedTimer("Loading PLD for " + locale) : null;
@@ -661,10 +762,15 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                  * Select several columns (xp, submitter, value, override, last_mod, vote_type),
                  * from all rows with the given locale in the votes table.
                  */
+                setupDB();
+                final VoteWriteBehind writeBehind = voteWriteBehind;
+                if (writeBehind != null) {
+                    writeBehind.awaitSaved(); // so that the database has every vote
+                }
                 conn = DBUtils.getInstance().getAConnection();
                 ps = openQueryByLocaleRW(conn);
                 ps.setString(1, locale.getBaseName());
-                rs = ps.executeQuery();
+                rs = DBUtils.executeQuery(ps);
 
                 while (rs.next()) {
                     int xp = rs.getInt(1);
@@ -731,7 +837,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 DBUtils.close(rs, ps);
                 ps = openPermVoteQuery(conn);
                 ps.setString(1, locale.getBaseName());
-                rs = ps.executeQuery();
+                rs = DBUtils.executeQuery(ps);
                 while (rs.next()) {
                     int xp = rs.getInt(1);
                     String xpath = sm.xpt.getById(xp);
@@ -869,8 +975,6 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 r.clear(); // reuse
             }
 
-            r.enableTranscript();
-
             // Set established locale
             r.setLocale(locale, getPathHeader(path));
 
@@ -915,9 +1019,15 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             return r;
         }
 
+        /**
+         * Get a new resolver for the path, with a transcript of the resolution. Resolvers that are
+         * reused for loading many paths don't keep a transcript, since nobody reads it.
+         */
         @Override
         public VoteResolver<String> getResolver(String path) {
-            return getResolver(peekXpathData(path), path, null);
+            VoteResolver<String> r = new VoteResolver<>(sm.reg.getVoterInfoList());
+            r.enableTranscript();
+            return getResolver(peekXpathData(path), path, r);
         }
 
         @Override
@@ -970,12 +1080,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
          *     <p>Called by internalSetVoteForValue only.
          */
         private PerXPathData getXPathData(String xpath) {
-            PerXPathData xpd = peekXpathData(xpath);
-            if (xpd == null) {
-                xpd = new PerXPathData();
-                xpathToData.put(xpath, xpd);
-            }
-            return xpd;
+            return xpathToData.computeIfAbsent(xpath, k -> new PerXPathData());
         }
 
         @Override
@@ -1001,8 +1106,10 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         private synchronized XMLSource makeSource(boolean resolved) {
             if (resolved) {
                 if (resolvedXmlsource == null) {
+                    final long start = System.nanoTime();
                     resolvedXmlsource =
                             makeResolvingSource(locale.getBaseName(), getMinimalDraftStatus());
+                    SurveyMetrics.timeResolvingSourceMake(start);
                 }
                 return resolvedXmlsource;
             } else {
@@ -1011,7 +1118,9 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 } else {
                     if (xmlsource == null) {
                         xmlsource = new DataBackedSource(this);
+                        final long start = System.nanoTime();
                         loadVoteValues(xmlsource, VoteLoadingContext.ORDINARY_LOAD_VOTES);
+                        SurveyMetrics.timeVoteLoad(start);
                         stamp.next();
                         xmlsource.addListener(gTestCache);
                     }
@@ -1028,7 +1137,8 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
          *
          * @return the DataBackedSource (NOT the same as PerLocaleData.xmlsource)
          */
-        private synchronized XMLSource makeVettedSource() {
+        private XMLSource makeVettedSource() {
+            makeSource(false); // before loadVoteValues takes localeLock; see there
             DataBackedSource vxmlSource = new DataBackedSource(this);
             if (!readonly) {
                 loadVoteValues(vxmlSource, VoteLoadingContext.VXML_GENERATION);
@@ -1063,7 +1173,31 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         }
 
         @Override
-        public synchronized void voteForValueWithType(
+        public void voteForValueWithType(
+                User user,
+                String distinguishingXpath,
+                String value,
+                Integer withVote,
+                VoteType voteType)
+                throws BallotBox.InvalidXPathException, BallotBox.VoteNotAcceptedException {
+            makeSource(false); // before taking localeLock, see there
+            final Lock localeReadLock = localeLock.readLock();
+            final Lock lock = xpathLocks.get(distinguishingXpath);
+            localeReadLock.lock();
+            lock.lock();
+            try {
+                voteForValueLocked(user, distinguishingXpath, value, withVote, voteType);
+            } finally {
+                lock.unlock();
+                localeReadLock.unlock();
+            }
+        }
+
+        /**
+         * The body of voteForValueWithType, called with the read lock of localeLock and the lock
+         * for the xpath held.
+         */
+        private void voteForValueLocked(
                 User user,
                 String distinguishingXpath,
                 String value,
@@ -1146,7 +1280,12 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
 
             String newVal = xmlsource.getValueAtDPath(distinguishingXpath);
             if (newVal != null && !newVal.equals(oldVal)) {
-                xmlsource.notifyListeners(distinguishingXpath);
+                synchronized (xmlsource) {
+                    xmlsource.notifyListeners(distinguishingXpath);
+                }
+            } else {
+                // the vote status may have changed even though the winning value did not
+                VettingViewer.pathChanged(locale.getBaseName(), distinguishingXpath);
             }
         }
 
@@ -1169,9 +1308,11 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                         && UserRegistry.userIsTC(user)
                         && XPathTable.getAlt(xpath) != null) {
                     synchronized (this) {
-                        Set<String> set = new HashSet<>(pathsForFile);
-                        set.add(xpath);
-                        pathsForFile = Collections.unmodifiableSet(set);
+                        if (!pathsForFile.contains(xpath)) {
+                            Set<String> set = new HashSet<>(pathsForFile);
+                            set.add(xpath);
+                            pathsForFile = Collections.unmodifiableSet(set);
+                        }
                     }
                 } else {
                     throw new BallotBox.InvalidXPathException(xpath);
@@ -1198,7 +1339,10 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             if (value != null
                     && !value.isEmpty()
                     && !CldrUtility.INHERITANCE_MARKER.equals(value)) {
-                value = getProcessor().processInput(xpath, value, null);
+                final DisplayAndInputProcessor processor = getProcessor();
+                synchronized (processor) { // not thread-safe
+                    value = processor.processInput(xpath, value, null);
+                }
                 if (value.isEmpty()) {
                     throw new VoteNotAcceptedException(
                             ErrorCode.E_BAD_VALUE, "Normalization results in empty string.");
@@ -1207,7 +1351,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             return value;
         }
 
-        private DisplayAndInputProcessor getProcessor() {
+        private synchronized DisplayAndInputProcessor getProcessor() {
             if (daip == null) {
                 daip = new DisplayAndInputProcessor(locale, true);
                 if (VoteResolver.DROP_HARD_INHERITANCE) {
@@ -1235,6 +1379,17 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 VoteType voteType) {
             boolean didClearFlag = false;
             makeSource(false);
+            final VoteWriteBehind writeBehind = voteWriteBehind;
+            if (writeBehind != null) {
+                try {
+                    writeBehind.submit(locale, xpathId, user, value, withVote, voteType);
+                } catch (IOException e) {
+                    SurveyLog.logException(logger, e, "Exception in saveVoteToDb");
+                    SurveyMain.busted("Could not journal vote for value in locale " + locale, e);
+                    throw new InternalError("Could not journal vote in locale " + locale, e);
+                }
+                return; // the flag and forum are updated when the vote is saved
+            }
             ElapsedTimer et =
                     !SurveyLog.DEBUG
                             ? null
@@ -1255,53 +1410,14 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             try {
                 conn = DBUtils.getInstance().getDBConnection();
 
-                String add0 = "", add1 = "", add2 = "";
-
                 // #1 - save the "VOTE_VALUE_ALT"  ( possible proposal) value.
-                if (DBUtils.db_Mysql) {
-                    add0 = "IGNORE";
-                } else {
-                    throw new RuntimeException("Unexpected db type, expected " + DBUtils.db_Mysql);
-                }
-                String sql =
-                        "insert "
-                                + add0
-                                + " into "
-                                + DBUtils.Table.VOTE_VALUE_ALT
-                                + " "
-                                + add1
-                                + " select "
-                                + DBUtils.Table.VOTE_VALUE
-                                + ".locale,"
-                                + DBUtils.Table.VOTE_VALUE
-                                + ".xpath,"
-                                + DBUtils.Table.VOTE_VALUE
-                                + ".value "
-                                + " from "
-                                + DBUtils.Table.VOTE_VALUE
-                                + " where locale=? and xpath=? and submitter=? and value is not null "
-                                + add2;
                 saveOld =
                         DBUtils.prepareStatementWithArgs(
-                                conn, sql, locale.getBaseName(), xpathId, user.id);
-                saveOld.executeUpdate();
+                                conn, getSaveOldVoteSql(), locale.getBaseName(), xpathId, user.id);
+                DBUtils.executeUpdate(saveOld);
 
                 // #2 - save the actual vote.
-                ps =
-                        DBUtils.prepareForwardReadOnly(
-                                conn,
-                                "INSERT INTO "
-                                        + DBUtils.Table.VOTE_VALUE
-                                        + " (locale,xpath,submitter,value,last_mod,"
-                                        + VOTE_OVERRIDE
-                                        + ","
-                                        + VOTE_TYPE
-                                        + ") values (?,?,?,?,CURRENT_TIMESTAMP,?,?) "
-                                        + "ON DUPLICATE KEY UPDATE locale=?,xpath=?,submitter=?,value=?,last_mod=CURRENT_TIMESTAMP,"
-                                        + VOTE_OVERRIDE
-                                        + "=?,"
-                                        + VOTE_TYPE
-                                        + "=?");
+                ps = DBUtils.prepareForwardReadOnly(conn, getSaveVoteSql(false));
                 int colNum = 1;
                 for (int repeat = 1; repeat <= 2; repeat++) {
                     ps.setString(colNum++, locale.getBaseName());
@@ -1311,7 +1427,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                     DBUtils.setInteger(ps, colNum++, withVote);
                     DBUtils.setInteger(ps, colNum++, voteType.id());
                 }
-                ps.executeUpdate();
+                DBUtils.executeUpdate(ps);
 
                 if (wasFlagged && UserRegistry.userIsTC(user)) {
                     clearFlag(conn, locale, xpathId);
@@ -1389,8 +1505,14 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 voteType = VoteType.UNKNOWN;
             }
             makeSureInPathsForFile(distinguishingXpath, user, value);
-            getXPathData(distinguishingXpath)
-                    .setVoteForValue(user, value, voteOverride, when, voteType);
+            final Lock lock = xpathLocks.get(distinguishingXpath); // already held by votes
+            lock.lock();
+            try {
+                getXPathData(distinguishingXpath)
+                        .setVoteForValue(user, value, voteOverride, when, voteType);
+            } finally {
+                lock.unlock();
+            }
             stamp.next();
         }
 
@@ -1426,7 +1548,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             return pathsForFile;
         }
 
-        private Set<String> pathsForFile;
+        private volatile Set<String> pathsForFile;
 
         BitSet votesSometimeThisRelease = null;
 
@@ -1619,6 +1741,9 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
 
     boolean dbIsSetup = false;
 
+    /** Set once setupDB has finished, so that later calls don't need the monitor */
+    private volatile boolean dbSetupDone = false;
+
     /** Test cache against (this) */
     TestCache gTestCache = new TestCache();
     /** Test cache against disk. For rejecting items. */
@@ -1642,6 +1767,10 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
 
             progress.update("setup test cache");
             gTestCache.setFactory(this, "(?!.*(CheckCoverage).*).*");
+            // Opt-in, since every new bundle then checks all its paths in the background
+            if (CLDRConfig.getInstance().getProperty("CLDR_TESTCACHE_WARMUP", false)) {
+                gTestCache.setWarmUpExecutor(SurveyThreadManager.getExecutorService());
+            }
             progress.update("setup disk test cache");
             gDiskTestCache.setFactory(sm.getDiskFactory(), "(?!.*(CheckCoverage).*).*");
             progress.update("reload all users");
@@ -1713,13 +1842,54 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         return get(loc).getStamp();
     }
 
+    /**
+     * Locks for creating each locale's PerLocaleData, so that locales can be loaded in parallel,
+     * while each one is only loaded once. A lock is only kept while its locale is being loaded.
+     * (Striped locks could deadlock here, since loading a locale loads its parents.)
+     */
+    private final Map<CLDRLocale, Object> localeLoadLocks = new ConcurrentHashMap<>();
+
     /**
      * Fetch a locale from the per locale data, create if not there.
      *
+     * <p>Only the lookup holds the monitor of this factory. A new PerLocaleData is created holding
+     * a lock for its locale, and its files are loaded after it is published, holding only its own
+     * monitor, so loading one locale doesn't hold up others.
+     *
      * @param locale
      * @return
      */
-    private synchronized PerLocaleData get(CLDRLocale locale) {
+    private PerLocaleData get(CLDRLocale locale) {
+        PerLocaleData pld = peek(locale);
+        if (pld != null) {
+            return pld;
+        }
+        final Object loadLock = localeLoadLocks.computeIfAbsent(locale, k -> new Object());
+        try {
+            synchronized (loadLock) {
+                pld = peek(locale); // another thread may have created it meanwhile
+                if (pld != null) {
+                    return pld;
+                }
+                final long start = System.nanoTime();
+                pld = new PerLocaleData(locale);
+                SurveyMetrics.timeLocaleLoad(start);
+                synchronized (this) {
+                    rLocales.put(locale, pld);
+                    locales.put(locale, (new SoftReference<>(pld)));
+                }
+            }
+        } finally {
+            // Threads still waiting for it find the locale loaded; later ones find it with peek
+            localeLoadLocks.remove(locale, loadLock);
+        }
+        // update the locale display name cache.
+        OutputFileManager.updateLocaleDisplayName(pld.getFile(true), locale);
+        return pld;
+    }
+
+    /** Get a locale's PerLocaleData if it is in memory, or else null. */
+    private synchronized PerLocaleData peek(CLDRLocale locale) {
         PerLocaleData pld = rLocales.getIfPresent(locale);
         if (pld == null) {
             Reference<PerLocaleData> ref = locales.get(locale);
@@ -1729,21 +1899,106 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 if (pld == null) {
                     SurveyLog.debug("STFactory: " + locale + " was GC'ed." + SurveyMain.freeMem());
                     ref.clear();
+                } else {
+                    rLocales.put(locale, pld); // keep it in the lru
                 }
             }
-            if (pld == null) {
-                pld = new PerLocaleData(locale);
-                rLocales.put(locale, pld);
-                locales.put(locale, (new SoftReference<>(pld)));
-                // update the locale display name cache.
-                OutputFileManager.updateLocaleDisplayName(pld.getFile(true), locale);
-            } else {
-                rLocales.put(locale, pld); // keep it in the lru
-            }
         }
         return pld;
     }
 
+    /**
+     * Load and resolve the votes of the given locales in the background, a few locales at a time,
+     * so that the first user of a locale doesn't wait for its votes to load. Progress is shown as
+     * a Survey Tool progress task. Locales which are already loaded, or which a user loads
+     * meanwhile, are only loaded once.
+     *
+     * @param toLoad the locales to load, in the order in which to start loading them
+     * @param parallel the number of locales to load at the same time
+     * @return a future which completes when all the locales are loaded
+     */
+    public CompletableFuture<Void> warmUpVotes(Collection<CLDRLocale> toLoad, int parallel) {
+        final Queue<CLDRLocale> queue = new ConcurrentLinkedQueue<>(toLoad);
+        final AtomicInteger count = new AtomicInteger();
+        final CLDRProgressTask progress = sm.openProgress("Loading votes", toLoad.size());
+        final ExecutorService executor = SurveyThreadManager.getExecutorService();
+        final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.max(parallel, 1)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] =
+                    CompletableFuture.runAsync(
+                            () -> {
+                                for (CLDRLocale locale; (locale = queue.poll()) != null; ) {
+                                    if (SurveyMain.isBusted()) {
+                                        return;
+                                    }
+                                    warmUpVotes(locale);
+                                    final int n = count.incrementAndGet();
+                                    synchronized (progress) {
+                                        progress.update(n, locale.getBaseName());
+                                    }
+                                }
+                            },
+                            executor);
+        }
+        final long start = System.currentTimeMillis();
+        return CompletableFuture.allOf(workers)
+                .whenComplete(
+                        (v, t) -> {
+                            progress.close();
+                            logger.info(
+                                    "Loaded votes for "
+                                            + count.get()
+                                            + " locales in "
+                                            + ElapsedTimer.elapsedTime(
+                                                    start, System.currentTimeMillis()));
+                        });
+    }
+
+    private void warmUpVotes(CLDRLocale locale) {
+        try {
+            // Getting the PerLocaleData loads and resolves the votes of the locale and its parents
+            get(locale);
+        } catch (RuntimeException | InternalError e) {
+            SurveyLog.logException(logger, e, "Loading votes for " + locale);
+        }
+    }
+
+    /**
+     * Start loading the votes for the locales configured by CLDR_VOTE_WARMUP_LOCALES, in the
+     * background. The property is a list of locale ids separated by spaces or commas, or * for all
+     * writable locales, or empty for none (the default). CLDR_VOTE_WARMUP_PARALLEL is the number
+     * of locales to load at the same time, by default half the number of processors.
+     *
+     * @return a future which completes when all the locales are loaded
+     */
+    public CompletableFuture<Void> startVoteWarmUp() {
+        final CLDRConfig config = CLDRConfig.getInstance();
+        final String which = config.getProperty("CLDR_VOTE_WARMUP_LOCALES", "").trim();
+        final List<CLDRLocale> toLoad = new ArrayList<>();
+        if (which.equals("*")) {
+            for (CLDRLocale locale : SurveyMain.getLocales()) {
+                if (!isReadOnlyLocale(locale)) {
+                    toLoad.add(locale);
+                }
+            }
+        } else {
+            for (String id : which.split("[\\s,]+")) {
+                if (!id.isEmpty()) {
+                    toLoad.add(CLDRLocale.getInstance(id));
+                }
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final int parallel =
+                config.getProperty(
+                        "CLDR_VOTE_WARMUP_PARALLEL",
+                        Math.max(Runtime.getRuntime().availableProcessors() / 2, 1));
+        logger.info("Loading votes for " + toLoad.size() + " locales, " + parallel + " at a time");
+        return warmUpVotes(toLoad, parallel);
+    }
+
     private PerLocaleData get(String locale) {
         return get(CLDRLocale.getInstance(locale));
     }
@@ -1871,27 +2126,41 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
          * the result set for votes for invalid (e.g., obsolete) paths. The query
          * "must select all primary keys from that table".
          */
-        return DBUtils.prepareForwardUpdateable(
-                conn,
-                "SELECT xpath,submitter,value,locale,"
-                        + VOTE_OVERRIDE
-                        + ",last_mod, "
-                        + VOTE_TYPE
-                        + " FROM "
-                        + DBUtils.Table.VOTE_VALUE
-                        + " WHERE locale = ?");
+        PreparedStatement ps =
+                DBUtils.prepareForwardUpdateable(
+                        conn,
+                        "SELECT xpath,submitter,value,locale,"
+                                + VOTE_OVERRIDE
+                                + ",last_mod, "
+                                + VOTE_TYPE
+                                + " FROM "
+                                + DBUtils.Table.VOTE_VALUE
+                                + " WHERE locale = ?");
+        // No fetch size: MySQL reads all the rows of an updatable result set at once regardless.
+        return ps;
     }
 
     private PreparedStatement openPermVoteQuery(Connection conn) throws SQLException {
         setupDB();
-        return DBUtils.prepareForwardUpdateable(
-                conn,
-                "SELECT xpath,value,last_mod FROM "
-                        + DBUtils.Table.LOCKED_XPATHS
-                        + " WHERE locale = ?");
+        PreparedStatement ps =
+                DBUtils.prepareForwardReadOnly(
+                        conn,
+                        "SELECT xpath,value,last_mod FROM "
+                                + DBUtils.Table.LOCKED_XPATHS
+                                + " WHERE locale = ?");
+        ps.setFetchSize(VOTE_FETCH_SIZE);
+        return ps;
     }
 
-    private synchronized void setupDB() {
+    private void setupDB() {
+        if (dbSetupDone) return; // without locking, since this is called while loading locales
+        synchronized (this) {
+            setupDBInternal();
+            dbSetupDone = true;
+        }
+    }
+
+    private void setupDBInternal() {
         if (dbIsSetup) return;
         dbIsSetup = true; // don't thrash.
         String sql = "(none)"; // this points to
@@ -2107,8 +2376,29 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         } finally {
             DBUtils.close(s);
         }
+        if (VoteWriteBehind.ENABLED) {
+            VoteWriteBehind writeBehind =
+                    new VoteWriteBehind(
+                            this,
+                            new File(
+                                    CLDRConfig.getInstance()
+                                            .getProperty(
+                                                    "CLDR_VOTE_JOURNAL_DIR",
+                                                    SurveyMain.getSurveyHome() + "/votejournal")));
+            try {
+                writeBehind.start();
+            } catch (IOException e) {
+                SurveyLog.logException(logger, e, "Starting vote write-behind");
+                SurveyMain.busted("Could not open the vote journal", e);
+                throw new InternalError("Could not open the vote journal: " + e);
+            }
+            voteWriteBehind = writeBehind;
+        }
     }
 
+    /** If non-null, votes are saved to the database in the background, see saveVoteToDb */
+    private volatile VoteWriteBehind voteWriteBehind = null;
+
     /**
      * Flag the specified xpath for review.
      *
@@ -2166,7 +2456,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
      * @param xpath
      * @throws SQLException
      */
-    private void clearFlag(Connection conn, CLDRLocale locale, int xpath) throws SQLException {
+    void clearFlag(Connection conn, CLDRLocale locale, int xpath) throws SQLException {
         PreparedStatement ps = null;
         try {
             synchronized (STFactory.class) {
@@ -0,0 +1,290 @@
+package org.unicode.cldr.web;
+
+import com.ibm.icu.text.Normalizer2;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+import org.unicode.cldr.util.CldrUtility;
+import org.unicode.cldr.util.PathHeader;
+import org.unicode.cldr.util.SimpleXMLSource;
+import org.unicode.cldr.util.XMLSource;
+import org.unicode.cldr.util.XPathIdTable;
+
+/**
+ * An inverted index over the values of one locale, for {@link SearchManager}. Values are indexed by
+ * their case-folded tokens, and paths by their PathHeader codes, so a search looks up sorted token
+ * maps instead of scanning every path of the locale.
+ *
+ * <p>The index listens to its (unresolved) XMLSource, and updates the entries for a path when its
+ * value changes, for example after a vote. Searches may run concurrently with each other and with
+ * updates.
+ */
+final class SearchIndex implements XMLSource.Listener {
+    static final Logger logger = SurveyLog.forClass(SearchIndex.class);
+
+    private static final Normalizer2 NFKC_CF = Normalizer2.getNFKCCasefoldInstance();
+
+    /** One search result: the matching path, and what it matched. */
+    static final class Match {
+        final String xpath;
+        final String context;
+
+        Match(String xpath, String context) {
+            this.xpath = xpath;
+            this.context = context;
+        }
+    }
+
+    private final XMLSource source;
+    private final PathHeader.Factory pathHeaderFactory;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // All guarded by lock. Paths are XPathIdTable ids.
+    private final Map<Integer, String> idToValue = new HashMap<>();
+    private final Map<Integer, String> idToNormalizedValue = new HashMap<>();
+    private final TreeMap<String, Set<Integer>> tokenToIds = new TreeMap<>();
+    private final TreeMap<String, Set<Integer>> codeToIds = new TreeMap<>();
+
+    /**
+     * Index all the values in the source, and listen for changes to it.
+     *
+     * @param source the unresolved source of the locale
+     */
+    SearchIndex(XMLSource source, PathHeader.Factory pathHeaderFactory) {
+        this.source = source;
+        this.pathHeaderFactory = pathHeaderFactory;
+        final long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            // Listen first, so changes made while indexing wait for the lock and are not lost.
+            source.addListener(this);
+            for (Iterator<String> it = source.iterator(); it.hasNext(); ) {
+                final String xpath = it.next();
+                add(XPathIdTable.getId(xpath), xpath, source.getValueAtDPath(xpath));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.fine(
+                () ->
+                        String.format(
+                                "Indexed %d values, %d tokens for %s in %d ms",
+                                idToValue.size(),
+                                tokenToIds.size(),
+                                source.getLocaleID(),
+                                System.currentTimeMillis() - start));
+    }
+
+    /** The source that this index was built from. */
+    XMLSource getSource() {
+        return source;
+    }
+
+    @Override
+    public void valueChanged(String xpath, XMLSource changed) {
+        final int id = XPathIdTable.getId(xpath);
+        final String value = source.getValueAtDPath(xpath);
+        lock.writeLock().lock();
+        try {
+            remove(id, xpath);
+            add(id, xpath, value);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search the index. Returns, in order:
+     *
+     * <ul>
+     *   <li>the path itself, if the query is a path with a value in this locale;
+     *   <li>paths whose value contains every word of the query as the start of a word, ignoring
+     *       case and compatibility differences (so "mar" finds "Marzu");
+     *   <li>paths whose PathHeader code starts with the query, ignoring case.
+     * </ul>
+     *
+     * <p>If no value matches by words, values containing the query anywhere are returned instead,
+     * ignoring punctuation and spaces as for {@link
+     * org.unicode.cldr.util.CLDRFile#getPathsWithValue}. Within each group the paths are sorted.
+     */
+    List<Match> search(String query) {
+        final Map<String, Match> results = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            if (query.startsWith("//")) {
+                final int id = XPathIdTable.peekId(query);
+                if (id != XPathIdTable.NO_ID && idToValue.containsKey(id)) {
+                    results.put(query, new Match(query, idToValue.get(id)));
+                }
+            }
+
+            Set<Integer> valueIds = findByTokens(tokenize(query));
+            if (valueIds.isEmpty()) {
+                valueIds = findBySubstring(SimpleXMLSource.normalize(query));
+            }
+            for (String xpath : toSortedPaths(valueIds)) {
+                results.putIfAbsent(xpath, new Match(xpath, query));
+            }
+
+            final String code = NFKC_CF.normalize(query.trim());
+            if (!code.isEmpty()) {
+                for (Map.Entry<String, Set<Integer>> e : prefixMatches(codeToIds, code)) {
+                    for (String xpath : toSortedPaths(e.getValue())) {
+                        results.putIfAbsent(xpath, new Match(xpath, e.getKey()));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    /** The number of values in the index. */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return idToValue.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Integer> findByTokens(List<String> queryTokens) {
+        Set<Integer> result = null;
+        for (String queryToken : queryTokens) {
+            final Set<Integer> ids = new HashSet<>();
+            for (Map.Entry<String, Set<Integer>> e : prefixMatches(tokenToIds, queryToken)) {
+                ids.addAll(e.getValue());
+            }
+            if (result == null) {
+                result = ids;
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? new HashSet<>() : result;
+    }
+
+    private Set<Integer> findBySubstring(String normalizedQuery) {
+        final Set<Integer> result = new HashSet<>();
+        if (normalizedQuery.isEmpty()) {
+            return result;
+        }
+        for (Map.Entry<Integer, String> e : idToNormalizedValue.entrySet()) {
+            if (e.getValue().contains(normalizedQuery)) {
+                result.add(e.getKey());
+            }
+        }
+        return result;
+    }
+
+    private static Set<Map.Entry<String, Set<Integer>>> prefixMatches(
+            NavigableMap<String, Set<Integer>> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet();
+    }
+
+    private static Set<String> toSortedPaths(Set<Integer> ids) {
+        final Set<String> paths = new TreeSet<>();
+        for (int id : ids) {
+            paths.add(XPathIdTable.getPath(id));
+        }
+        return paths;
+    }
+
+    private void add(int id, String xpath, String value) {
+        if (value == null || value.equals(CldrUtility.INHERITANCE_MARKER)) {
+            return;
+        }
+        idToValue.put(id, value);
+        idToNormalizedValue.put(id, SimpleXMLSource.normalize(value));
+        for (String token : tokenize(value)) {
+            tokenToIds.computeIfAbsent(token, k -> new HashSet<>()).add(id);
+        }
+        final String code = getCode(xpath);
+        if (code != null) {
+            codeToIds.computeIfAbsent(code, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void remove(int id, String xpath) {
+        final String value = idToValue.remove(id);
+        if (value == null) {
+            return;
+        }
+        idToNormalizedValue.remove(id);
+        for (String token : tokenize(value)) {
+            removeId(tokenToIds, token, id);
+        }
+        final String code = getCode(xpath);
+        if (code != null) {
+            removeId(codeToIds, code, id);
+        }
+    }
+
+    private static void removeId(Map<String, Set<Integer>> map, String key, int id) {
+        final Set<Integer> ids = map.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    /** The case-folded PathHeader code of the path, or null if it has none. */
+    private String getCode(String xpath) {
+        try {
+            final PathHeader ph = pathHeaderFactory.fromPath(xpath);
+            return ph == null ? null : NFKC_CF.normalize(ph.getCode());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Split a value into case-folded words: runs of letters, marks and digits. Scripts without
+     * spaces form long words, which are still found by their start, or by the substring fallback.
+     */
+    static List<String> tokenize(String value) {
+        final String folded = NFKC_CF.normalize(value);
+        final List<String> result = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < folded.length(); ) {
+            final int cp = folded.codePointAt(i);
+            final boolean isWordChar = Character.isLetterOrDigit(cp) || isMark(cp);
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                result.add(folded.substring(start, i));
+                start = -1;
+            }
+            i += Character.charCount(cp);
+        }
+        if (start >= 0) {
+            result.add(folded.substring(start));
+        }
+        return result;
+    }
+
+    private static boolean isMark(int cp) {
+        final int type = Character.getType(cp);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK;
+    }
+}
@@ -2,18 +2,20 @@ package org.unicode.cldr.web;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
-import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRConfig;
 import org.unicode.cldr.util.Factory;
+import org.unicode.cldr.util.PathHeader;
+import org.unicode.cldr.util.XMLSource;
 
 public class SearchManager {
     static final Logger logger = SurveyLog.forClass(SearchManager.class);
@@ -96,8 +98,6 @@ public class SearchManager {
             isOngoing = false;
             lastUpdated = new Date();
             logger.fine(() -> token + ": complete");
-
-            // TODO: could potentially cache the results here.
         }
 
         @Override
@@ -134,25 +134,15 @@ public class SearchManager {
         }
 
         public void begin() {
-            // TODO: could look up cached results here.
-
             this.future = SurveyThreadManager.getExecutorService().submit(this);
         }
 
         @Override
         public Search call() throws Exception {
-            // first, simple search of exact values
-            CLDRFile file = factory.make(locale, false);
-            Set<String> xresult = new TreeSet<>();
-            file.getPathsWithValue(request.value, "", null, xresult);
-            for (final String xpath : xresult) {
-                // Skip if this isn’t found "here"
-                if (!file.isHere(xpath)) {
-                    continue;
-                }
+            for (final SearchIndex.Match match : getIndex(locale).search(request.value)) {
                 // Add incrementally. A user may get a partial result if they request before we are
                 // done.
-                response.addResult(new SearchResult(xpath, request.value, locale));
+                response.addResult(new SearchResult(match.xpath, match.context, locale));
             }
 
             // All done (for now!)
@@ -172,6 +162,47 @@ public class SearchManager {
     final Cache<Object, Object> searches =
             CacheBuilder.newBuilder().expireAfterWrite(10, TimeUnit.MINUTES).build();
 
+    /**
+     * Number of locales to keep search indexes for, set with -DCLDR_SEARCH_INDEX_LOCALES. The
+     * least recently searched locales are dropped first.
+     */
+    private static final int SEARCH_INDEX_LOCALES =
+            CLDRConfig.getInstance().getProperty("CLDR_SEARCH_INDEX_LOCALES", 50);
+
+    /** Index per locale, built on the first search in that locale */
+    private final Cache<String, SearchIndex> indexes =
+            CacheBuilder.newBuilder().maximumSize(SEARCH_INDEX_LOCALES).recordStats().build();
+
+    private PathHeader.Factory pathHeaderFactory = null;
+
+    private synchronized PathHeader.Factory getPathHeaderFactory() {
+        if (pathHeaderFactory == null) {
+            pathHeaderFactory = PathHeader.getFactory();
+        }
+        return pathHeaderFactory;
+    }
+
+    /**
+     * Get the index for the locale, building it if needed. Concurrent searches in a locale wait
+     * for a single build. The index is rebuilt if the factory has replaced the locale's source
+     * since the index was built.
+     */
+    SearchIndex getIndex(String locale) throws ExecutionException {
+        final XMLSource source = factory.makeSource(locale);
+        final Callable<SearchIndex> build = () -> new SearchIndex(source, getPathHeaderFactory());
+        SearchIndex index = indexes.get(locale, build);
+        if (index.getSource() != source) {
+            indexes.asMap().remove(locale, index);
+            index = indexes.get(locale, build);
+        }
+        return index;
+    }
+
+    /** Statistics for the per-locale search indexes */
+    public CacheStats getIndexStatistics() {
+        return indexes.stats();
+    }
+
     private SearchManager(Factory f) {
         this.factory = f;
     }
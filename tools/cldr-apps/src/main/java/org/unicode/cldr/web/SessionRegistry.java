@@ -0,0 +1,218 @@
+package org.unicode.cldr.web;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * The live sessions, for {@link CookieSession}: an index by session id, an index by user, and a
+ * timing wheel of the times at which sessions may expire.
+ *
+ * <p>Lookups and updates of the indexes never block each other. Touching a session doesn't update
+ * the registry at all: each session sits in the wheel slot of the earliest time it could expire,
+ * and when that slot comes round, {@link #expire} asks again when the session expires and either
+ * returns it or moves it to a later slot. So reaping only looks at the sessions that are due,
+ * instead of at every session.
+ *
+ * @param <S> the session type
+ */
+final class SessionRegistry<S> {
+    /** A session in the wheel, with the time at which it is next due to be checked. */
+    private static final class Entry<S> {
+        final String id;
+        final S session;
+        long dueMillis;
+
+        Entry(String id, S session, long dueMillis) {
+            this.id = id;
+            this.session = session;
+            this.dueMillis = dueMillis;
+        }
+    }
+
+    private final Map<String, S> byId = new ConcurrentHashMap<>();
+    private final Map<String, S> byUser = new ConcurrentHashMap<>();
+
+    private final long tickMillis;
+    // Slots are only used by the thread holding reapLock. New sessions wait in added until then.
+    private final List<Queue<Entry<S>>> slots;
+    private final Queue<Entry<S>> added = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock reapLock = new ReentrantLock();
+    private long currentTick = -1; // guarded by reapLock
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder lookupNanos = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    /**
+     * @param tickMillis the time covered by each slot of the wheel
+     * @param slotCount the number of slots. Sessions due more than slotCount ticks ahead go round
+     *     the wheel more than once.
+     */
+    SessionRegistry(long tickMillis, int slotCount) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayDeque<>());
+        }
+    }
+
+    /** Get a session by id, or null. */
+    S get(String id) {
+        return byId.get(id);
+    }
+
+    /** Get the session of the user with the given email, or null. */
+    S getByUser(String email) {
+        return byUser.get(email);
+    }
+
+    /**
+     * Add a session, unless there is already one with the same id.
+     *
+     * @param dueMillis the earliest time at which the session could expire
+     * @return the existing session with the id, or null if the session was added
+     */
+    S add(String id, S session, long dueMillis) {
+        final S existing = byId.putIfAbsent(id, session);
+        if (existing == null) {
+            added.add(new Entry<>(id, session, dueMillis));
+        }
+        return existing;
+    }
+
+    /** Make this the session of the user with the given email, replacing any other. */
+    void setUser(String email, S session) {
+        byUser.put(email, session);
+    }
+
+    /**
+     * Remove a session.
+     *
+     * @param email the email of the session's user, or null
+     */
+    void remove(String id, S session, String email) {
+        byId.remove(id, session);
+        if (email != null) {
+            // Don't remove a newer session of the same user.
+            byUser.remove(email, session);
+        }
+    }
+
+    /** Remove all sessions. */
+    void clear() {
+        byId.clear();
+        byUser.clear();
+    }
+
+    /** A live view of all the sessions. */
+    Collection<S> sessions() {
+        return Collections.unmodifiableCollection(byId.values());
+    }
+
+    /** The number of sessions. */
+    int size() {
+        return byId.size();
+    }
+
+    /** The number of users with a session. */
+    int getUserCount() {
+        return byUser.size();
+    }
+
+    /**
+     * Find the sessions which are due to expire. They are not removed; the caller does that.
+     *
+     * <p>Only one thread reaps at a time. If another thread is already reaping, this returns
+     * immediately with no sessions, rather than waiting.
+     *
+     * @param nowMillis the current time
+     * @param dueTime gives the time at which a session expires, or any time not after nowMillis if
+     *     it has already expired. It may give an earlier time than the real one, at the cost of
+     *     checking the session again then, but never a later one.
+     * @return the expired sessions
+     */
+    List<S> expire(long nowMillis, ToLongFunction<S> dueTime) {
+        if (!reapLock.tryLock()) {
+            return Collections.emptyList();
+        }
+        try {
+            final long nowTick = nowMillis / tickMillis;
+            if (currentTick < 0) {
+                currentTick = nowTick;
+            }
+            for (Entry<S> e; (e = added.poll()) != null; ) {
+                schedule(e);
+            }
+            final List<S> result = new ArrayList<>();
+            // Go round the wheel at most once, even if it hasn't been turned for longer.
+            final long lastTick = Math.min(nowTick, currentTick + slots.size() - 1);
+            for (long tick = currentTick; tick <= lastTick; tick++) {
+                final Queue<Entry<S>> slot = slotFor(tick);
+                // Rescheduled entries may go to the end of this slot; don't look at them again.
+                for (int n = slot.size(); n > 0; n--) {
+                    final Entry<S> e = slot.remove();
+                    if (byId.get(e.id) != e.session) {
+                        continue; // already removed
+                    }
+                    if (e.dueMillis > nowMillis) {
+                        slot.add(e); // due on a later time round the wheel
+                        continue;
+                    }
+                    final long due = dueTime.applyAsLong(e.session);
+                    if (due <= nowMillis) {
+                        result.add(e.session);
+                    } else {
+                        e.dueMillis = due;
+                        schedule(e);
+                    }
+                }
+            }
+            // The current tick isn't over, so its slot is looked at again next time.
+            currentTick = nowTick;
+            expired.add(result.size());
+            return result;
+        } finally {
+            reapLock.unlock();
+        }
+    }
+
+    private void schedule(Entry<S> e) {
+        slotFor(Math.max(e.dueMillis / tickMillis, currentTick)).add(e);
+    }
+
+    private Queue<Entry<S>> slotFor(long tick) {
+        return slots.get((int) (tick % slots.size()));
+    }
+
+    /** Record the time taken to look up a session. */
+    void recordLookup(long nanos) {
+        lookups.increment();
+        lookupNanos.add(nanos);
+    }
+
+    /** The number of lookups recorded. */
+    long getLookupCount() {
+        return lookups.sum();
+    }
+
+    /** The mean time of the lookups recorded, in nanoseconds, or 0 if there were none. */
+    long getMeanLookupNanos() {
+        final long count = lookups.sum();
+        return count == 0 ? 0 : lookupNanos.sum() / count;
+    }
+
+    /** The number of sessions which {@link #expire} has found to have expired. */
+    long getExpiredCount() {
+        return expired.sum();
+    }
+}
@@ -1,29 +1,32 @@
 /** Copyright (C) 2012 IBM Corporation and Others. All Rights Reserved. */
 package org.unicode.cldr.web;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public class Stamp implements Comparable<Stamp> {
-    private static long startStamp = System.currentTimeMillis();
-    private static long lastStamp = startStamp;
+    private static final AtomicLong lastStamp = new AtomicLong(System.currentTimeMillis());
 
-    protected static synchronized long nextStampTime() {
-        return ++lastStamp;
+    protected static long nextStampTime() {
+        return lastStamp.incrementAndGet();
     }
 
     public static Stamp getInstance() {
         return new Stamp(nextStampTime());
     }
 
-    protected long stamp;
+    protected final AtomicLong stamp;
 
     protected Stamp(long stamp) {
-        this.stamp = stamp;
+        this.stamp = new AtomicLong(stamp);
     }
 
     @Override
     public int compareTo(Stamp other) {
-        if (this == other || this.stamp == other.stamp) {
+        final long mine = current();
+        final long theirs = other.current();
+        if (this == other || mine == theirs) {
             return 0;
-        } else if (this.stamp < other.stamp) {
+        } else if (mine < theirs) {
             return -1;
         } else {
             return 1;
@@ -32,12 +35,13 @@ public class Stamp implements Comparable<Stamp> {
 
     @Override
     public boolean equals(Object other) {
-        return (this == other || (other instanceof Stamp && this.stamp == ((Stamp) other).stamp));
+        return (this == other
+                || (other instanceof Stamp && current() == ((Stamp) other).current()));
     }
 
     @Override
     public int hashCode() {
-        return (int) stamp;
+        return (int) current();
     }
 
     /**
@@ -46,6 +50,6 @@ public class Stamp implements Comparable<Stamp> {
      * @return
      */
     public long current() {
-        return stamp;
+        return stamp.get();
     }
 }
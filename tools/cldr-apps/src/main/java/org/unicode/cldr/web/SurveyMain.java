@@ -2402,7 +2402,7 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
         }
     }
 
-    private STFactory gSTFactory = null;
+    private volatile STFactory gSTFactory = null;
 
     /**
      * Get the factory corresponding to the current snapshot.
@@ -2416,6 +2416,11 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
         return gSTFactory;
     }
 
+    /** Get the ST Factory if it has been created, without creating it, or else null. */
+    final STFactory peekSTFactory() {
+        return gSTFactory;
+    }
+
     /** destroy the ST Factory - testing use only! */
     public final synchronized void TESTING_removeSTFactory() {
         gSTFactory = null;
@@ -3002,6 +3007,8 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
             logger.info(startupMsg);
             // TODO: use a Future instead
             isSetup = true;
+            // Load votes in the background for the locales in CLDR_VOTE_WARMUP_LOCALES, if any.
+            getSTFactory().startVoteWarmUp();
         } else {
             logger.warning(
                     "------- SurveyTool FAILED TO STARTUP, "
@@ -3239,8 +3246,11 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
             logger.warning("SurveyTool shutting down...");
             progress.update("shutting down mail... " + destroyTimer);
             MailSender.shutdown();
+            progress.update("saving queued votes... " + destroyTimer);
+            VoteWriteBehind.shutdown();
             progress.update("shutting down summary snapshots... " + destroyTimer);
             Summary.shutdown();
+            VettingViewerQueue.shutdown();
             progress.update("shutting down SurveyThreadManager... " + destroyTimer);
             startupThread.shutdown();
             progress.update("Shutting down database..." + destroyTimer);
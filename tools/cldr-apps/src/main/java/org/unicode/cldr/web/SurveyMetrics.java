@@ -1,28 +1,258 @@
 package org.unicode.cldr.web;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Histogram;
 import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Timer;
 import org.eclipse.microprofile.metrics.annotation.Gauge;
 import org.eclipse.microprofile.metrics.annotation.Metric;
+import org.unicode.cldr.test.TestCache;
 
-/** Metrics availble from the /metrics endpoint */
+/**
+ * Metrics availble from the /metrics endpoint
+ *
+ * <p>Code outside of CDI records into the timers and histograms with the static time...() and
+ * record...() methods, which do nothing when there is no SurveyMain (as in unit tests).
+ */
 @ApplicationScoped
 public class SurveyMetrics {
     @Inject
     @Metric(name = "exceptions", description = "Number of SurveyTool Exceptions that happened")
     Counter surveyExceptions;
 
+    @Inject
+    @Metric(name = "vote_submit", description = "Time to check and submit a vote")
+    Timer voteSubmit;
+
+    @Inject
+    @Metric(name = "datapage_make", description = "Time to construct a DataPage")
+    Timer dataPageMake;
+
+    @Inject
+    @Metric(
+            name = "stfactory_resolving_source_make",
+            description = "Time for STFactory to make the resolving XMLSource of a locale")
+    Timer resolvingSourceMake;
+
+    @Inject
+    @Metric(
+            name = "stfactory_locale_load",
+            description = "Time for STFactory to load a locale from disk")
+    Timer localeLoad;
+
+    @Inject
+    @Metric(
+            name = "stfactory_vote_load",
+            description = "Time for STFactory to load and resolve the votes of a locale")
+    Timer voteLoad;
+
+    @Inject
+    @Metric(
+            name = "dbutils_statement",
+            description =
+                    "Time to execute a database statement through DBUtils.executeQuery,"
+                            + " executeUpdate or executeBatch")
+    Timer dbUtilsStatement;
+
+    @Inject
+    @Metric(
+            name = "vvq_queue_depth_at_submit",
+            description = "Number of Priority Items Summary tasks waiting when a task is queued",
+            unit = MetricUnits.NONE)
+    Histogram vettingViewerQueueDepth;
+
     /** Count an exception. Right now there is only one bucket. */
     public void countException(Throwable exception) {
         surveyExceptions.inc();
     }
 
+    /** The metrics of the running SurveyMain, or null if there is none. */
+    private static SurveyMetrics getInstance() {
+        final SurveyMain sm = CookieSession.sm;
+        return (sm == null) ? null : sm.surveyMetrics;
+    }
+
+    /**
+     * Record the time since startNanos in a timer
+     *
+     * @param timer which timer
+     * @param startNanos the start time, from System.nanoTime()
+     */
+    private static void time(Function<SurveyMetrics, Timer> timer, long startNanos) {
+        final long nanos = System.nanoTime() - startNanos;
+        final SurveyMetrics metrics = getInstance();
+        if (metrics != null) {
+            timer.apply(metrics).update(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Record the time to check and submit a vote, since startNanos (from System.nanoTime()) */
+    public static void timeVoteSubmit(long startNanos) {
+        time(m -> m.voteSubmit, startNanos);
+    }
+
+    /** Record the time to construct a DataPage, since startNanos (from System.nanoTime()) */
+    public static void timeDataPageMake(long startNanos) {
+        time(m -> m.dataPageMake, startNanos);
+    }
+
+    /**
+     * Record the time for STFactory to make a resolving XMLSource, since startNanos (from
+     * System.nanoTime()). Later lookups through the source aren't included.
+     */
+    public static void timeResolvingSourceMake(long startNanos) {
+        time(m -> m.resolvingSourceMake, startNanos);
+    }
+
+    /** Record the time to load a locale, since startNanos (from System.nanoTime()) */
+    public static void timeLocaleLoad(long startNanos) {
+        time(m -> m.localeLoad, startNanos);
+    }
+
+    /** Record the time to load a locale's votes, since startNanos (from System.nanoTime()) */
+    public static void timeVoteLoad(long startNanos) {
+        time(m -> m.voteLoad, startNanos);
+    }
+
+    /**
+     * Record the time to execute a statement through the DBUtils execute methods, since
+     * startNanos (from System.nanoTime()). Statements executed directly aren't included.
+     */
+    public static void timeDbUtilsStatement(long startNanos) {
+        time(m -> m.dbUtilsStatement, startNanos);
+    }
+
+    /** Record the Priority Items Summary queue depth, when a task is queued */
+    public static void recordVettingViewerQueueDepth(int depth) {
+        final SurveyMetrics metrics = getInstance();
+        if (metrics != null) {
+            metrics.vettingViewerQueueDepth.update(depth);
+        }
+    }
+
+    /** The TestCache of the STFactory, or null if there is no STFactory yet */
+    private static TestCache getTestCache() {
+        final SurveyMain sm = CookieSession.sm;
+        final STFactory stf = (sm == null) ? null : sm.peekSTFactory();
+        return (stf == null) ? null : stf.gTestCache;
+    }
+
+    @Gauge(
+            name = "testcache_check_hits",
+            description = "Number of check results found in the TestCache",
+            unit = MetricUnits.NONE)
+    public long getTestCacheCheckHits() {
+        final TestCache cache = getTestCache();
+        return (cache == null) ? 0 : cache.getCheckHitCount();
+    }
+
+    @Gauge(
+            name = "testcache_check_misses",
+            description = "Number of check results not found in the TestCache",
+            unit = MetricUnits.NONE)
+    public long getTestCacheCheckMisses() {
+        final TestCache cache = getTestCache();
+        return (cache == null) ? 0 : cache.getCheckMissCount();
+    }
+
+    @Gauge(
+            name = "testcache_bundle_hits",
+            description = "Number of TestResultBundles found in the TestCache",
+            unit = MetricUnits.NONE)
+    public long getTestCacheBundleHits() {
+        final TestCache cache = getTestCache();
+        return (cache == null) ? 0 : cache.getBundleCacheStats().hitCount();
+    }
+
+    @Gauge(
+            name = "testcache_bundle_misses",
+            description = "Number of TestResultBundles created by the TestCache",
+            unit = MetricUnits.NONE)
+    public long getTestCacheBundleMisses() {
+        final TestCache cache = getTestCache();
+        return (cache == null) ? 0 : cache.getBundleCacheStats().missCount();
+    }
+
     @Gauge(name = "users", description = "Number of active users", unit = MetricUnits.NONE)
     public int getUsers() {
         return CookieSession.getUserCount();
     }
 
+    @Gauge(
+            name = "sessions",
+            description = "Number of sessions, including observers",
+            unit = MetricUnits.NONE)
+    public int getSessions() {
+        return CookieSession.getSessionCount();
+    }
+
+    @Gauge(
+            name = "session_lookup_mean",
+            description = "Mean time taken to look up a session",
+            unit = MetricUnits.NANOSECONDS)
+    public long getSessionLookupMean() {
+        return CookieSession.getMeanLookupNanos();
+    }
+
+    @Gauge(
+            name = "sessions_expired",
+            description = "Number of sessions removed because they expired",
+            unit = MetricUnits.NONE)
+    public long getSessionsExpired() {
+        return CookieSession.getExpiredCount();
+    }
+
+    @Gauge(
+            name = "vvq_queue_depth",
+            description = "Number of Priority Items Summary tasks waiting to run",
+            unit = MetricUnits.NONE)
+    public int getVettingViewerQueueDepth() {
+        return VettingViewerQueue.getQueueDepth();
+    }
+
+    @Gauge(
+            name = "vvq_running",
+            description = "Number of Priority Items Summary tasks running",
+            unit = MetricUnits.NONE)
+    public int getVettingViewerRunning() {
+        return VettingViewerQueue.getRunningCount();
+    }
+
+    @Gauge(
+            name = "vvq_shared",
+            description = "Number of Priority Items Summary requests that shared a task",
+            unit = MetricUnits.NONE)
+    public long getVettingViewerShared() {
+        return VettingViewerQueue.getSharedCount();
+    }
+
+    @Gauge(
+            name = "vvq_cancelled",
+            description = "Number of Priority Items Summary tasks cancelled",
+            unit = MetricUnits.NONE)
+    public long getVettingViewerCancelled() {
+        return VettingViewerQueue.getCancelledCount();
+    }
+
+    @Gauge(
+            name = "vvq_wait_mean",
+            description = "Mean time Priority Items Summary tasks waited to run",
+            unit = MetricUnits.MILLISECONDS)
+    public long getVettingViewerMeanWait() {
+        return VettingViewerQueue.getMeanWaitMillis();
+    }
+
+    @Gauge(
+            name = "vvq_run_mean",
+            description = "Mean time Priority Items Summary tasks took to run",
+            unit = MetricUnits.MILLISECONDS)
+    public long getVettingViewerMeanRun() {
+        return VettingViewerQueue.getMeanRunMillis();
+    }
+
     public SurveyMetrics() {}
 }
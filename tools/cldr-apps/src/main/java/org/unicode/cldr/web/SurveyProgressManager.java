@@ -5,9 +5,9 @@ import com.ibm.icu.dev.util.ElapsedTimer;
 import com.ibm.icu.text.NumberFormat;
 import java.util.Comparator;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.logging.Logger;
 import org.unicode.cldr.util.StackTracker;
 
@@ -16,7 +16,8 @@ import org.unicode.cldr.util.StackTracker;
  */
 public class SurveyProgressManager implements CLDRProgressIndicator {
     private static final Logger logger = SurveyLog.forClass(SurveyProgressManager.class);
-    private Deque<SurveyProgressTask> tasks = new LinkedList<>();
+    // Tasks may be opened and closed by background threads, such as STFactory.warmUpVotes.
+    private final Deque<SurveyProgressTask> tasks = new ConcurrentLinkedDeque<>();
 
     private class SurveyProgressTask implements CLDRProgressIndicator.CLDRProgressTask {
         boolean dead = false;
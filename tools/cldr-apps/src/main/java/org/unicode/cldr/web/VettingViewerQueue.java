@@ -4,8 +4,12 @@ import com.ibm.icu.dev.util.ElapsedTimer;
 import java.io.IOException;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -99,23 +103,127 @@ public class VettingViewerQueue {
         FORCESTOP
     }
 
-    private static class VVOutput {
-        public VVOutput(StringBuffer s) {
-            output = s;
-        }
-
-        private final StringBuffer output;
+    /**
+     * How urgently is the output needed? Interactive requests are run before background ones.
+     *
+     * <p>Public for access by Summary
+     */
+    public enum Priority {
+        /** (Default) - a user is waiting for the output */
+        INTERACTIVE,
+        /** The output is being prepared ahead of time, such as for a snapshot */
+        BACKGROUND
     }
 
     private static class QueueEntry {
         private Task currentTask = null;
-        private final Map<Organization, VVOutput> output = new TreeMap<>();
     }
 
-    /** Semaphore to ensure that only one vetter accesses VV at a time. */
-    private static final Semaphore OnlyOneVetter = new Semaphore(1);
+    /**
+     * The number of tasks that may run at once, set with CLDR_VVQ_THREADS. Each task may use
+     * several threads itself, so only two run at once by default.
+     */
+    private static final int THREAD_COUNT =
+            Math.max(1, CLDRConfig.getInstance().getProperty("CLDR_VVQ_THREADS", 2));
+
+    private static ThreadPoolExecutor executor = null;
+
+    /**
+     * Get the executor for tasks. Tasks are queued by priority, then in order of submission; they
+     * must be passed to execute(), not submit(), so that the queue holds the Task objects.
+     */
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            executor =
+                    new ThreadPoolExecutor(
+                            THREAD_COUNT,
+                            THREAD_COUNT,
+                            60,
+                            TimeUnit.SECONDS,
+                            new PriorityBlockingQueue<>(),
+                            SurveyThreadManager.getThreadFactory());
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    /** Stop all tasks; called when the Survey Tool is shutting down */
+    static synchronized void shutdown() {
+        if (executor != null) {
+            logger.info("Stopping Priority Items Summary tasks");
+            for (Task t : tasks.values()) {
+                t.stop = true;
+            }
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * The tasks that are waiting or running, so that identical requests from different users can
+     * share a task. A task is removed when it finishes or is cancelled.
+     */
+    private static final Map<String, Task> tasks = new ConcurrentHashMap<>();
+
+    private static final AtomicLong taskSequence = new AtomicLong();
+
+    /*
+     * Statistics, reported by SurveyMetrics
+     */
+    private static final AtomicLong submittedCount = new AtomicLong();
+    private static final AtomicLong sharedCount = new AtomicLong();
+    private static final AtomicLong cancelledCount = new AtomicLong();
+    private static final AtomicLong completedCount = new AtomicLong();
+    private static final AtomicLong totalWaitMillis = new AtomicLong();
+    private static final AtomicLong totalRunMillis = new AtomicLong();
+
+    /**
+     * @return the number of tasks waiting to run
+     */
+    public static int getQueueDepth() {
+        final ThreadPoolExecutor e = executor;
+        return (e == null) ? 0 : e.getQueue().size();
+    }
+
+    /**
+     * @return the number of tasks running now
+     */
+    public static int getRunningCount() {
+        final ThreadPoolExecutor e = executor;
+        return (e == null) ? 0 : e.getActiveCount();
+    }
 
-    private class Task implements Runnable {
+    /**
+     * @return the number of requests that were given an existing task instead of a new one
+     */
+    public static long getSharedCount() {
+        return sharedCount.get();
+    }
+
+    /**
+     * @return the number of tasks that were cancelled before they finished
+     */
+    public static long getCancelledCount() {
+        return cancelledCount.get();
+    }
+
+    /**
+     * @return the mean time in milliseconds that tasks waited in the queue before running
+     */
+    public static long getMeanWaitMillis() {
+        final long started = completedCount.get();
+        return (started == 0) ? 0 : totalWaitMillis.get() / started;
+    }
+
+    /**
+     * @return the mean time in milliseconds that tasks took to run
+     */
+    public static long getMeanRunMillis() {
+        final long completed = completedCount.get();
+        return (completed == 0) ? 0 : totalRunMillis.get() / completed;
+    }
+
+    private class Task implements Runnable, Comparable<Task> {
 
         /**
          * A VettingViewer.ProgressCallback that updates a CLDRProgressTask
@@ -144,7 +252,7 @@ public class VettingViewerQueue {
 
             @Override
             public void nudge() {
-                if (!myThread.isAlive()) {
+                if (stop) {
                     throw new RuntimeException("Not Running- stop now.");
                 }
                 long now = System.currentTimeMillis();
@@ -183,18 +291,31 @@ public class VettingViewerQueue {
             }
         }
 
-        private Thread myThread = null;
-        private boolean stop = false;
+        /** The thread running this task, or null if it is not running */
+        private volatile Thread myThread = null;
+
+        private volatile boolean stop = false;
+
+        private final String key;
+        private volatile Priority priority;
+        private final long sequence = taskSequence.incrementAndGet();
+        private final long submitTime = System.currentTimeMillis();
+
+        /**
+         * The number of QueueEntry objects referring to this task; only accessed by synchronized
+         * methods of VettingViewerQueue
+         */
+        private int subscribers = 1;
 
-        private final QueueEntry entry;
         private final SurveyMain sm;
         private int maxn;
         private int n = 0;
         private long start = -1;
         private long last;
         private final Organization usersOrg;
-        private String status = WAITING_IN_LINE_MESSAGE;
-        private Status statusCode = Status.WAITING; // Need to start out as waiting.
+        private final boolean summarizeAllLocales;
+        private volatile String status = WAITING_IN_LINE_MESSAGE;
+        private volatile Status statusCode = Status.WAITING; // Need to start out as waiting.
 
         private void setStatus(String status) {
             this.status = status;
@@ -202,24 +323,50 @@ public class VettingViewerQueue {
 
         private final StringBuffer aBuffer = new StringBuffer();
 
+        /** The output, once the task is READY */
+        private volatile StringBuffer output = null;
+
         /**
          * Construct a Runnable object specifically for Priority Items Summary
          *
-         * @param entry the QueueEntry
+         * @param key the key identifying identical tasks
          * @param usersOrg
+         * @param summarizeAllLocales
+         * @param priority
          */
-        private Task(QueueEntry entry, Organization usersOrg) {
+        private Task(
+                String key, Organization usersOrg, boolean summarizeAllLocales, Priority priority) {
             if (DEBUG) {
                 System.out.println("Creating task for Priority Items Summary");
             }
             this.sm = CookieSession.sm;
-            this.entry = entry;
+            this.key = key;
             this.usersOrg = usersOrg;
+            this.summarizeAllLocales = summarizeAllLocales;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            if (priority != other.priority) {
+                return priority.compareTo(other.priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+
+        private boolean isActive() {
+            return statusCode == Status.WAITING || statusCode == Status.PROCESSING;
         }
 
         @Override
         public void run() {
-            statusCode = Status.WAITING;
+            if (stop) {
+                statusCode = Status.STOPPED;
+                return;
+            }
+            myThread = Thread.currentThread();
+            final long startMillis = System.currentTimeMillis();
+            totalWaitMillis.addAndGet(startMillis - submitTime);
             /*
              * TODO: explain this magic number! Why add 100?
              * Reference: https://unicode-org.atlassian.net/browse/CLDR-15369
@@ -233,44 +380,27 @@ public class VettingViewerQueue {
             }
 
             try {
-                status = "Waiting...";
-                progress.update("Waiting...");
-                if (DEBUG) {
-                    System.out.println("Calling OnlyOneVetter.acquire(), " + taskDescription());
+                status = "Starting...";
+                progress.update("Starting...");
+                processCriticalWork(progress);
+                if (stop) {
+                    status = "Stopped on request.";
+                    statusCode = Status.STOPPED;
+                } else {
+                    status = "Finished.";
+                    statusCode = Status.READY;
                 }
-                OnlyOneVetter.acquire();
-                if (DEBUG) {
-                    System.out.println("Did call OnlyOneVetter.acquire(), " + taskDescription());
-                }
-                try {
-                    if (stop) {
-                        // this NEVER happens?
-                        if (DEBUG) {
-                            System.out.println(
-                                    "VettingViewerQueue.Task.run -- stopping, "
-                                            + taskDescription());
-                        }
-                        status = "Stopped on request.";
-                        statusCode = Status.STOPPED;
-                        return;
-                    }
-                    processCriticalWork(progress);
-                } finally {
-                    // this happens sometimes six minutes after pressing Stop button
-                    if (DEBUG) {
-                        System.out.println("Calling OnlyOneVetter.release(), " + taskDescription());
-                    }
-                    OnlyOneVetter.release();
+            } catch (RuntimeException | ExecutionException re) {
+                if (stop) {
+                    status = "Stopped on request.";
+                } else {
+                    SurveyLog.logException(
+                            logger,
+                            re,
+                            "While VettingViewer processing Priority Items Summary, "
+                                    + taskDescription());
+                    status = "Exception! " + re + ", " + taskDescription();
                 }
-                status = "Finished.";
-                statusCode = Status.READY;
-            } catch (RuntimeException | InterruptedException | ExecutionException re) {
-                SurveyLog.logException(
-                        logger,
-                        re,
-                        "While VettingViewer processing Priority Items Summary, "
-                                + taskDescription());
-                status = "Exception! " + re + ", " + taskDescription();
                 // We're done.
                 statusCode = Status.STOPPED;
             } finally {
@@ -278,11 +408,19 @@ public class VettingViewerQueue {
                 if (progress != null) {
                     progress.close();
                 }
+                tasks.remove(key, this);
+                completedCount.incrementAndGet();
+                totalRunMillis.addAndGet(System.currentTimeMillis() - startMillis);
+                myThread = null;
+                Thread.interrupted(); // in case we were cancelled; don't pass it on to the pool
             }
         }
 
         private String taskDescription() {
-            return "thread " + myThread.getId() + ", " + LocalTime.now();
+            final Thread thread = myThread;
+            return (thread == null ? "not running" : "thread " + thread.getId())
+                    + ", "
+                    + LocalTime.now();
         }
 
         private void processCriticalWork(final CLDRProgressTask progress)
@@ -311,17 +449,17 @@ public class VettingViewerQueue {
             }
             vv.setLocaleBaselineCount(new VVQueueLocaleBaselineCount());
             vv.generatePriorityItemsSummary(aBuffer, choiceSet, usersOrg);
-            if (myThread.isAlive()) {
+            if (!stop) {
                 if (DEBUG) {
                     System.out.println(
                             "Finished generation of Priority Items Summary, " + taskDescription());
                 }
                 aBuffer.append("<hr/>Processing time: " + ElapsedTimer.elapsedTime(start));
-                entry.output.put(usersOrg, new VVOutput(aBuffer));
+                output = aBuffer;
             } else {
                 if (DEBUG) {
                     System.out.println(
-                            "Stopped generation of Priority Items Summary (thread is dead), "
+                            "Stopped generation of Priority Items Summary (stopped), "
                                     + taskDescription());
                 }
             }
@@ -344,11 +482,21 @@ public class VettingViewerQueue {
         private final QueueMemberId qmi;
         private final Organization usersOrg;
         private final LoadingPolicy loadingPolicy;
+        private final Priority priority;
 
         public Args(QueueMemberId qmi, Organization usersOrg, LoadingPolicy loadingPolicy) {
+            this(qmi, usersOrg, loadingPolicy, Priority.INTERACTIVE);
+        }
+
+        public Args(
+                QueueMemberId qmi,
+                Organization usersOrg,
+                LoadingPolicy loadingPolicy,
+                Priority priority) {
             this.qmi = qmi;
             this.usersOrg = usersOrg;
             this.loadingPolicy = loadingPolicy;
+            this.priority = priority;
         }
     }
 
@@ -388,19 +536,22 @@ public class VettingViewerQueue {
         JSONObject debugStatus = DEBUG ? new JSONObject() : null;
         QueueEntry entry = getEntry(args.qmi);
         Task t = entry.currentTask;
+        if (t != null && t.usersOrg != args.usersOrg) {
+            stop(entry); // a different request from the same user
+            t = null;
+        }
         if (args.loadingPolicy != LoadingPolicy.FORCESTOP) {
-            VVOutput res = entry.output.get(args.usersOrg);
+            StringBuffer res = (t == null) ? null : t.output;
             if (res != null) {
                 setPercent(100);
                 results.status = Status.READY;
-                results.output.append(res.output);
+                results.output.append(res);
                 if (DEBUG) {
-                    final String desc = (t == null) ? "[null task]" : t.taskDescription();
                     System.out.println(
-                            "Got result, calling stop for Priority Items Summary, " + desc);
+                            "Got result, calling stop for Priority Items Summary, "
+                                    + t.taskDescription());
                 }
                 stop(entry);
-                entry.output.remove(args.usersOrg);
                 return SUM_MESSAGE_COMPLETE;
             }
         } else {
@@ -410,7 +561,6 @@ public class VettingViewerQueue {
                 System.out.println("Forced stop of Priority Items Summary, " + desc);
             }
             stop(entry);
-            entry.output.remove(args.usersOrg);
             results.status = Status.STOPPED;
             if (debugStatus != null) {
                 debugStatus.put("t_running", false);
@@ -425,8 +575,8 @@ public class VettingViewerQueue {
                 putTaskStatus(debugStatus, t);
             }
             results.status = Status.PROCESSING;
-            if (t.myThread.isAlive()) {
-                // get progress from current thread
+            if (t.isActive()) {
+                // get progress from the running (or waiting) task
                 results.status = t.statusCode;
                 if (results.status != Status.WAITING) {
                     waiting = "";
@@ -444,16 +594,7 @@ public class VettingViewerQueue {
             return SUM_MESSAGE_NOT_LOADING;
         }
 
-        // TODO: May be better to use SurveyThreadManager.getExecutorService().invoke() (rather than
-        // a raw thread) but would require
-        // some restructuring
-        t = entry.currentTask = new Task(entry, args.usersOrg);
-        t.myThread = SurveyThreadManager.getThreadFactory().newThread(t);
-        if (DEBUG) {
-            System.out.println(
-                    "Starting new thread for Priority Items Summary, " + t.taskDescription());
-        }
-        t.myThread.start();
+        t = entry.currentTask = getOrStartTask(args.usersOrg, args.priority);
 
         results.status = Status.PROCESSING;
         if (DEBUG) {
@@ -468,6 +609,39 @@ public class VettingViewerQueue {
         return SUM_MESSAGE_STARTED + ": " + waitStr + t.status;
     }
 
+    /**
+     * Get a task for the given request, sharing a waiting or running task for an identical
+     * request if there is one, otherwise queueing a new task
+     *
+     * @param usersOrg the organization
+     * @param priority the priority; if an identical task is waiting with a lower priority, it is
+     *     queued again with this priority
+     * @return the Task
+     */
+    private Task getOrStartTask(Organization usersOrg, Priority priority) {
+        final String key = usersOrg.name() + (summarizeAllLocales ? "/all" : "");
+        Task t = tasks.get(key);
+        if (t != null && !t.stop && t.isActive()) {
+            t.subscribers++;
+            sharedCount.incrementAndGet();
+            if (priority.compareTo(t.priority) < 0 && getExecutor().remove(t)) {
+                // Still waiting, with a lower priority: queue it again with this priority
+                t.priority = priority;
+                getExecutor().execute(t);
+            }
+            return t;
+        }
+        t = new Task(key, usersOrg, summarizeAllLocales, priority);
+        tasks.put(key, t);
+        submittedCount.incrementAndGet();
+        if (DEBUG) {
+            System.out.println("Queueing task for Priority Items Summary, " + key);
+        }
+        SurveyMetrics.recordVettingViewerQueueDepth(getQueueDepth());
+        getExecutor().execute(t);
+        return t;
+    }
+
     /**
      * Assemble debugging info
      *
@@ -477,8 +651,9 @@ public class VettingViewerQueue {
      */
     public void putTaskStatus(JSONObject debugStatus, Task t) throws JSONException {
         debugStatus.put("t_waiting", totalUsersWaiting());
-        debugStatus.put("t_running", t.myThread.isAlive());
-        debugStatus.put("t_id", t.myThread.getId());
+        final Thread thread = t.myThread;
+        debugStatus.put("t_running", thread != null);
+        debugStatus.put("t_id", (thread == null) ? -1 : thread.getId());
         debugStatus.put("t_statuscode", t.statusCode);
         debugStatus.put("t_status", t.status);
         debugStatus.put("t_progress", t.n);
@@ -490,25 +665,33 @@ public class VettingViewerQueue {
         return (aheadOfMe > 0) ? ("" + aheadOfMe + " users waiting - ") : "";
     }
 
+    /**
+     * Detach the entry from its task. The task is cancelled if no other entry refers to it: it is
+     * removed from the queue if it is waiting, or interrupted if it is running.
+     */
     private void stop(QueueEntry entry) {
         Task t = entry.currentTask;
         if (t != null) {
-            if (t.myThread.isAlive() && !t.stop) {
+            if (--t.subscribers <= 0 && t.isActive() && !t.stop) {
                 if (DEBUG) {
                     System.out.println(
-                            "Alive; stop() setting stop = true for Priority Items Summary, "
+                            "Active; stop() setting stop = true for Priority Items Summary, "
                                     + t.taskDescription());
                 }
                 t.stop = true;
-                t.myThread.interrupt();
-                if (DEBUG) {
-                    System.out.println(
-                            "Alive; called interrupt() for Priority Items Summary, "
-                                    + t.taskDescription());
+                tasks.remove(t.key, t);
+                cancelledCount.incrementAndGet();
+                if (!getExecutor().remove(t)) {
+                    final Thread thread = t.myThread;
+                    if (thread != null) {
+                        thread.interrupt();
+                    }
+                } else {
+                    t.statusCode = Status.STOPPED;
                 }
             } else if (DEBUG) {
                 System.out.println(
-                        "Not alive or already stopped for Priority Items Summary, "
+                        "Shared, not active or already stopped for Priority Items Summary, "
                                 + t.taskDescription());
             }
             entry.currentTask = null;
@@ -527,7 +710,7 @@ public class VettingViewerQueue {
     }
 
     private static int totalUsersWaiting() {
-        return (OnlyOneVetter.getQueueLength());
+        return getQueueDepth();
     }
 
     private int percent = 0;
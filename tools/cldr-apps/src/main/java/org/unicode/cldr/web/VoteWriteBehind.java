@@ -0,0 +1,774 @@
+package org.unicode.cldr.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.VoteType;
+import org.unicode.cldr.web.UserRegistry.User;
+
+/**
+ * Optional write-behind persistence of votes, enabled with CLDR_VOTE_WRITE_BEHIND=true.
+ *
+ * <p>Instead of saving each vote to the database on the request thread, STFactory hands it to
+ * {@link #submit}, which appends it to a local journal file and forces it to disk. Concurrent
+ * submitters share one force (group commit). The vote is then applied in memory and acknowledged. A
+ * single writer thread saves the queued votes to the votes table in JDBC batches, in the order they
+ * were submitted; after each batch is committed, the sequence number of its last vote is written to
+ * a checkpoint file, and only then are the forum actions for those votes done.
+ *
+ * <p>A batch that keeps failing is saved one vote at a time, so that one bad vote doesn't hold up
+ * all the others. A vote that still can't be saved is reported in a dead-letter file (votes.dead,
+ * one tab-separated line per vote) for an administrator to look at. It stays in the journal, since
+ * the checkpoint is kept before it, and is tried again whenever the writer is idle and after a
+ * restart, until it is saved or a later vote by the same user on the same path is.
+ *
+ * <p>On startup, {@link #start} queues any journaled votes after the checkpoint, so votes that were
+ * acknowledged but not saved before a crash are saved again. Saving a vote twice is harmless.
+ */
+public class VoteWriteBehind implements Runnable {
+    static final Logger logger = SurveyLog.forClass(VoteWriteBehind.class);
+
+    /** Is write-behind enabled? */
+    public static final boolean ENABLED =
+            CLDRConfig.getInstance().getProperty("CLDR_VOTE_WRITE_BEHIND", false);
+
+    /** Maximum number of votes per database batch */
+    private static final int BATCH_SIZE =
+            CLDRConfig.getInstance().getProperty("CLDR_VOTE_BATCH_SIZE", 500);
+
+    /** Seconds to wait before retrying a batch that failed */
+    private static final int RETRY_DELAY = 10;
+
+    /** Number of times a batch is tried before its votes are saved one at a time */
+    private static final int MAX_TRIES =
+            CLDRConfig.getInstance().getProperty("CLDR_VOTE_BATCH_TRIES", 6);
+
+    /** Seconds between retries of the votes that could not be saved */
+    private static final int STUCK_RETRY_DELAY = 60;
+
+    /** Longest time, in seconds, that awaitSaved waits for the writer */
+    private static final int MAX_AWAIT = (MAX_TRIES + 1) * RETRY_DELAY + 60;
+
+    private static final int NO_OVERRIDE = Integer.MIN_VALUE;
+    private static final String JOURNAL = "votes.journal";
+    private static final String CHECKPOINT = "votes.checkpoint";
+    private static final String DEAD_LETTER = "votes.dead";
+
+    /** One vote waiting to be saved */
+    static final class PendingVote {
+        final long seq;
+        final CLDRLocale locale;
+        final int xpathId;
+        final int submitter;
+        final String value;
+        final Integer withVote;
+        final VoteType voteType;
+        final Timestamp when;
+
+        PendingVote(
+                long seq,
+                CLDRLocale locale,
+                int xpathId,
+                int submitter,
+                String value,
+                Integer withVote,
+                VoteType voteType,
+                Timestamp when) {
+            this.seq = seq;
+            this.locale = locale;
+            this.xpathId = xpathId;
+            this.submitter = submitter;
+            this.value = value;
+            this.withVote = withVote;
+            this.voteType = voteType;
+            this.when = when;
+        }
+
+        /** The primary key of the vote in the votes table */
+        String getKey() {
+            return locale.getBaseName() + "/" + xpathId + "/" + submitter;
+        }
+
+        /**
+         * Write the vote as one journal record: the length of the vote, its CRC-32, and the vote,
+         * so that a record torn by a crash can be recognized.
+         */
+        void writeRecord(DataOutputStream out) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            write(new DataOutputStream(bytes));
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt(bytes.size());
+            out.writeInt((int) crc.getValue());
+            bytes.writeTo(out);
+        }
+
+        /**
+         * Read a journal record written by writeRecord. The lengths in the record are checked
+         * against what is left of the journal, so a length torn by a crash can't be mistaken for a
+         * long record.
+         *
+         * @param in the rest of the journal
+         * @return the vote, or null at the end of the journal
+         * @throws IOException if the record is torn or damaged
+         */
+        static PendingVote readRecord(ByteBuffer in) throws IOException {
+            if (!in.hasRemaining()) {
+                return null;
+            }
+            if (in.remaining() < 2 * Integer.BYTES) {
+                throw new EOFException("Vote record header is cut off");
+            }
+            final int length = in.getInt();
+            final int crc = in.getInt();
+            if (length < 0 || length > in.remaining()) {
+                throw new EOFException("Vote record of " + length + " bytes is cut off");
+            }
+            final ByteBuffer record = in.slice();
+            record.limit(length);
+            in.position(in.position() + length);
+            CRC32 actual = new CRC32();
+            actual.update(record.duplicate());
+            if ((int) actual.getValue() != crc) {
+                throw new IOException("Vote record has the wrong checksum");
+            }
+            try {
+                return read(record);
+            } catch (RuntimeException e) {
+                throw new IOException("Vote record can't be read", e);
+            }
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeLong(seq);
+            writeString(out, locale.getBaseName());
+            out.writeInt(xpathId);
+            out.writeInt(submitter);
+            out.writeBoolean(value != null);
+            if (value != null) {
+                writeString(out, value);
+            }
+            out.writeInt(withVote == null ? NO_OVERRIDE : withVote);
+            out.writeInt(voteType.id());
+            out.writeLong(when.getTime());
+        }
+
+        private static PendingVote read(ByteBuffer in) throws IOException {
+            long seq = in.getLong();
+            CLDRLocale locale = CLDRLocale.getInstance(readString(in));
+            int xpathId = in.getInt();
+            int submitter = in.getInt();
+            String value = in.get() != 0 ? readString(in) : null;
+            int withVote = in.getInt();
+            VoteType voteType = VoteType.fromId(in.getInt());
+            Timestamp when = new Timestamp(in.getLong());
+            return new PendingVote(
+                    seq,
+                    locale,
+                    xpathId,
+                    submitter,
+                    value,
+                    withVote == NO_OVERRIDE ? null : withVote,
+                    voteType,
+                    when);
+        }
+
+        // not writeUTF, which is limited to 64k
+        private static void writeString(DataOutputStream out, String s) throws IOException {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private static String readString(ByteBuffer in) throws IOException {
+            int length = in.getInt();
+            if (length < 0 || length > in.remaining()) {
+                throw new EOFException("String of " + length + " bytes is cut off");
+            }
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /** The vote as one line of the dead-letter file */
+        String toLine() {
+            return String.join(
+                    "\t",
+                    Long.toString(seq),
+                    locale.getBaseName(),
+                    Integer.toString(xpathId),
+                    Integer.toString(submitter),
+                    value == null ? "\\N" : escape(value), // as in LOAD DATA
+                    String.valueOf(withVote),
+                    voteType.name(),
+                    when.toString());
+        }
+
+        private static String escape(String s) {
+            return s.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+        }
+    }
+
+    private final STFactory factory;
+    private final File journalFile;
+    private final File checkpointFile;
+    private final File deadLetterFile;
+    private final BlockingQueue<PendingVote> queue = new LinkedBlockingQueue<>();
+
+    /** Held while a vote is appended to the journal, but not while the journal is forced */
+    private final Object appendLock = new Object();
+
+    /** Held while the journal is forced */
+    private final Object syncLock = new Object();
+
+    private volatile FileChannel journal; // appended to under appendLock
+    private volatile long lastSeq; // set under appendLock; the last vote appended to the journal
+    private long syncedSeq; // guarded by syncLock; the last vote forced to disk
+    private long savedSeq; // guarded by this; the last vote saved to the database or stuck
+    private volatile boolean shuttingDown = false;
+    private volatile Future<?> writer = null;
+
+    /**
+     * Votes that could not be saved, by key; only used by the writer thread. The checkpoint is
+     * kept before the first of them, so that they are tried again after a restart.
+     */
+    private final Map<String, PendingVote> stuck = new HashMap<>();
+
+    private long nextStuckRetry = 0; // only used by the writer thread
+
+    private static VoteWriteBehind fInstance = null;
+
+    VoteWriteBehind(STFactory factory, File dir) {
+        this.factory = factory;
+        journalFile = new File(dir, JOURNAL);
+        checkpointFile = new File(dir, CHECKPOINT);
+        deadLetterFile = new File(dir, DEAD_LETTER);
+    }
+
+    /**
+     * Open the journal, queue any votes in it that were not yet saved, and start the writer thread.
+     *
+     * @throws IOException if the journal can't be read or opened
+     */
+    synchronized void start() throws IOException {
+        Files.createDirectories(journalFile.getParentFile().toPath());
+        savedSeq = readCheckpoint();
+        lastSeq = savedSeq;
+        ByteArrayOutputStream unsaved = new ByteArrayOutputStream();
+        DataOutputStream unsavedOut = new DataOutputStream(unsaved);
+        int recovered = 0;
+        for (PendingVote vote : readJournal(journalFile)) {
+            lastSeq = Math.max(lastSeq, vote.seq);
+            if (vote.seq > savedSeq) {
+                queue.add(vote);
+                vote.writeRecord(unsavedOut);
+                ++recovered;
+            }
+        }
+        if (recovered > 0) {
+            logger.warning("Recovered " + recovered + " unsaved votes from " + journalFile);
+        }
+        // Rewrite the journal with just the unsaved votes, which also drops any torn vote
+        File temp = new File(journalFile.getPath() + ".tmp");
+        try (FileChannel out =
+                FileChannel.open(
+                        temp.toPath(),
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE)) {
+            writeFully(out, unsaved.toByteArray());
+            out.force(true);
+        }
+        Files.move(
+                temp.toPath(),
+                journalFile.toPath(),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        journal = FileChannel.open(journalFile.toPath(), StandardOpenOption.WRITE);
+        journal.position(journal.size());
+        synchronized (syncLock) {
+            syncedSeq = lastSeq;
+        }
+        writer = SurveyThreadManager.getExecutorService().submit(this);
+        fInstance = this;
+    }
+
+    /**
+     * Read the votes in a journal. The journal ends at the first record that is torn or damaged;
+     * only the last record can be torn by a crash, and it was never acknowledged.
+     *
+     * @return the votes, in the order they were journaled
+     * @throws IOException if the journal can't be read
+     */
+    static List<PendingVote> readJournal(File journalFile) throws IOException {
+        List<PendingVote> votes = new ArrayList<>();
+        if (!journalFile.exists()) {
+            return votes;
+        }
+        // The journal only holds the votes not yet saved, so it is read all at once.
+        final ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(journalFile.toPath()));
+        while (true) {
+            PendingVote vote;
+            try {
+                vote = PendingVote.readRecord(in);
+            } catch (IOException e) {
+                logger.warning(
+                        "Dropping a torn vote after "
+                                + votes.size()
+                                + " votes in "
+                                + journalFile
+                                + ": "
+                                + e);
+                break;
+            }
+            if (vote == null) {
+                break;
+            }
+            votes.add(vote);
+        }
+        return votes;
+    }
+
+    /**
+     * Journal a vote and queue it to be saved. When this returns, the vote is durable.
+     *
+     * <p>The vote is appended under appendLock, and then the journal is forced without it, so one
+     * force covers every vote appended in the meantime.
+     *
+     * @throws IOException if the journal can't be written; the vote may still be saved if it was
+     *     appended but could not be forced
+     * @throws IllegalStateException if the writer was not started, or is shutting down
+     */
+    void submit(
+            CLDRLocale locale,
+            int xpathId,
+            User user,
+            String value,
+            Integer withVote,
+            VoteType voteType)
+            throws IOException {
+        final long seq;
+        synchronized (appendLock) {
+            if (writer == null) {
+                throw new IllegalStateException("Vote writer is not started");
+            }
+            if (shuttingDown) {
+                throw new IllegalStateException("Vote writer is shutting down");
+            }
+            PendingVote vote =
+                    new PendingVote(
+                            lastSeq + 1,
+                            locale,
+                            xpathId,
+                            user.id,
+                            value,
+                            withVote,
+                            voteType,
+                            new Timestamp(System.currentTimeMillis()));
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            vote.writeRecord(new DataOutputStream(bytes));
+            final long start = journal.position();
+            try {
+                writeFully(journal, bytes.toByteArray());
+            } catch (IOException e) {
+                // don't leave part of a record in front of the votes after it
+                try {
+                    journal.truncate(start);
+                } catch (IOException e2) {
+                    e.addSuppressed(e2);
+                }
+                throw e;
+            }
+            seq = vote.seq;
+            lastSeq = seq;
+            queue.add(vote); // in sequence order, since we hold the lock
+        }
+        syncTo(seq);
+    }
+
+    /** Force the journal to disk, unless another submitter already did so past seq. */
+    private void syncTo(long seq) throws IOException {
+        synchronized (syncLock) {
+            if (syncedSeq >= seq) {
+                return;
+            }
+            final long appended = lastSeq; // everything appended so far is covered by this force
+            journal.force(false);
+            syncedSeq = appended;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Wait until every vote submitted so far has been saved to the database, or given up on. Called
+     * before votes are read back from the database. Waits at most MAX_AWAIT seconds.
+     */
+    synchronized void awaitSaved() {
+        final long target = lastSeq;
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(MAX_AWAIT);
+        boolean interrupted = false;
+        while (savedSeq < target && writer != null && !writer.isDone()) {
+            final long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                logger.warning(
+                        "Gave up waiting for votes "
+                                + (savedSeq + 1)
+                                + " to "
+                                + target
+                                + " to be saved; reading the database without them");
+                break;
+            }
+            try {
+                wait(Math.min(remaining, 1000));
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Number of votes waiting to be saved */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /** The writer thread */
+    @Override
+    public void run() {
+        final ArrayDeque<PendingVote> pending = new ArrayDeque<>();
+        int tries = 0; // failed tries of the batch at the front of pending
+        try {
+            while (!(shuttingDown && queue.isEmpty() && pending.isEmpty())) {
+                if (pending.isEmpty()) {
+                    PendingVote first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        retryStuck();
+                        truncateIfIdle();
+                        continue;
+                    }
+                    pending.add(first);
+                }
+                queue.drainTo(pending, BATCH_SIZE - pending.size());
+                List<PendingVote> batch = takeBatch(pending);
+                try {
+                    Set<PendingVote> clearedFlags = saveBatch(batch);
+                    tries = 0;
+                    unstick(batch);
+                    setSaved(batch.get(batch.size() - 1).seq);
+                    doForumActions(batch, clearedFlags);
+                } catch (SQLException e) {
+                    if (++tries < MAX_TRIES) {
+                        SurveyLog.logException(
+                                logger, e, "Saving " + batch.size() + " votes; will retry");
+                        for (int i = batch.size() - 1; i >= 0; --i) {
+                            pending.addFirst(batch.get(i));
+                        }
+                        TimeUnit.SECONDS.sleep(RETRY_DELAY);
+                    } else {
+                        SurveyLog.logException(
+                                logger,
+                                e,
+                                "Saving " + batch.size() + " votes; saving them one at a time");
+                        tries = 0;
+                        saveEach(batch);
+                    }
+                }
+            }
+            if (!stuck.isEmpty()) {
+                logger.warning(
+                        stuck.size() + " votes could not be saved; they remain in " + journalFile);
+            }
+        } catch (InterruptedException e) {
+            logger.warning(
+                    "Vote writer interrupted with "
+                            + (queue.size() + pending.size())
+                            + " votes unsaved; they remain in "
+                            + journalFile);
+        } catch (Throwable t) {
+            SurveyLog.logException(logger, t, "Vote writer stopped; unsaved votes are journaled");
+            SurveyMain.busted("Vote writer stopped", t);
+        } finally {
+            synchronized (this) {
+                notifyAll(); // don't leave anyone in awaitSaved
+            }
+        }
+    }
+
+    /**
+     * Save the votes of a batch that keeps failing one at a time, so that only the votes that fail
+     * by themselves are held back.
+     */
+    private void saveEach(List<PendingVote> batch) {
+        for (PendingVote vote : batch) {
+            List<PendingVote> one = Collections.singletonList(vote);
+            try {
+                Set<PendingVote> clearedFlags = saveBatch(one);
+                unstick(one);
+                setSaved(vote.seq);
+                doForumActions(one, clearedFlags);
+            } catch (SQLException e) {
+                SurveyLog.logException(logger, e, "Saving vote " + vote.getKey());
+                deadLetter(vote);
+                stuck.put(vote.getKey(), vote); // replacing any earlier stuck vote with the key
+                setSaved(vote.seq);
+            }
+        }
+    }
+
+    /** Forget the stuck votes that the saved votes replace. */
+    private void unstick(List<PendingVote> saved) {
+        if (!stuck.isEmpty()) {
+            for (PendingVote vote : saved) {
+                PendingVote old = stuck.get(vote.getKey());
+                if (old != null && old.seq <= vote.seq) {
+                    stuck.remove(vote.getKey());
+                }
+            }
+        }
+    }
+
+    /** Try again to save the votes that could not be saved, at most every STUCK_RETRY_DELAY. */
+    private void retryStuck() {
+        if (stuck.isEmpty() || System.currentTimeMillis() < nextStuckRetry) {
+            return;
+        }
+        nextStuckRetry = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(STUCK_RETRY_DELAY);
+        List<PendingVote> votes = new ArrayList<>(stuck.values());
+        votes.sort(Comparator.comparingLong(vote -> vote.seq));
+        for (PendingVote vote : votes) {
+            List<PendingVote> one = Collections.singletonList(vote);
+            try {
+                Set<PendingVote> clearedFlags = saveBatch(one);
+                stuck.remove(vote.getKey());
+                logger.info("Saved vote " + vote.getKey() + " on retry");
+                doForumActions(one, clearedFlags);
+            } catch (SQLException e) {
+                SurveyLog.logException(logger, e, "Retrying vote " + vote.getKey());
+            }
+        }
+        synchronized (this) {
+            setSaved(savedSeq); // move the checkpoint past the votes now saved
+        }
+    }
+
+    /** Report a vote that can't be saved in the dead-letter file. */
+    private void deadLetter(PendingVote vote) {
+        final String line = vote.toLine();
+        logger.severe("Could not save vote, will retry; see " + deadLetterFile + ": " + line);
+        try {
+            Files.write(
+                    deadLetterFile.toPath(),
+                    (line + "\n").getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            SurveyLog.logException(logger, e, "Writing " + deadLetterFile + ": " + line);
+        }
+    }
+
+    /**
+     * Take up to BATCH_SIZE votes from the front of pending, stopping before a second vote with
+     * the same key, so that each vote in a batch is saved over the one before it.
+     */
+    private static List<PendingVote> takeBatch(ArrayDeque<PendingVote> pending) {
+        List<PendingVote> batch = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        while (!pending.isEmpty()
+                && batch.size() < BATCH_SIZE
+                && keys.add(pending.peekFirst().getKey())) {
+            batch.add(pending.removeFirst());
+        }
+        return batch;
+    }
+
+    /**
+     * Save a batch of votes in one transaction, like STFactory's saveVoteToDb does for one vote.
+     *
+     * @return the votes that cleared a flag
+     */
+    private Set<PendingVote> saveBatch(List<PendingVote> batch) throws SQLException {
+        Set<PendingVote> clearedFlags = new HashSet<>();
+        Connection conn = null;
+        PreparedStatement saveOld = null;
+        PreparedStatement ps = null;
+        try {
+            conn = DBUtils.getInstance().getDBConnection();
+            saveOld = DBUtils.prepareForwardReadOnly(conn, STFactory.getSaveOldVoteSql());
+            ps = DBUtils.prepareForwardReadOnly(conn, STFactory.getSaveVoteSql(true));
+            for (PendingVote vote : batch) {
+                saveOld.setString(1, vote.locale.getBaseName());
+                saveOld.setInt(2, vote.xpathId);
+                saveOld.setInt(3, vote.submitter);
+                saveOld.addBatch();
+
+                int colNum = 1;
+                for (int repeat = 1; repeat <= 2; repeat++) {
+                    ps.setString(colNum++, vote.locale.getBaseName());
+                    ps.setInt(colNum++, vote.xpathId);
+                    ps.setInt(colNum++, vote.submitter);
+                    DBUtils.setStringUTF8(ps, colNum++, vote.value);
+                    ps.setTimestamp(colNum++, vote.when);
+                    DBUtils.setInteger(ps, colNum++, vote.withVote);
+                    DBUtils.setInteger(ps, colNum++, vote.voteType.id());
+                }
+                ps.addBatch();
+            }
+            DBUtils.executeBatch(saveOld); // no key repeats in a batch, so these can all go first
+            DBUtils.executeBatch(ps);
+            for (PendingVote vote : batch) {
+                User user = factory.sm.reg.getInfo(vote.submitter);
+                if (user != null
+                        && UserRegistry.userIsTC(user)
+                        && factory.getFlag(vote.locale, vote.xpathId)) {
+                    factory.clearFlag(conn, vote.locale, vote.xpathId);
+                    clearedFlags.add(vote);
+                }
+            }
+            conn.commit();
+        } finally {
+            DBUtils.close(saveOld, ps, conn);
+        }
+        return clearedFlags;
+    }
+
+    private void doForumActions(List<PendingVote> batch, Set<PendingVote> clearedFlags) {
+        if (factory.sm.fora == null) {
+            return;
+        }
+        for (PendingVote vote : batch) {
+            // as in saveVoteToDb, imported votes don't touch the forum
+            if (vote.voteType == VoteType.AUTO_IMPORT || vote.voteType == VoteType.MANUAL_IMPORT) {
+                continue;
+            }
+            User user = factory.sm.reg.getInfo(vote.submitter);
+            if (user == null) {
+                continue;
+            }
+            try {
+                factory.sm.fora.doForumAfterVote(
+                        vote.locale,
+                        user,
+                        factory.sm.xpt.getById(vote.xpathId),
+                        vote.xpathId,
+                        vote.value,
+                        clearedFlags.contains(vote));
+            } catch (RuntimeException e) {
+                SurveyLog.logException(logger, e, "Forum action after vote " + vote.getKey());
+            }
+        }
+    }
+
+    /**
+     * Record that the votes up to seq have been saved or are stuck. The checkpoint is kept before
+     * the first stuck vote, so that it is journaled until it is saved.
+     */
+    private synchronized void setSaved(long seq) {
+        long checkpoint = seq;
+        for (PendingVote vote : stuck.values()) {
+            checkpoint = Math.min(checkpoint, vote.seq - 1);
+        }
+        try {
+            File temp = new File(checkpointFile.getPath() + ".tmp");
+            Files.write(
+                    temp.toPath(), Long.toString(checkpoint).getBytes(StandardCharsets.US_ASCII));
+            Files.move(
+                    temp.toPath(),
+                    checkpointFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // the votes are in the database; at worst they are saved again after a restart
+            SurveyLog.logException(logger, e, "Writing " + checkpointFile);
+        }
+        savedSeq = seq;
+        notifyAll();
+    }
+
+    /** Empty the journal when everything in it has been saved, so it doesn't grow forever. */
+    private void truncateIfIdle() {
+        synchronized (appendLock) {
+            synchronized (this) {
+                try {
+                    if (savedSeq == lastSeq
+                            && queue.isEmpty()
+                            && stuck.isEmpty()
+                            && journal.size() > 0) {
+                        journal.truncate(0);
+                        journal.force(true);
+                    }
+                } catch (IOException e) {
+                    SurveyLog.logException(logger, e, "Truncating " + journalFile);
+                }
+            }
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!checkpointFile.exists()) {
+            return 0;
+        }
+        try (InputStream in = new FileInputStream(checkpointFile)) {
+            return Long.parseLong(new String(in.readAllBytes(), StandardCharsets.US_ASCII).trim());
+        }
+    }
+
+    /** Save the remaining votes, and stop the writer. */
+    static void shutdown() {
+        VoteWriteBehind instance = fInstance;
+        if (instance == null) {
+            logger.info("Vote writer not running");
+            return;
+        }
+        try {
+            instance.shuttingDown = true;
+            logger.info("Saving " + instance.getPendingCount() + " queued votes");
+            instance.writer.get(60, TimeUnit.SECONDS);
+            synchronized (instance.appendLock) {
+                instance.journal.close();
+            }
+        } catch (Throwable t) {
+            SurveyLog.logException(
+                    logger, t, "shutting down vote writer; unsaved votes are journaled");
+        }
+        fInstance = null;
+    }
+}
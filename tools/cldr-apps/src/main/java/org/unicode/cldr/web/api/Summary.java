@@ -134,7 +134,13 @@ public class Summary {
         VettingViewerQueue vvq = VettingViewerQueue.getInstance();
         vvq.setSummarizeAllLocales(request.summarizeAllLocales);
         QueueMemberId qmi = new QueueMemberId(cs);
-        SummaryResponse sr = getSummaryResponse(vvq, qmi, usersOrg, request.loadingPolicy);
+        SummaryResponse sr =
+                getSummaryResponse(
+                        vvq,
+                        qmi,
+                        usersOrg,
+                        request.loadingPolicy,
+                        VettingViewerQueue.Priority.INTERACTIVE);
         if (SurveySnapshot.SNAP_CREATE.equals(request.snapshotPolicy)
                 && sr.status == VettingViewerQueue.Status.READY) {
             saveSnapshot(sr);
@@ -149,6 +155,7 @@ public class Summary {
      * @param qmi the QueueMemberId
      * @param usersOrg the user's organization
      * @param loadingPolicy the LoadingPolicy
+     * @param priority the Priority
      * @return the SummaryResponse
      * @throws IOException
      * @throws JSONException
@@ -157,10 +164,11 @@ public class Summary {
             VettingViewerQueue vvq,
             QueueMemberId qmi,
             Organization usersOrg,
-            LoadingPolicy loadingPolicy)
+            LoadingPolicy loadingPolicy,
+            VettingViewerQueue.Priority priority)
             throws IOException, JSONException {
         SummaryResponse sr = new SummaryResponse();
-        VettingViewerQueue.Args args = vvq.new Args(qmi, usersOrg, loadingPolicy);
+        VettingViewerQueue.Args args = vvq.new Args(qmi, usersOrg, loadingPolicy, priority);
         VettingViewerQueue.Results results = vvq.new Results();
         sr.message = vvq.getPriorityItemsSummaryOutput(args, results);
         sr.percent = vvq.getPercent();
@@ -349,7 +357,13 @@ public class Summary {
         boolean finished = false;
         final long startMillis = System.currentTimeMillis();
         do {
-            sr = getSummaryResponse(vvq, qmi, usersOrg, loadingPolicy);
+            sr =
+                    getSummaryResponse(
+                            vvq,
+                            qmi,
+                            usersOrg,
+                            loadingPolicy,
+                            VettingViewerQueue.Priority.BACKGROUND);
             loadingPolicy = LoadingPolicy.NOSTART;
             ++count;
             log("Automatic Summary Snapshot, got response " + count + "; percent = " + sr.percent);
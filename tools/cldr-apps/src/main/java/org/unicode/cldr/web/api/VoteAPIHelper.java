@@ -371,6 +371,7 @@ public class VoteAPIHelper {
         final SurveyMain sm = CookieSession.sm;
         CheckCLDR.Options options = DataPage.getOptions(mySession, locale);
         final STFactory stf = sm.getSTFactory();
+        final long start = System.nanoTime();
         synchronized (mySession) {
             try {
                 final String origValue = value;
@@ -428,6 +429,8 @@ public class VoteAPIHelper {
             } catch (Throwable t) {
                 SurveyLog.logException(logger, t, "Processing submission " + locale + ":" + xp);
                 return (new STError(t).build());
+            } finally {
+                SurveyMetrics.timeVoteSubmit(start);
             }
         }
         if (!forbiddenIsOk && r.statusAction.isForbidden()) {
@@ -7,9 +7,12 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
 import org.unicode.cldr.draft.FileUtilities;
 import org.unicode.cldr.unittest.web.TestAll.WebTestInfo;
 import org.unicode.cldr.util.CLDRFile;
@@ -68,6 +71,38 @@ public class TestSTFactory extends TestFmwk {
         verifyReadOnly(fac.make("en", false));
     }
 
+    /**
+     * Loading locales in parallel, including a locale and its parent, gives the same data as
+     * loading them one at a time.
+     */
+    public void TestVoteWarmUp() throws SQLException, InterruptedException, ExecutionException {
+        if (TestAll.skipIfNoDb()) return;
+        final List<CLDRLocale> locales =
+                Arrays.asList(
+                        CLDRLocale.getInstance("fr_CA"),
+                        CLDRLocale.getInstance("fr"),
+                        CLDRLocale.getInstance("aa"));
+        STFactory fac = resetFactory();
+        fac.warmUpVotes(locales, 3).get();
+        final Map<String, String> warmedUp = new TreeMap<>();
+        for (CLDRLocale locale : locales) {
+            CLDRFile file = fac.make(locale, false);
+            for (String path : file) {
+                warmedUp.put(locale + " " + path, file.getStringValue(path));
+            }
+        }
+
+        fac = resetFactory();
+        final Map<String, String> onDemand = new TreeMap<>();
+        for (CLDRLocale locale : locales) {
+            CLDRFile file = fac.make(locale, false);
+            for (String path : file) {
+                onDemand.put(locale + " " + path, file.getStringValue(path));
+            }
+        }
+        assertEquals("values after warm-up", onDemand, warmedUp);
+    }
+
     private static final String ANY = "*";
     private static final String NULL = "<NULL>";
 
@@ -7,8 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.PathHeader;
+import org.unicode.cldr.util.SimpleXMLSource;
+import org.unicode.cldr.util.XMLSource;
 import org.unicode.cldr.web.SearchManager.SearchRequest;
 import org.unicode.cldr.web.SearchManager.SearchResponse;
 import org.unicode.cldr.web.SearchManager.SearchResult;
@@ -77,4 +82,51 @@ public class TestSearchManager {
         assertFalse(mgr.deleteSearch("some token"));
         assertNull(mgr.getSearch("some token"));
     }
+
+    private static final String MARCH =
+            "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"3\"]";
+    private static final String MARCH_ABBR =
+            "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"abbreviated\"]/month[@type=\"3\"]";
+    private static final String JAPANESE =
+            "//ldml/localeDisplayNames/languages/language[@type=\"ja\"]";
+
+    @Test
+    void TestIndex() {
+        final XMLSource source = new SimpleXMLSource("mt");
+        source.putValueAtDPath(MARCH, "Marzu");
+        source.putValueAtDPath(MARCH_ABBR, "Mar");
+        source.putValueAtDPath(JAPANESE, "Ġappuniż");
+        final SearchIndex index = new SearchIndex(source, PathHeader.getFactory());
+        assertEquals(3, index.size());
+
+        // words, by prefix and ignoring case
+        assertTrue(paths(index.search("marzu")).contains(MARCH));
+        assertFalse(paths(index.search("marzu")).contains(MARCH_ABBR));
+        assertTrue(paths(index.search("MAR")).containsAll(List.of(MARCH, MARCH_ABBR)));
+        assertTrue(paths(index.search("ĠAPPUNIŻ")).contains(JAPANESE));
+        // anywhere in the value, if no word matches
+        assertTrue(paths(index.search("arzu")).contains(MARCH));
+        assertTrue(index.search("xyzzy").isEmpty());
+
+        // xpaths and PathHeader codes
+        final SearchIndex.Match byPath = index.search(MARCH).get(0);
+        assertEquals(MARCH, byPath.xpath);
+        assertEquals("Marzu", byPath.context);
+        final String code = PathHeader.getFactory().fromPath(JAPANESE).getCode();
+        assertTrue(paths(index.search(code)).contains(JAPANESE));
+
+        // changes to the source are seen by the index
+        source.putValueAtDPath(MARCH, "Mejju");
+        source.notifyListeners(MARCH);
+        assertFalse(paths(index.search("marzu")).contains(MARCH));
+        assertTrue(paths(index.search("mejju")).contains(MARCH));
+        source.removeValueAtDPath(MARCH);
+        source.notifyListeners(MARCH);
+        assertEquals(2, index.size());
+        assertFalse(paths(index.search("mejju")).contains(MARCH));
+    }
+
+    private static List<String> paths(List<SearchIndex.Match> matches) {
+        return matches.stream().map(m -> m.xpath).collect(Collectors.toList());
+    }
 }
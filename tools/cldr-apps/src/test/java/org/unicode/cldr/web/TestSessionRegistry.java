@@ -0,0 +1,67 @@
+package org.unicode.cldr.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class TestSessionRegistry {
+    @Test
+    public void TestIndexes() {
+        final SessionRegistry<String> r = new SessionRegistry<>(1000, 10);
+        assertNull(r.add("a", "session a", 0));
+        assertNull(r.add("b", "session b", 0));
+        assertEquals("session a", r.add("a", "other a", 0), "existing session is kept");
+        assertEquals(2, r.size());
+
+        r.setUser("u@example.com", "session a");
+        assertEquals("session a", r.getByUser("u@example.com"));
+        r.setUser("u@example.com", "session b"); // logged in again
+        assertEquals("session b", r.getByUser("u@example.com"));
+        assertEquals(1, r.getUserCount());
+
+        // Removing the old session doesn't remove the user's new one.
+        r.remove("a", "session a", "u@example.com");
+        assertNull(r.get("a"));
+        assertEquals("session b", r.getByUser("u@example.com"));
+        r.remove("b", "session b", "u@example.com");
+        assertNull(r.getByUser("u@example.com"));
+        assertEquals(0, r.size());
+    }
+
+    @Test
+    public void TestExpiry() {
+        // 10 slots of one second: due times more than 10 seconds ahead go round the wheel.
+        final SessionRegistry<String> r = new SessionRegistry<>(1000, 10);
+        final Map<String, Long> due = new HashMap<>();
+        final long start = 1_000_000;
+        for (String s : new String[] {"short", "long", "touched", "removed"}) {
+            due.put(s, start + 5_000);
+            r.add(s, s, start + 5_000);
+        }
+        due.put("long", start + 25_000);
+        r.remove("removed", "removed", null);
+
+        assertTrue(r.expire(start, due::get).isEmpty());
+        assertTrue(r.expire(start + 4_999, due::get).isEmpty());
+        due.put("touched", start + 8_000);
+        assertEquals(List.of("short"), r.expire(start + 5_000, due::get));
+        assertEquals(1, r.getExpiredCount());
+        r.remove("short", "short", null);
+
+        assertTrue(r.expire(start + 7_999, due::get).isEmpty());
+        assertEquals(List.of("touched"), r.expire(start + 8_500, due::get));
+        r.remove("touched", "touched", null);
+
+        // Skipping far ahead still goes round the whole wheel once.
+        assertTrue(r.expire(start + 24_000, due::get).isEmpty());
+        assertEquals(List.of("long"), r.expire(start + 60_000, due::get));
+        assertSame("long", r.get("long"), "expire() doesn't remove sessions");
+        assertEquals(2, r.getExpiredCount());
+    }
+}
@@ -0,0 +1,84 @@
+package org.unicode.cldr.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.VoteType;
+import org.unicode.cldr.web.VoteWriteBehind.PendingVote;
+
+public class TestVoteWriteBehind {
+    @TempDir Path dir;
+
+    private static byte[] record(long seq, String value) throws IOException {
+        final PendingVote vote =
+                new PendingVote(
+                        seq,
+                        CLDRLocale.getInstance("fr"),
+                        1234,
+                        5,
+                        value,
+                        null,
+                        VoteType.DIRECT,
+                        new Timestamp(1_000_000L * seq));
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        vote.writeRecord(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private List<PendingVote> readJournal(byte[]... records) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (byte[] record : records) {
+            bytes.write(record);
+        }
+        final File journal = dir.resolve("votes.journal").toFile();
+        Files.write(journal.toPath(), bytes.toByteArray());
+        return VoteWriteBehind.readJournal(journal);
+    }
+
+    @Test
+    void testReadJournal() throws IOException {
+        final List<PendingVote> votes = readJournal(record(1, "un"), record(2, null));
+        assertEquals(2, votes.size());
+        assertEquals(1, votes.get(0).seq);
+        assertEquals("un", votes.get(0).value);
+        assertEquals("fr/1234/5", votes.get(0).getKey());
+        assertEquals(VoteType.DIRECT, votes.get(0).voteType);
+        assertNull(votes.get(1).value);
+        assertNull(votes.get(1).withVote);
+    }
+
+    @Test
+    void testTornRecord() throws IOException {
+        final byte[] last = record(3, "trois");
+        // Every way the last record can be cut off by a crash
+        for (int length = 1; length < last.length; ++length) {
+            final List<PendingVote> votes =
+                    readJournal(record(1, "un"), record(2, "deux"), Arrays.copyOf(last, length));
+            assertEquals(2, votes.size(), "record cut off after " + length + " bytes");
+        }
+    }
+
+    @Test
+    void testDamagedRecord() throws IOException {
+        final byte[] last = record(3, "trois");
+        last[last.length - 9] ^= 0x40; // in the vote type
+        assertEquals(2, readJournal(record(1, "un"), record(2, "deux"), last).size());
+    }
+
+    @Test
+    void testMissingJournal() throws IOException {
+        assertEquals(0, VoteWriteBehind.readJournal(dir.resolve("none").toFile()).size());
+    }
+}
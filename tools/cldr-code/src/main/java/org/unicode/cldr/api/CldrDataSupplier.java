@@ -3,8 +3,10 @@ package org.unicode.cldr.api;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.unicode.cldr.api.CldrDataType.LDML;
 
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.LinkedHashMultimap;
@@ -14,7 +16,11 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.unicode.cldr.api.CldrData.PrefixVisitor;
@@ -139,6 +145,49 @@ public abstract class CldrDataSupplier {
         return new InMemoryData(values);
     }
 
+    /**
+     * Returns a supplier for data previously written by {@link #writePrecompiledData}. Each locale
+     * or data type is stored in its own file, which is memory-mapped the first time its data is
+     * requested, so this supplier avoids both parsing XML and building {@code CLDRFile} instances.
+     * This is useful when the same CLDR data is processed repeatedly (e.g. by data converters).
+     *
+     * <p>The returned supplier only supports the draft status the data was written with, and it
+     * does not check whether the data is still current with respect to the original XML files.
+     *
+     * @param storeDir the directory into which the data was written.
+     * @return a supplier for the precompiled CLDR data in the given directory.
+     * @throws UncheckedIOException if the directory does not contain precompiled data.
+     */
+    public static CldrDataSupplier forPrecompiledData(Path storeDir) {
+        try {
+            return PrecompiledDataSupplier.open(storeDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the resolved and unresolved data for the given locales, as well as all non-LDML data,
+     * from a supplier into a directory, in a form which can be read via {@link
+     * #forPrecompiledData(Path)}. The index of the directory is written last, so a partially
+     * written directory cannot be read.
+     *
+     * @param source the supplier of the data to write.
+     * @param draftStatus the desired status for filtering paths/values.
+     * @param localeIds the IDs of the locales whose data should be written.
+     * @param storeDir the directory into which the data should be written (created if needed).
+     * @throws IOException if the data could not be written.
+     */
+    public static void writePrecompiledData(
+            CldrDataSupplier source,
+            CldrDraftStatus draftStatus,
+            Set<String> localeIds,
+            Path storeDir)
+            throws IOException {
+        PrecompiledDataSupplier.write(
+                source.withDraftStatusAtLeast(draftStatus), draftStatus, localeIds, storeDir);
+    }
+
     /**
      * Returns a modified data supplier which only provides paths/values with a draft status at or
      * above the specified value. To create a supplier that will process all CLDR paths/values, use
@@ -182,6 +231,75 @@ public abstract class CldrDataSupplier {
      */
     public abstract CldrData getDataForType(CldrDataType type);
 
+    /**
+     * Returns statistics about the XML data parsed by this supplier so far, or {@link
+     * ParseStatistics#NONE} if this supplier does not parse XML data. This is intended for
+     * monitoring the cost of data loading in tools which use this API.
+     */
+    public ParseStatistics getParseStatistics() {
+        return ParseStatistics.NONE;
+    }
+
+    /** Statistics about XML data parsed by a supplier, for monitoring and logging. */
+    public static final class ParseStatistics {
+        /** Statistics for when no XML data has been parsed. */
+        public static final ParseStatistics NONE = new ParseStatistics(0, 0, 0, 0);
+
+        private final int fileCount;
+        private final int valueCount;
+        private final int pathElementCount;
+        private final long parseNanos;
+
+        ParseStatistics(int fileCount, int valueCount, int pathElementCount, long parseNanos) {
+            this.fileCount = fileCount;
+            this.valueCount = valueCount;
+            this.pathElementCount = pathElementCount;
+            this.parseNanos = parseNanos;
+        }
+
+        /** Returns the number of XML files parsed. */
+        public int getFileCount() {
+            return fileCount;
+        }
+
+        /** Returns the number of values retained in memory after parsing. */
+        public int getValueCount() {
+            return valueCount;
+        }
+
+        /**
+         * Returns the number of distinct path elements retained in memory after parsing. Since
+         * paths share their parent elements, this is a better measure of the memory used by paths
+         * than the number of values.
+         */
+        public int getPathElementCount() {
+            return pathElementCount;
+        }
+
+        /** Returns the total time spent parsing XML files, in nanoseconds. */
+        public long getParseNanos() {
+            return parseNanos;
+        }
+
+        ParseStatistics plus(ParseStatistics other) {
+            return new ParseStatistics(
+                    fileCount + other.fileCount,
+                    valueCount + other.valueCount,
+                    pathElementCount + other.pathElementCount,
+                    parseNanos + other.parseNanos);
+        }
+
+        /**
+         * @return a debug-only summary of these statistics.
+         */
+        @Override
+        public String toString() {
+            return String.format(
+                    "%d values (%d path elements) from %d files, parsed in %d ms",
+                    valueCount, pathElementCount, fileCount, parseNanos / 1_000_000);
+        }
+    }
+
     private static final class FileBasedDataSupplier extends CldrDataSupplier {
         private final ImmutableSetMultimap<CldrDataType, Path> directoryMap;
         private final CldrDraftStatus draftStatus;
@@ -189,6 +307,10 @@ public abstract class CldrDataSupplier {
         // Created on-demand to keep constructor simple (in a fluent API you might create several
         // variants of a supplier but only get data from one, or only use non-LDML XML data).
         private Factory factory = null;
+        // Non-LDML data is parsed at most once per supplier, since parsing all the supplemental
+        // data is expensive and callers often request the same data several times.
+        private final ConcurrentHashMap<CldrDataType, XmlDataSource> xmlDataCache =
+                new ConcurrentHashMap<>();
 
         private FileBasedDataSupplier(
                 Multimap<CldrDataType, Path> directoryMap, CldrDraftStatus draftStatus) {
@@ -234,11 +356,16 @@ public abstract class CldrDataSupplier {
 
         @Override
         public CldrData getDataForType(CldrDataType type) {
-            ImmutableSet<Path> xmlFiles = listXmlFilesForType(type);
-            if (!xmlFiles.isEmpty()) {
-                return new XmlDataSource(type, xmlFiles, draftStatus);
-            }
-            return NO_DATA;
+            // XML files are parsed once, so later changes to them are not seen by this supplier.
+            return xmlDataCache.computeIfAbsent(
+                    type, t -> new XmlDataSource(t, listXmlFilesForType(t), draftStatus));
+        }
+
+        @Override
+        public ParseStatistics getParseStatistics() {
+            return xmlDataCache.values().stream()
+                    .map(XmlDataSource::getParseStatistics)
+                    .reduce(ParseStatistics.NONE, ParseStatistics::plus);
         }
 
         private Stream<Path> getDirectoriesForType(CldrDataType type) {
@@ -276,6 +403,151 @@ public abstract class CldrDataSupplier {
                 p -> Files.isRegularFile(p) && p.getFileName().toString().endsWith(".xml");
     }
 
+    private static final class PrecompiledDataSupplier extends CldrDataSupplier {
+        private static final String INDEX_FILE = "index.txt";
+        private static final String DATA_SUFFIX = ".bin";
+
+        private final Path storeDir;
+        private final CldrDraftStatus draftStatus;
+        private final ImmutableSet<CldrDataType> types;
+        private final ImmutableSet<String> localeIds;
+        // Files are mapped on first use and the mapping is shared by all callers.
+        private final ConcurrentHashMap<Path, CldrData> dataCache = new ConcurrentHashMap<>();
+
+        private PrecompiledDataSupplier(
+                Path storeDir,
+                CldrDraftStatus draftStatus,
+                Set<CldrDataType> types,
+                Set<String> localeIds) {
+            this.storeDir = checkNotNull(storeDir);
+            this.draftStatus = checkNotNull(draftStatus);
+            this.types = ImmutableSet.copyOf(types);
+            this.localeIds = ImmutableSet.copyOf(localeIds);
+        }
+
+        // The index is a text file with one "key<TAB>value" entry per line, for the draft status,
+        // each data type and each locale ID.
+        private static PrecompiledDataSupplier open(Path storeDir) throws IOException {
+            Path indexFile = storeDir.resolve(INDEX_FILE);
+            if (!Files.isRegularFile(indexFile)) {
+                throw new IOException("no precompiled CLDR data in: " + storeDir);
+            }
+            CldrDraftStatus draftStatus = null;
+            Set<CldrDataType> types = new LinkedHashSet<>();
+            Set<String> localeIds = new LinkedHashSet<>();
+            for (String line : Files.readAllLines(indexFile, UTF_8)) {
+                List<String> parts = TAB_SPLITTER.splitToList(line);
+                checkArgument(parts.size() == 2, "invalid line in %s: %s", indexFile, line);
+                switch (parts.get(0)) {
+                    case "draftStatus":
+                        draftStatus = CldrDraftStatus.valueOf(parts.get(1));
+                        break;
+                    case "type":
+                        types.add(CldrDataType.valueOf(parts.get(1)));
+                        break;
+                    case "locale":
+                        localeIds.add(parts.get(1));
+                        break;
+                    default:
+                        throw new IllegalArgumentException(
+                                "invalid line in " + indexFile + ": " + line);
+                }
+            }
+            checkArgument(draftStatus != null, "no draft status in: %s", indexFile);
+            return new PrecompiledDataSupplier(storeDir, draftStatus, types, localeIds);
+        }
+
+        private static void write(
+                CldrDataSupplier source,
+                CldrDraftStatus draftStatus,
+                Set<String> localeIds,
+                Path storeDir)
+                throws IOException {
+            // Never leave an old index referring to a mix of old and new files.
+            Files.deleteIfExists(storeDir.resolve(INDEX_FILE));
+            List<String> index = new ArrayList<>();
+            index.add("draftStatus\t" + draftStatus);
+            for (CldrResolution resolution : CldrResolution.values()) {
+                Files.createDirectories(storeDir.resolve(resolution.name()));
+            }
+            for (CldrDataType type : CldrDataType.values()) {
+                if (type != LDML) {
+                    MappedData.write(source.getDataForType(type), getTypeFile(storeDir, type));
+                    index.add("type\t" + type);
+                }
+            }
+            for (String localeId : localeIds) {
+                for (CldrResolution resolution : CldrResolution.values()) {
+                    MappedData.write(
+                            source.getDataForLocale(localeId, resolution),
+                            getLocaleFile(storeDir, localeId, resolution));
+                }
+                index.add("locale\t" + localeId);
+            }
+            Files.write(storeDir.resolve(INDEX_FILE), index, UTF_8);
+        }
+
+        private static Path getTypeFile(Path storeDir, CldrDataType type) {
+            return storeDir.resolve(type + DATA_SUFFIX);
+        }
+
+        private static Path getLocaleFile(
+                Path storeDir, String localeId, CldrResolution resolution) {
+            return storeDir.resolve(resolution.name()).resolve(localeId + DATA_SUFFIX);
+        }
+
+        private CldrData getData(Path file) {
+            return dataCache.computeIfAbsent(
+                    file,
+                    f -> {
+                        try {
+                            return MappedData.open(f);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        }
+
+        @Override
+        public CldrDataSupplier withDraftStatusAtLeast(CldrDraftStatus draftStatus) {
+            // Values below the original draft status were never written, and for resolved data
+            // the values that were written may depend on the original status, so the data cannot
+            // simply be filtered here.
+            checkArgument(
+                    draftStatus == this.draftStatus,
+                    "precompiled data in %s was written with draft status %s (not %s)",
+                    storeDir,
+                    this.draftStatus,
+                    draftStatus);
+            return this;
+        }
+
+        @Override
+        public CldrData getDataForLocale(String localeId, CldrResolution resolution) {
+            LocaleIds.checkCldrLocaleId(localeId);
+            if (localeIds.contains(localeId)) {
+                return getData(getLocaleFile(storeDir, localeId, resolution));
+            }
+            return NO_DATA;
+        }
+
+        @Override
+        public Set<String> getAvailableLocaleIds() {
+            return localeIds;
+        }
+
+        @Override
+        public CldrData getDataForType(CldrDataType type) {
+            checkArgument(type != LDML, "cannot get non-locale data for type: %s", type);
+            if (types.contains(type)) {
+                return getData(getTypeFile(storeDir, type));
+            }
+            return NO_DATA;
+        }
+
+        private static final Splitter TAB_SPLITTER = Splitter.on('\t');
+    }
+
     private static final CldrData NO_DATA =
             new CldrData() {
                 @Override
@@ -0,0 +1,248 @@
+package org.unicode.cldr.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.unicode.cldr.api.CldrData.PathOrder.DTD;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.UnsignedBytes;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * A read-only {@link CldrData} instance backed by a memory-mapped file, as written by {@link
+ * #write(CldrData, Path)}.
+ *
+ * <p>Values are stored as records in DTD order (which is also a valid order for every other {@link
+ * PathOrder}), so visitation is a single sequential pass over the mapped file with no intermediate
+ * maps or sorting. Only the strings needed for each {@link CldrValue} are decoded, and parent path
+ * elements are shared between consecutive paths in the same way as {@link CldrFileDataSource}.
+ *
+ * <p>File layout (all integers are big-endian):
+ *
+ * <ul>
+ *   <li>Header: magic number, format version, record count.
+ *   <li>Index: the file offset of every record, sorted by the UTF-8 bytes of its distinguishing
+ *       path (for binary search in {@link #get(CldrPath)}).
+ *   <li>Records, in DTD order: distinguishing path, full path (or {@code -1} if it is the same as
+ *       the distinguishing path) and value, each as a length followed by UTF-8 bytes.
+ * </ul>
+ *
+ * <p>Note that the paths of values read from this data do not retain their draft status, since
+ * filtering by draft status happened when the data was written.
+ */
+final class MappedData implements CldrData {
+    private static final int MAGIC = 0x434C4450; // "CLDP"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    // Written in place of the full path length when it's the same as the distinguishing path.
+    private static final int SAME_AS_PATH = -1;
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int recordsOffset;
+
+    private MappedData(ByteBuffer buffer, int count) {
+        this.buffer = buffer;
+        this.count = count;
+        this.recordsOffset = HEADER_SIZE + 4 * count;
+    }
+
+    /**
+     * Maps a file written by {@link #write(CldrData, Path)}.
+     *
+     * @throws IOException if the file cannot be read or was not written by this class.
+     */
+    static MappedData open(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() < HEADER_SIZE
+                || buffer.getInt(0) != MAGIC
+                || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("not a precompiled CLDR data file: " + file);
+        }
+        return new MappedData(buffer, buffer.getInt(8));
+    }
+
+    /** Returns the number of values in this data. */
+    int size() {
+        return count;
+    }
+
+    @Override
+    public void accept(PathOrder order, ValueVisitor visitor) {
+        // Each visitation reads from its own view of the buffer, so concurrent visitation is safe.
+        ByteBuffer in = buffer.duplicate();
+        in.position(recordsOffset);
+        Map<AttributeKey, String> valueAttributes = new LinkedHashMap<>();
+        // See CldrFileDataSource for how the reversed view of this stack is used.
+        List<CldrPath> previousElementStack = new ArrayList<>();
+        List<CldrPath> previousElements = Lists.reverse(previousElementStack);
+        for (int n = 0; n < count; n++) {
+            CldrValue value = readValue(in, previousElements, valueAttributes);
+            visitor.visit(value);
+            previousElementStack.clear();
+            for (CldrPath p = value.getPath(); p != null; p = p.getParent()) {
+                previousElementStack.add(p);
+            }
+        }
+    }
+
+    @Override
+    /* @Nullable */
+    public CldrValue get(CldrPath path) {
+        byte[] key = path.toString().getBytes(UTF_8);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int offset = buffer.getInt(HEADER_SIZE + 4 * mid);
+            int cmp = comparePath(offset, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                ByteBuffer in = buffer.duplicate();
+                in.position(offset);
+                return readValue(in, ImmutableList.of(), new LinkedHashMap<>());
+            }
+        }
+        return null;
+    }
+
+    // Compares the distinguishing path of the record at the offset with the key, in the same
+    // (unsigned lexicographical) order used to sort the index. Uses absolute reads only.
+    private int comparePath(int offset, byte[] key) {
+        int length = buffer.getInt(offset);
+        int start = offset + 4;
+        for (int i = 0, end = Math.min(length, key.length); i < end; i++) {
+            int cmp = UnsignedBytes.compare(buffer.get(start + i), key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private static CldrValue readValue(
+            ByteBuffer in,
+            List<CldrPath> previousElements,
+            Map<AttributeKey, String> valueAttributes) {
+        int pathLength = in.getInt();
+        int pathStart = in.position();
+        in.position(pathStart + pathLength);
+        int fullPathLength = in.getInt();
+        String fullPath;
+        if (fullPathLength == SAME_AS_PATH) {
+            int end = in.position();
+            in.position(pathStart);
+            fullPath = readString(in, pathLength);
+            in.position(end);
+        } else {
+            fullPath = readString(in, fullPathLength);
+        }
+        String value = readString(in, in.getInt());
+        valueAttributes.clear();
+        CldrPath path = CldrPaths.processXPath(fullPath, previousElements, valueAttributes::put);
+        return CldrValue.create(value, valueAttributes, path);
+    }
+
+    private static String readString(ByteBuffer in, int length) {
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Writes all the values of the given data to a file which can be mapped by {@link
+     * #open(Path)}. The file is written to a temporary file first and then moved into place, so a
+     * reader never sees a partial file.
+     *
+     * @return the number of values written.
+     */
+    static int write(CldrData data, Path file) throws IOException {
+        RecordWriter records = new RecordWriter();
+        try {
+            data.accept(DTD, records);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        int count = records.paths.size();
+        Comparator<byte[]> byteOrder = UnsignedBytes.lexicographicalComparator();
+        int[] index =
+                IntStream.range(0, count)
+                        .boxed()
+                        .sorted(Comparator.comparing(records.paths::get, byteOrder))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(count);
+            int recordsOffset = HEADER_SIZE + 4 * count;
+            for (int n : index) {
+                out.writeInt(recordsOffset + records.offsets.get(n));
+            }
+            records.bytes.writeTo(out);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        return count;
+    }
+
+    /** Serializes visited values as records, noting their distinguishing paths and offsets. */
+    private static final class RecordWriter implements ValueVisitor {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final List<byte[]> paths = new ArrayList<>();
+        private final List<Integer> offsets = new ArrayList<>();
+
+        @Override
+        public void visit(CldrValue value) {
+            String path = value.getPath().toString();
+            String fullPath = value.getFullPath();
+            byte[] pathBytes = path.getBytes(UTF_8);
+            paths.add(pathBytes);
+            offsets.add(bytes.size());
+            try {
+                out.writeInt(pathBytes.length);
+                out.write(pathBytes);
+                if (fullPath.equals(path)) {
+                    out.writeInt(SAME_AS_PATH);
+                } else {
+                    writeString(fullPath);
+                }
+                writeString(value.getValue());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeString(String s) throws IOException {
+            byte[] b = s.getBytes(UTF_8);
+            out.writeInt(b.length);
+            out.write(b);
+        }
+    }
+}
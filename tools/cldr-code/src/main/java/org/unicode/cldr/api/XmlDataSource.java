@@ -3,33 +3,37 @@ package org.unicode.cldr.api;
 import static com.google.common.base.CharMatcher.whitespace;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static java.util.Comparator.comparing;
 
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multiset;
+import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.unicode.cldr.api.CldrDataSupplier.ParseStatistics;
 import org.xml.sax.Attributes;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
@@ -50,13 +54,11 @@ final class XmlDataSource implements CldrData {
     private final CldrDraftStatus minimalDraftStatus;
     private final Function<Path, Reader> openFn;
 
-    // Memoized data map to avoid loading/parsing files more than once.
-    private volatile ImmutableMap<CldrPath, CldrValue> pathValueMap = null;
-    // Whether the memoized map is in DTD order (we re-sort after it's cached).
-    private volatile boolean isDtdOrder = false;
-    // Lock to protect state of memoized map and ordering flag. These fields are volatile because
-    // we're using "double checked locking" to read the cached map.
+    // Memoized data to avoid loading/parsing files more than once. This field is volatile because
+    // we're using "double checked locking" to read the cached data.
     // See: https://en.wikipedia.org/wiki/Double-checked_locking#Usage_in_Java
+    private volatile ParsedData parsedData = null;
+    // Lock to protect parsing, so that concurrent callers wait for the first parse to complete.
     private final Object cacheLock = new Object();
 
     // TODO: Handle draft status properly (it's a METADATA attribute).
@@ -89,49 +91,82 @@ final class XmlDataSource implements CldrData {
         this.openFn = checkNotNull(openFn);
     }
 
-    private Map<CldrPath, CldrValue> getPathValueMap(PathOrder order) {
-        // XML is always at least using nested grouping, so the only question is whether to sort it
-        // into DTD order or not. Obviously this changes if there's ever another ordering possible.
-        boolean mustSort = (order == PathOrder.DTD);
-        ImmutableMap<CldrPath, CldrValue> localMapRef = pathValueMap;
-        if (localMapRef == null) {
-            Map<CldrPath, CldrValue> map = mustSort ? new TreeMap<>() : new LinkedHashMap<>();
-            read(value -> map.put(value.getPath(), value), dtdType, true);
-            // Avoid work with the lock held...
-            localMapRef = ImmutableMap.copyOf(map);
-            // There's a race condition here whereby two threads can decide to create the map
-            // but in different orders and then the flags get out of sync with the map contents.
-            synchronized (cacheLock) {
-                if (pathValueMap == null) {
-                    this.pathValueMap = localMapRef;
-                    this.isDtdOrder = mustSort;
-                    return localMapRef;
-                }
-            }
+    /**
+     * The parsed values of the XML files, keyed by path in "encounter" order (which is always at
+     * least nested grouping). The list of values in DTD order is derived once on demand, so no
+     * visitation ever needs to sort or re-parse the data.
+     */
+    private static final class ParsedData {
+        private final ImmutableMap<CldrPath, CldrValue> pathValueMap;
+        private final Supplier<ImmutableList<CldrValue>> dtdOrder;
+        private final ParseStatistics statistics;
+
+        ParsedData(ImmutableMap<CldrPath, CldrValue> pathValueMap, ParseStatistics statistics) {
+            this.pathValueMap = pathValueMap;
+            this.dtdOrder =
+                    Suppliers.memoize(
+                            () ->
+                                    ImmutableList.sortedCopyOf(
+                                            comparing(CldrValue::getPath), pathValueMap.values()));
+            this.statistics = statistics;
+        }
+
+        Collection<CldrValue> getValues(PathOrder order) {
+            // XML is always at least using nested grouping, so the only question is whether to
+            // use DTD order or not. Obviously this changes if there's ever another ordering.
+            return order == PathOrder.DTD ? dtdOrder.get() : pathValueMap.values();
         }
-        // Path value map exists, but might need resorting (don't read the dtd order earlier since
-        // it could have just been modified by another thread).
-        if (mustSort && !isDtdOrder) {
-            ImmutableMap.Builder<CldrPath, CldrValue> map = ImmutableSortedMap.naturalOrder();
-            localMapRef = map.putAll(pathValueMap).build();
+    }
+
+    private ParsedData getParsedData() {
+        ParsedData localRef = parsedData;
+        if (localRef == null) {
             synchronized (cacheLock) {
-                if (!isDtdOrder) {
-                    this.pathValueMap = localMapRef;
-                    this.isDtdOrder = true;
+                localRef = parsedData;
+                if (localRef == null) {
+                    localRef = parse();
+                    parsedData = localRef;
                 }
             }
         }
-        return localMapRef;
+        return localRef;
+    }
+
+    private ParsedData parse() {
+        long start = System.nanoTime();
+        Map<CldrPath, CldrValue> map = new LinkedHashMap<>();
+        read(value -> map.put(value.getPath(), value), dtdType, true);
+        ImmutableMap<CldrPath, CldrValue> pathValueMap = ImmutableMap.copyOf(map);
+        long parseNanos = System.nanoTime() - start;
+
+        // Path elements are shared between values, so count the distinct instances retained.
+        Set<CldrPath> pathElements = Sets.newIdentityHashSet();
+        for (CldrPath path : pathValueMap.keySet()) {
+            for (CldrPath p = path; p != null && pathElements.add(p); p = p.getParent()) {}
+        }
+        return new ParsedData(
+                pathValueMap,
+                new ParseStatistics(
+                        xmlFiles.size(), pathValueMap.size(), pathElements.size(), parseNanos));
+    }
+
+    /**
+     * Returns statistics about the parsing of the XML files for this data, or {@link
+     * ParseStatistics#NONE} if the files have not been parsed yet. This never causes parsing.
+     */
+    ParseStatistics getParseStatistics() {
+        ParsedData localRef = parsedData;
+        return localRef != null ? localRef.statistics : ParseStatistics.NONE;
     }
 
     @Override
     public void accept(PathOrder order, ValueVisitor visitor) {
-        getPathValueMap(order).values().forEach(visitor::visit);
+        getParsedData().getValues(order).forEach(visitor::visit);
     }
 
     @Override
     public CldrValue get(CldrPath path) {
-        return getPathValueMap(PathOrder.ARBITRARY).get(path);
+        return getParsedData().pathValueMap.get(path);
     }
 
     // Helper used to open files but which allows alternate implementation for in-memory testing.
@@ -0,0 +1,184 @@
+package org.unicode.cldr.json;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records, for each input file converted by {@link Ldml2JsonConverter}, a hash of everything its
+ * JSON output depends on, and how many values were written. An incremental run only converts files
+ * whose hash differs from the one recorded by the previous run.
+ *
+ * <p>The manifest is a text file with one line per file: name, hash, and value count, separated by
+ * tabs. It lives in the output directory, so cleaning the output also forces a full run.
+ *
+ * <p>The converter code itself is not hashed: a change to it that changes the output must come with
+ * a new {@link org.unicode.cldr.util.CLDRFile#GEN_VERSION}, which is part of the settings.
+ */
+class ConversionManifest {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final File file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<File, String> fileHashes = new ConcurrentHashMap<>();
+
+    static final class Entry {
+        final String hash;
+        final int valueCount;
+
+        Entry(String hash, int valueCount) {
+            this.hash = hash;
+            this.valueCount = valueCount;
+        }
+    }
+
+    /** Open the manifest in the file, which need not exist yet. */
+    ConversionManifest(File file) throws IOException {
+        this.file = file;
+        if (file.exists()) {
+            try (BufferedReader in = Files.newBufferedReader(file.toPath())) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String[] parts = line.split("\t");
+                    if (parts.length == 3) {
+                        entries.put(parts[0], new Entry(parts[1], Integer.parseInt(parts[2])));
+                    }
+                }
+            }
+        }
+    }
+
+    /** Returns true if the file was converted from inputs with this hash. */
+    boolean isCurrent(String name, String hash) {
+        Entry entry = entries.get(name);
+        return entry != null && entry.hash.equals(hash);
+    }
+
+    /** The number of values written when the file was last converted. */
+    int getValueCount(String name) {
+        Entry entry = entries.get(name);
+        return entry == null ? 0 : entry.valueCount;
+    }
+
+    void put(String name, String hash, int valueCount) {
+        entries.put(name, new Entry(hash, valueCount));
+    }
+
+    void remove(String name) {
+        entries.remove(name);
+    }
+
+    /** Write the manifest, replacing the old one in a single step. */
+    void save() throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try (PrintWriter out =
+                new PrintWriter(Files.newBufferedWriter(temp.toPath(), StandardCharsets.UTF_8))) {
+            for (Map.Entry<String, Entry> entry : new TreeMap<>(entries).entrySet()) {
+                out.println(
+                        entry.getKey()
+                                + "\t"
+                                + entry.getValue().hash
+                                + "\t"
+                                + entry.getValue().valueCount);
+            }
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Hash the settings plus the contents of the files. Missing files hash differently from empty
+     * ones, so adding or removing an input also changes the result.
+     */
+    String hash(String settings, Collection<File> inputs) throws IOException {
+        MessageDigest digest = newDigest();
+        digest.update(settings.getBytes(StandardCharsets.UTF_8));
+        for (File input : inputs) {
+            digest.update((byte) 0);
+            digest.update(input.getPath().getBytes(StandardCharsets.UTF_8));
+            digest.update(getFileHash(input).getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(digest.digest());
+    }
+
+    /** Hash all the files in a directory whose names end with the suffix, in name order. */
+    String hashDirectory(File dir, String suffix) throws IOException {
+        File[] files = dir.listFiles((d, name) -> name.endsWith(suffix));
+        if (files == null) {
+            throw new IOException("Can't list " + dir);
+        }
+        Arrays.sort(files);
+        return hash(dir.getPath(), Arrays.asList(files));
+    }
+
+    /**
+     * Hash the contents of resources loaded relative to the class, such as the default
+     * configuration files, in the given order.
+     */
+    String hashResources(Class<?> c, Collection<String> names) throws IOException {
+        MessageDigest digest = newDigest();
+        for (String name : names) {
+            digest.update((byte) 0);
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = c.getResourceAsStream(name)) {
+                String hash = in == null ? "-" : getStreamHash(in);
+                digest.update(hash.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /** The hash of one file's contents, computed once per run since parents are widely shared. */
+    private String getFileHash(File input) throws IOException {
+        String result = fileHashes.get(input);
+        if (result == null) {
+            if (!input.isFile()) {
+                result = "-";
+            } else {
+                try (InputStream in = Files.newInputStream(input.toPath())) {
+                    result = getStreamHash(in);
+                }
+            }
+            fileHashes.put(input, result);
+        }
+        return result;
+    }
+
+    private static String getStreamHash(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[1 << 16];
+        int length;
+        while ((length = in.read(buffer)) > 0) {
+            digest.update(buffer, 0, length);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; ++i) {
+            result[2 * i] = HEX[(bytes[i] >> 4) & 0xF];
+            result[2 * i + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(result);
+    }
+}
@@ -21,7 +21,9 @@ import java.io.PrintWriter;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -31,7 +33,9 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -237,7 +241,19 @@ public class Ldml2JsonConverter {
                             'M',
                             "(true|false)",
                             "true",
-                            "Whether to include the -modern tier");
+                            "Whether to include the -modern tier")
+                    .add(
+                            "shareSections",
+                            'S',
+                            "(true|false)",
+                            "true",
+                            "Whether to build each section once for both the -modern and -full tiers, and write it with a JsonWriter rather than via a String. The output is identical.")
+                    .add(
+                            "incremental",
+                            'I',
+                            "(true|false)",
+                            "false",
+                            "Whether to only convert files whose inputs changed since the last incremental run into the same destdir");
 
     public static void main(String[] args) throws Exception {
         System.out.println(GEAR_ICON + " " + Ldml2JsonConverter.class.getName() + " options:");
@@ -288,7 +304,9 @@ public class Ldml2JsonConverter {
                         Boolean.parseBoolean(options.get("bcp47").getValue()),
                         Boolean.parseBoolean(options.get("bcp47-no-subtags").getValue()),
                         Boolean.parseBoolean(options.get("Modern").getValue()),
-                        Boolean.parseBoolean(options.get("Redundant").getValue()));
+                        Boolean.parseBoolean(options.get("Redundant").getValue()),
+                        Boolean.parseBoolean(options.get("shareSections").getValue()),
+                        Boolean.parseBoolean(options.get("incremental").getValue()));
 
         DraftStatus status = DraftStatus.valueOf(options.get("draftstatus").getValue());
         l2jc.processDirectory(runType, status);
@@ -313,6 +331,14 @@ public class Ldml2JsonConverter {
     private final RunType type;
     // include Redundant data such as apc="apc", en_US="en (US)"
     private boolean includeRedundant;
+    // Whether to build each section once for all its output directories
+    private final boolean shareSections;
+    // The number of section trees built, see getSectionsBuilt()
+    private final AtomicInteger sectionsBuilt = new AtomicInteger();
+    // Whether to skip files whose inputs are unchanged since the last incremental run
+    private final boolean incremental;
+    // The configuration file, or null for the default
+    private final String configFile;
 
     static class JSONSection implements Comparable<JSONSection> {
         public String section;
@@ -348,7 +374,9 @@ public class Ldml2JsonConverter {
             boolean strictBcp47,
             boolean skipBcp47LocalesWithSubtags,
             boolean writeModernPackage,
-            boolean includeRedundant) {
+            boolean includeRedundant,
+            boolean shareSections,
+            boolean incremental) {
         this.writeModernPackage = writeModernPackage;
         this.strictBcp47 = strictBcp47;
         this.skipBcp47LocalesWithSubtags = strictBcp47 && skipBcp47LocalesWithSubtags;
@@ -376,6 +404,18 @@ public class Ldml2JsonConverter {
         this.sections = configFileReader.getSections();
         this.packages = new TreeSet<>();
         this.includeRedundant = includeRedundant;
+        this.shareSections = shareSections;
+        this.incremental = incremental;
+        this.configFile = configFile;
+    }
+
+    /**
+     * Get the number of section trees built so far, for tests of shareSections.
+     *
+     * @return the number of calls to buildSection
+     */
+    public int getSectionsBuilt() {
+        return sectionsBuilt.get();
     }
 
     /**
@@ -654,6 +694,8 @@ public class Ldml2JsonConverter {
      *
      * @param file CLDRFile object.
      * @param outFilename The file name used to save JSON data.
+     * @param sectionItems The items for each section, or null if the file is unchanged since the
+     *     last incremental run, in which case only the package bookkeeping is done.
      * @throws IOException
      * @throws ParseException
      * @return total items written in all files. (if 0, file had no effect)
@@ -765,7 +807,13 @@ public class Ldml2JsonConverter {
                     packages.add(CLDR_PKG_PREFIX + js.packageName + FULL_TIER_SUFFIX);
                 }
 
+                // With shareSections, the section is built once and written to each directory.
+                JsonObject out = null;
+                int valueCount = 0;
                 for (String outputDir : outputDirs) {
+                    if (sectionItems == null) {
+                        continue; // unchanged since the last incremental run
+                    }
                     List<CldrItem> theItems = sectionItems.get(js);
                     if (theItems == null || theItems.size() == 0) {
                         logger.fine(
@@ -791,116 +839,19 @@ public class Ldml2JsonConverter {
                     if (!dir.exists()) {
                         dir.mkdirs();
                     }
-                    JsonObject out = new JsonObject(); // root object for writing
-
-                    ArrayList<CldrItem> sortingItems = new ArrayList<>();
-                    ArrayList<CldrItem> arrayItems = new ArrayList<>();
-
-                    ArrayList<CldrNode> nodesForLastItem = new ArrayList<>();
-                    String lastLeadingArrayItemPath = null;
-                    String leadingArrayItemPath = "";
-                    int valueCount = 0;
-                    String previousIdentityPath = null;
-                    for (CldrItem item : theItems) {
-                        if (item.getPath().isEmpty()) {
-                            throw new IllegalArgumentException(
-                                    "empty xpath in "
-                                            + filename
-                                            + " section "
-                                            + js.packageName
-                                            + "/"
-                                            + js.section);
-                        }
-                        if (type == RunType.rbnf) {
-                            item.adjustRbnfPath();
-                        }
-
-                        // items in the identity section of a file should only ever contain the
-                        // lowest level, even if using
-                        // resolving source, so if we have duplicates ( caused by attributes used as
-                        // a value ) then suppress
-                        // them here.
-                        if (item.getPath().contains("/identity/")) {
-                            String[] parts = item.getPath().split("\\[");
-                            if (parts[0].equals(previousIdentityPath)) {
-                                continue;
-                            } else {
-                                XPathParts xpp = XPathParts.getFrozenInstance(item.getPath());
-                                String territory = xpp.findAttributeValue("territory", "type");
-                                LocaleIDParser lp = new LocaleIDParser().set(filename);
-                                if (territory != null
-                                        && territory.length() > 0
-                                        && !territory.equals(lp.getRegion())) {
-                                    continue;
-                                }
-                                previousIdentityPath = parts[0];
-                            }
-                        }
-
-                        // some items need to be split to multiple item before processing. None
-                        // of those items need to be sorted.
-                        // Applies to SPLITTABLE_ATTRS attributes.
-                        CldrItem[] items = item.split();
-                        if (items == null) {
-                            // Nothing to split. Make it a 1-element array.
-                            items = new CldrItem[1];
-                            items[0] = item;
-                        }
-                        valueCount += items.length;
-
-                        // Hard code this part.
-                        if (item.getUntransformedPath().contains("unitPreference")) {
-                            // Need to do more transforms on this one, so just output version/etc
-                            // here.
-                            continue;
-                        }
-
-                        for (CldrItem newItem : items) {
-                            // alias will be dropped in conversion, don't count it.
-                            if (newItem.isAliasItem()) {
-                                valueCount--;
-                            }
-
-                            // Items like zone items need to be sorted first before write them out.
-                            if (newItem.needsSort()) {
-                                resolveArrayItems(out, nodesForLastItem, arrayItems);
-                                sortingItems.add(newItem);
-                            } else {
-                                Matcher matcher =
-                                        LdmlConvertRules.ARRAY_ITEM_PATTERN.matcher(
-                                                newItem.getPath());
-                                if (matcher.matches()) {
-                                    resolveSortingItems(out, nodesForLastItem, sortingItems);
-                                    leadingArrayItemPath = matcher.group(1);
-                                    if (lastLeadingArrayItemPath != null
-                                            && !lastLeadingArrayItemPath.equals(
-                                                    leadingArrayItemPath)) {
-                                        resolveArrayItems(out, nodesForLastItem, arrayItems);
-                                    }
-                                    lastLeadingArrayItemPath = leadingArrayItemPath;
-                                    arrayItems.add(newItem);
-                                } else {
-                                    // output a single item
-                                    resolveSortingItems(out, nodesForLastItem, sortingItems);
-                                    resolveArrayItems(out, nodesForLastItem, arrayItems);
-                                    outputCldrItem(out, nodesForLastItem, newItem);
-                                    lastLeadingArrayItemPath = "";
-                                }
-                            }
-                        }
-                    }
-
-                    resolveSortingItems(out, nodesForLastItem, sortingItems);
-                    resolveArrayItems(out, nodesForLastItem, arrayItems);
-                    if (js.section.contains("unitPreferenceData")) {
-                        outputUnitPreferenceData(js, theItems, out, nodesForLastItem);
+                    if (out == null || !shareSections) {
+                        out = new JsonObject(); // root object for writing
+                        valueCount = buildSection(out, theItems, filename, js);
                     }
 
-                    // closeNodes(out, nodesForLastItem.size() - 2, 0);
-
                     // write JSON
                     try (PrintWriter outf = FileUtilities.openUTF8Writer(outputDir, outFilename)) {
-                        outf.println(gson.toJson(out));
+                        if (shareSections) {
+                            gson.toJson(out, gson.newJsonWriter(outf));
+                            outf.println();
+                        } else {
+                            outf.println(gson.toJson(out));
+                        }
                     }
 
                     String outPath =
@@ -930,6 +881,12 @@ public class Ldml2JsonConverter {
                             progressPrefix(readCount, totalCount),
                             filename,
                             valueSectionsFormat(totalItemsInFile, outputProgress.size())));
+        } else if (sectionItems == null) {
+            outStr.append(
+                    String.format(
+                            "%s%-12s\t(unchanged)\n",
+                            progressPrefix(readCount, totalCount),
+                            filename));
         } else {
             outStr.append(
                     String.format(
@@ -943,6 +900,122 @@ public class Ldml2JsonConverter {
         return totalItemsInFile;
     }
 
+    /**
+     * Build the JSON tree for one section of a file.
+     *
+     * @param out The root object for the section.
+     * @param theItems The items in the section, in path order.
+     * @return the number of values in the section.
+     * @throws IOException
+     * @throws ParseException
+     */
+    private int buildSection(
+            JsonObject out, List<CldrItem> theItems, String filename, JSONSection js)
+            throws IOException, ParseException {
+        sectionsBuilt.incrementAndGet();
+        ArrayList<CldrItem> sortingItems = new ArrayList<>();
+        ArrayList<CldrItem> arrayItems = new ArrayList<>();
+
+        ArrayList<CldrNode> nodesForLastItem = new ArrayList<>();
+        String lastLeadingArrayItemPath = null;
+        String leadingArrayItemPath = "";
+        int valueCount = 0;
+        String previousIdentityPath = null;
+        for (CldrItem item : theItems) {
+            if (item.getPath().isEmpty()) {
+                throw new IllegalArgumentException(
+                        "empty xpath in "
+                                + filename
+                                + " section "
+                                + js.packageName
+                                + "/"
+                                + js.section);
+            }
+            if (type == RunType.rbnf) {
+                item.adjustRbnfPath();
+            }
+
+            // items in the identity section of a file should only ever contain the
+            // lowest level, even if using
+            // resolving source, so if we have duplicates ( caused by attributes used as
+            // a value ) then suppress
+            // them here.
+            if (item.getPath().contains("/identity/")) {
+                String[] parts = item.getPath().split("\\[");
+                if (parts[0].equals(previousIdentityPath)) {
+                    continue;
+                } else {
+                    XPathParts xpp = XPathParts.getFrozenInstance(item.getPath());
+                    String territory = xpp.findAttributeValue("territory", "type");
+                    LocaleIDParser lp = new LocaleIDParser().set(filename);
+                    if (territory != null
+                            && territory.length() > 0
+                            && !territory.equals(lp.getRegion())) {
+                        continue;
+                    }
+                    previousIdentityPath = parts[0];
+                }
+            }
+
+            // some items need to be split to multiple item before processing. None
+            // of those items need to be sorted.
+            // Applies to SPLITTABLE_ATTRS attributes.
+            CldrItem[] items = item.split();
+            if (items == null) {
+                // Nothing to split. Make it a 1-element array.
+                items = new CldrItem[1];
+                items[0] = item;
+            }
+            valueCount += items.length;
+
+            // Hard code this part.
+            if (item.getUntransformedPath().contains("unitPreference")) {
+                // Need to do more transforms on this one, so just output version/etc
+                // here.
+                continue;
+            }
+
+            for (CldrItem newItem : items) {
+                // alias will be dropped in conversion, don't count it.
+                if (newItem.isAliasItem()) {
+                    valueCount--;
+                }
+
+                // Items like zone items need to be sorted first before write them out.
+                if (newItem.needsSort()) {
+                    resolveArrayItems(out, nodesForLastItem, arrayItems);
+                    sortingItems.add(newItem);
+                } else {
+                    Matcher matcher =
+                            LdmlConvertRules.ARRAY_ITEM_PATTERN.matcher(newItem.getPath());
+                    if (matcher.matches()) {
+                        resolveSortingItems(out, nodesForLastItem, sortingItems);
+                        leadingArrayItemPath = matcher.group(1);
+                        if (lastLeadingArrayItemPath != null
+                                && !lastLeadingArrayItemPath.equals(leadingArrayItemPath)) {
+                            resolveArrayItems(out, nodesForLastItem, arrayItems);
+                        }
+                        lastLeadingArrayItemPath = leadingArrayItemPath;
+                        arrayItems.add(newItem);
+                    } else {
+                        // output a single item
+                        resolveSortingItems(out, nodesForLastItem, sortingItems);
+                        resolveArrayItems(out, nodesForLastItem, arrayItems);
+                        outputCldrItem(out, nodesForLastItem, newItem);
+                        lastLeadingArrayItemPath = "";
+                    }
+                }
+            }
+        }
+
+        resolveSortingItems(out, nodesForLastItem, sortingItems);
+        resolveArrayItems(out, nodesForLastItem, arrayItems);
+        if (js.section.contains("unitPreferenceData")) {
+            outputUnitPreferenceData(js, theItems, out, nodesForLastItem);
+        }
+        return valueCount;
+    }
+
     private static String valueSectionsFormat(int values, int sections) {
         return MessageFormat.format(
                 "({0, plural,  one {# value} other {# values}} in {1, plural, one {# section} other {# sections}})",
@@ -2019,80 +2092,137 @@ public class Ldml2JsonConverter {
                                 GEAR_ICON
                                         + " Beginning parallel process of {0, plural, one {# file} other {# files}}",
                                 total));
+        // Load the files and their parents up front, so that each parent is parsed only once
+        // rather than by several threads racing to make the same file.
+        // In incremental mode, only the files whose inputs changed are loaded and converted.
+        final ConversionManifest manifest =
+                incremental
+                        ? new ConversionManifest(
+                                new File(outputDir, ".ldml2json-" + dirName + ".manifest"))
+                        : null;
+        final Map<String, String> inputHashes = new TreeMap<>();
+        final Set<String> changedFiles;
+        if (incremental) {
+            changedFiles =
+                    getChangedFiles(
+                            cldrFactory, files, sdi, minimalDraftStatus, manifest, inputHashes);
+            System.out.println(
+                    progressPrefix(0, total)
+                            + " "
+                            + MessageFormat.format(
+                                    GEAR_ICON
+                                            + " Incremental: {0, plural, one {# file} other {# files}} changed",
+                                    changedFiles.size()));
+        } else {
+            changedFiles = files;
+        }
+        cldrFactory.prefetch(changedFiles, resolve && type == RunType.main, minimalDraftStatus);
+        // When resolving, convert each locale before its children, so that they can be resolved
+        // from its file instead of from scratch. Otherwise, every file is at the top level.
+        final boolean shareParents = resolve && type == RunType.main;
+        final Map<String, List<String>> childrenOf = new HashMap<>();
+        final List<String> topFiles = new ArrayList<>();
+        for (String filename : files) {
+            final String parent = shareParents ? LocaleIDParser.getParent(filename) : null;
+            if (parent != null && files.contains(parent)) {
+                childrenOf.computeIfAbsent(parent, k -> new ArrayList<>()).add(filename);
+            } else {
+                topFiles.add(filename);
+            }
+        }
+        // the resolved files of the locales whose children are being converted
+        final Map<String, CLDRFile> resolvedParents = new ConcurrentHashMap<>();
+        final Function<String, Pair<String, Integer>> convertFile =
+                filename -> {
+                    String pathPrefix;
+                    final boolean unchanged = !changedFiles.contains(filename);
+                    final CLDRFile file;
+                    if (unchanged) {
+                        file = null;
+                    } else if (shareParents) {
+                        final String parent = LocaleIDParser.getParent(filename);
+                        file =
+                                cldrFactory.makeResolvedChild(
+                                        filename,
+                                        parent == null ? null : resolvedParents.get(parent),
+                                        minimalDraftStatus);
+                    } else {
+                        file = cldrFactory.make(filename, false, minimalDraftStatus);
+                    }
+                    // Print 'reading' after the make, to stagger the output a
+                    // little bit.
+                    // Otherwise, the printout happens before any work happens, and
+                    // is easily out of order.
+                    readCount.incrementAndGet();
+                    logger.fine(
+                            () ->
+                                    "<"
+                                            + progressPrefix(readCount, total, dirName, filename)
+                                            + "\r");
+
+                    if (type == RunType.main) {
+                        pathPrefix =
+                                "/cldr/" + dirName + "/" + unicodeLocaleToString(filename) + "/";
+                    } else {
+                        pathPrefix = "/cldr/" + dirName + "/";
+                    }
+                    int totalForThisFile = 0;
+                    try {
+                        totalForThisFile =
+                                convertCldrItems(
+                                        readCount,
+                                        total,
+                                        dirName,
+                                        filename,
+                                        pathPrefix,
+                                        unchanged
+                                                ? null
+                                                : mapPathsToSections(
+                                                        readCount, total, file, pathPrefix, sdi));
+                        if (file != null && childrenOf.containsKey(filename)) {
+                            resolvedParents.put(filename, file);
+                        }
+                        if (unchanged) {
+                            totalForThisFile = manifest.getValueCount(filename);
+                        } else if (incremental) {
+                            manifest.put(filename, inputHashes.get(filename), totalForThisFile);
+                        }
+                    } catch (IOException | ParseException t) {
+                        t.printStackTrace();
+                        System.err.println(
+                                "!"
+                                        + progressPrefix(readCount, total)
+                                        + filename
+                                        + " - err - "
+                                        + t);
+                        errs.put(filename, t);
+                        if (incremental) {
+                            manifest.remove(filename);
+                        }
+                    } finally {
+                        logger.fine(
+                                () ->
+                                        "."
+                                                + progressPrefix(readCount, total)
+                                                + "Completing "
+                                                + dirName
+                                                + "/"
+                                                + filename);
+                    }
+                    return new Pair<>(dirName + "/" + filename, totalForThisFile);
+                };
+        final List<Pair<String, Integer>> results =
+                Collections.synchronizedList(new ArrayList<>());
+        convertTree(topFiles, childrenOf, resolvedParents, convertFile, results);
         Object noOutputFiles[] =
-                files.parallelStream()
-                        .unordered()
-                        .map(
-                                filename -> {
-                                    String pathPrefix;
-                                    CLDRFile file =
-                                            cldrFactory.make(
-                                                    filename,
-                                                    resolve && type == RunType.main,
-                                                    minimalDraftStatus);
-                                    // Print 'reading' after the make, to stagger the output a
-                                    // little bit.
-                                    // Otherwise, the printout happens before any work happens, and
-                                    // is easily out of order.
-                                    readCount.incrementAndGet();
-                                    logger.fine(
-                                            () ->
-                                                    "<"
-                                                            + progressPrefix(
-                                                                    readCount, total, dirName,
-                                                                    filename)
-                                                            + "\r");
-
-                                    if (type == RunType.main) {
-                                        pathPrefix =
-                                                "/cldr/"
-                                                        + dirName
-                                                        + "/"
-                                                        + unicodeLocaleToString(filename)
-                                                        + "/";
-                                    } else {
-                                        pathPrefix = "/cldr/" + dirName + "/";
-                                    }
-                                    int totalForThisFile = 0;
-                                    try {
-                                        totalForThisFile =
-                                                convertCldrItems(
-                                                        readCount,
-                                                        total,
-                                                        dirName,
-                                                        filename,
-                                                        pathPrefix,
-                                                        mapPathsToSections(
-                                                                readCount,
-                                                                total,
-                                                                file,
-                                                                pathPrefix,
-                                                                sdi));
-                                    } catch (IOException | ParseException t) {
-                                        t.printStackTrace();
-                                        System.err.println(
-                                                "!"
-                                                        + progressPrefix(readCount, total)
-                                                        + filename
-                                                        + " - err - "
-                                                        + t);
-                                        errs.put(filename, t);
-                                    } finally {
-                                        logger.fine(
-                                                () ->
-                                                        "."
-                                                                + progressPrefix(readCount, total)
-                                                                + "Completing "
-                                                                + dirName
-                                                                + "/"
-                                                                + filename);
-                                    }
-                                    return new Pair<>(dirName + "/" + filename, totalForThisFile);
-                                })
+                results.stream()
                         .filter(p -> p.getSecond() == 0) // filter out only files which produced no
                         // output
                         .map(p -> p.getFirst())
                         .toArray();
+        if (incremental) {
+            manifest.save();
+        }
         System.out.println(
                 progressPrefix(total, total)
                         + " "
@@ -2155,6 +2285,107 @@ public class Ldml2JsonConverter {
         }
     }
 
+    /**
+     * Convert the files in parallel, and after each one, its children (if any). A parent's resolved
+     * file is only kept while its children are being converted.
+     */
+    private void convertTree(
+            Collection<String> filenames,
+            Map<String, List<String>> childrenOf,
+            Map<String, CLDRFile> resolvedParents,
+            Function<String, Pair<String, Integer>> convertFile,
+            List<Pair<String, Integer>> results) {
+        filenames.parallelStream()
+                .unordered()
+                .forEach(
+                        filename -> {
+                            results.add(convertFile.apply(filename));
+                            final List<String> children = childrenOf.get(filename);
+                            if (children != null) {
+                                convertTree(
+                                        children,
+                                        childrenOf,
+                                        resolvedParents,
+                                        convertFile,
+                                        results);
+                                resolvedParents.remove(filename);
+                            }
+                        });
+    }
+
+    /**
+     * Find the files whose inputs have changed since they were last converted, recording the hash
+     * of each file's inputs. The inputs are the file and (if resolving) its parents, the
+     * supplemental data, the validity data, the properties files (such as coverageLevels.txt, which
+     * decides the tier of each locale), the configuration file or default configuration, the path
+     * transforms, and the settings for this run.
+     *
+     * <p>Other data that is built into the tools, like the converter code itself, is not hashed:
+     * changes to it only invalidate earlier output through {@link CLDRFile#GEN_VERSION}.
+     */
+    private Set<String> getChangedFiles(
+            Factory cldrFactory,
+            Set<String> files,
+            SupplementalDataInfo sdi,
+            DraftStatus minimalDraftStatus,
+            ConversionManifest manifest,
+            Map<String, String> inputHashes)
+            throws IOException {
+        final List<String> resources = new ArrayList<>();
+        if (configFile == null) {
+            resources.add(LdmlConfigFileReader.getDefaultConfigName(type));
+        }
+        resources.add("pathTransforms.txt");
+        final String settings =
+                getRunSettings(minimalDraftStatus)
+                        + manifest.hashDirectory(sdi.getDirectory(), ".xml")
+                        + manifest.hashDirectory(new File(CLDRPaths.VALIDITY_DIRECTORY), ".xml")
+                        + manifest.hashDirectory(
+                                new File(CLDRPaths.COMMON_DIRECTORY, "properties"), ".txt")
+                        + manifest.hashResources(Ldml2JsonConverter.class, resources);
+        final Set<String> result = new TreeSet<>();
+        for (String filename : files) {
+            List<File> inputs = new ArrayList<>();
+            if (configFile != null) {
+                inputs.add(new File(configFile));
+            }
+            String locale = filename;
+            while (locale != null) {
+                List<File> dirs = cldrFactory.getSourceDirectoriesForLocale(locale);
+                if (dirs != null) {
+                    inputs.add(new File(dirs.get(0), locale + ".xml"));
+                }
+                locale = resolve && type == RunType.main ? LocaleIDParser.getParent(locale) : null;
+            }
+            String hash = manifest.hash(settings, inputs);
+            inputHashes.put(filename, hash);
+            if (!manifest.isCurrent(filename, hash)) {
+                result.add(filename);
+            }
+        }
+        return result;
+    }
+
+    /** Everything about this run, other than the input files, that affects the output. */
+    private String getRunSettings(DraftStatus minimalDraftStatus) {
+        return Arrays.asList(
+                        CLDRFile.GEN_VERSION,
+                        type,
+                        fullNumbers,
+                        resolve,
+                        coverageValue,
+                        writePackages,
+                        pkgVersion,
+                        strictBcp47,
+                        skipBcp47LocalesWithSubtags,
+                        writeModernPackage,
+                        includeRedundant,
+                        minimalDraftStatus,
+                        options.get("other").getValue(),
+                        options.get("identity").getValue())
+                .toString();
+    }
+
     /** Replacement pattern for escaping. */
     private static final Pattern escapePattern = PatternCache.get("\\\\(?!u)");
 
@@ -35,6 +35,11 @@ public class LdmlConfigFileReader {
         return dependencies;
     }
 
+    /** The name of the configuration resource that is read for the type if no file is given. */
+    static String getDefaultConfigName(RunType type) {
+        return type == RunType.main ? "JSON_config.txt" : "JSON_config_" + type.name() + ".txt";
+    }
+
     public void read(final String configFile, final RunType type) {
         FileProcessor myReader =
                 new FileProcessor() {
@@ -97,23 +102,7 @@ public class LdmlConfigFileReader {
         if (configFile != null) {
             myReader.process(configFile);
         } else {
-            switch (type) {
-                case main:
-                    myReader.process(Ldml2JsonConverter.class, "JSON_config.txt");
-                    break;
-                case supplemental:
-                    myReader.process(Ldml2JsonConverter.class, "JSON_config_supplemental.txt");
-                    break;
-                case segments:
-                    myReader.process(Ldml2JsonConverter.class, "JSON_config_segments.txt");
-                    break;
-                case rbnf:
-                    myReader.process(Ldml2JsonConverter.class, "JSON_config_rbnf.txt");
-                    break;
-                default:
-                    myReader.process(
-                            Ldml2JsonConverter.class, "JSON_config_" + type.name() + ".txt");
-            }
+            myReader.process(Ldml2JsonConverter.class, getDefaultConfigName(type));
         }
 
         // Add a section at the end of the list that will match anything not already matched.
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -1281,6 +1282,8 @@ public abstract class CheckCLDR implements CheckAccessor {
         private Matcher filter;
         private List<CheckCLDR> checkList = new ArrayList<>();
         private List<CheckCLDR> filteredCheckList = new ArrayList<>();
+        /** Nanoseconds spent in each check, when timing is on; otherwise null. */
+        private Map<Class<? extends CheckCLDR>, long[]> checkNanos = null;
 
         public CompoundCheckCLDR add(CheckCLDR item) {
             checkList.add(item);
@@ -1318,6 +1321,7 @@ public abstract class CheckCLDR implements CheckAccessor {
                         continue;
                     }
                 }
+                final long start = checkNanos == null ? 0 : System.nanoTime();
                 try {
                     if (!item.isSkipTest()) {
                         item.handleCheck(path, fullPath, value, options, result);
@@ -1325,11 +1329,41 @@ public abstract class CheckCLDR implements CheckAccessor {
                 } catch (Exception e) {
                     addError(result, item, e);
                     return this;
+                } finally {
+                    addTime(item, start);
                 }
             }
             return this;
         }
 
+        /**
+         * Turn on (or off) recording of the wall time spent in each check, in both
+         * setCldrFileToCheck and check. Turning it on resets the times.
+         */
+        public CompoundCheckCLDR setTiming(boolean timing) {
+            checkNanos = timing ? new HashMap<>() : null;
+            return this;
+        }
+
+        /**
+         * Get the wall time in nanoseconds spent in each check since timing was turned on, keyed by
+         * the simple class name of the check. Empty if timing is off.
+         */
+        public Map<String, Long> getCheckTimes() {
+            Map<String, Long> result = new TreeMap<>();
+            if (checkNanos != null) {
+                checkNanos.forEach((k, v) -> result.put(k.getSimpleName(), v[0]));
+            }
+            return result;
+        }
+
+        private void addTime(CheckCLDR item, long start) {
+            if (checkNanos != null) {
+                checkNanos.computeIfAbsent(item.getClass(), k -> new long[1])[0] +=
+                        System.nanoTime() - start;
+            }
+        }
+
         @Override
         public void handleFinish() {
             for (Iterator<CheckCLDR> it = filteredCheckList.iterator(); it.hasNext(); ) {
@@ -1392,6 +1426,7 @@ public abstract class CheckCLDR implements CheckAccessor {
                     testTime =
                             new ElapsedTimer(
                                     "Test setup time for " + item.getClass().toString() + ": {0}");
+                final long start = checkNanos == null ? 0 : System.nanoTime();
                 try {
                     item.setPhase(getPhase());
                     item.setCldrFileToCheck(cldrFileToCheck, options, possibleErrors);
@@ -1405,6 +1440,8 @@ public abstract class CheckCLDR implements CheckAccessor {
                 } catch (RuntimeException e) {
                     addError(possibleErrors, item, e);
                     if (SHOW_TIMES) System.out.println("ERR: " + testTime + " - " + e.toString());
+                } finally {
+                    addTime(item, start);
                 }
             }
             if (SHOW_TIMES) System.out.println("Overall: " + testOverallTime + ": {0}");
@@ -1463,12 +1500,15 @@ public abstract class CheckCLDR implements CheckAccessor {
     }
 
     /** A map of error/warning types to their filters. */
-    private static List<R3<Pattern, Subtype, Pattern>> allFilters;
+    private static volatile List<R3<Pattern, Subtype, Pattern>> allFilters;
 
-    /** Loads the set of filters used for CheckCLDR results. */
-    private void loadFilters() {
+    /**
+     * Loads the set of filters used for CheckCLDR results. They are only published once complete,
+     * since checks on other threads may be reading them.
+     */
+    private static synchronized void loadFilters() {
         if (allFilters != null) return;
-        allFilters = new ArrayList<>();
+        final List<R3<Pattern, Subtype, Pattern>> filters = new ArrayList<>();
         RegexFileParser fileParser = new RegexFileParser();
         fileParser.setLineParser(
                 new RegexLineParser() {
@@ -1479,10 +1519,11 @@ public abstract class CheckCLDR implements CheckAccessor {
                         Pattern locale = PatternCache.get(fields[1]);
                         Pattern xpathRegex =
                                 PatternCache.get(fields[2].replaceAll("\\[@", "\\\\[@"));
-                        allFilters.add(new R3<>(locale, subtype, xpathRegex));
+                        filters.add(new R3<>(locale, subtype, xpathRegex));
                     }
                 });
         fileParser.parse(CheckCLDR.class, "/org/unicode/cldr/util/data/CheckCLDR-exceptions.txt");
+        allFilters = filters;
     }
 
     /**
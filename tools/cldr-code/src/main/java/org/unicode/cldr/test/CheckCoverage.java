@@ -36,7 +36,7 @@ import org.unicode.cldr.util.XMLSource;
 public class CheckCoverage extends FactoryCheckCLDR {
     static final boolean DEBUG = false;
     static final boolean DEBUG_SET = false;
-    private static CoverageLevel2 coverageLevel;
+    private CoverageLevel2 coverageLevel;
     private Level requiredLevel;
 
     SupplementalDataInfo supplementalData;
@@ -129,10 +129,12 @@ public class CheckCoverage extends FactoryCheckCLDR {
         if (cldrFileToCheck == null) return this;
         setSkipTest(true);
         final String localeID = cldrFileToCheck.getLocaleID();
-        if (localeID.equals(new LanguageTagParser().set(localeID).getLanguageScript())) {
-            supplementalData =
-                    SupplementalDataInfo.getInstance(cldrFileToCheck.getSupplementalDirectory());
-            coverageLevel = CoverageLevel2.getInstance(supplementalData, localeID);
+        final String languageScript = new LanguageTagParser().set(localeID).getLanguageScript();
+        supplementalData =
+                SupplementalDataInfo.getInstance(cldrFileToCheck.getSupplementalDirectory());
+        // Sublocales are checked at the levels of their language locale.
+        coverageLevel = CoverageLevel2.getInstance(supplementalData, languageScript);
+        if (localeID.equals(languageScript)) {
             PluralInfo pluralInfo = supplementalData.getPlurals(PluralType.cardinal, localeID);
             if (pluralInfo == supplementalData.getPlurals(PluralType.cardinal, LocaleNames.ROOT)
                     && !SpecialLocales.isScratchLocale(localeID)) {
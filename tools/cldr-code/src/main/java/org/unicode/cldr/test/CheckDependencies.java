@@ -0,0 +1,56 @@
+package org.unicode.cldr.test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Which paths a change to a path may affect the CheckCLDR results of, for caches of those results.
+ *
+ * <p>Most checks only read other paths of the same kind: display names are checked for collisions
+ * with the other names of the same kind (including their alt forms), unit and currency patterns
+ * with those of the other plural categories, and so on. Such paths are put in a group, and a change
+ * to a path can only affect the results for paths in its group.
+ *
+ * <p>Other checks read paths of other kinds: CheckForExemplars reads the exemplar characters for
+ * every path, CheckNumbers the number symbols and numbering system, CheckDates other date patterns
+ * and time zone formats, and CheckDisplayCollisions compares territory names with exemplar cities
+ * and annotations. A path that is not in a known group may affect the results for any path.
+ *
+ * <p>Examples are not covered; see {@link ExampleDependencies}.
+ */
+public class CheckDependencies {
+    /**
+     * The groups, as path prefixes. Only add a prefix here if no check of a path outside it reads
+     * a path inside it. (Checks of paths inside it may read paths that are not in any group, such
+     * as the exemplars.)
+     */
+    private static final ImmutableList<String> GROUPS =
+            ImmutableList.of(
+                    "//ldml/localeDisplayNames/languages/",
+                    "//ldml/localeDisplayNames/scripts/",
+                    "//ldml/localeDisplayNames/variants/",
+                    "//ldml/localeDisplayNames/keys/",
+                    "//ldml/localeDisplayNames/types/",
+                    "//ldml/localeDisplayNames/measurementSystemNames/",
+                    "//ldml/numbers/currencies/",
+                    "//ldml/units/",
+                    "//ldml/listPatterns/",
+                    "//ldml/characterLabels/",
+                    "//ldml/typographicNames/",
+                    "//ldml/annotations/");
+
+    /**
+     * Get the group of a path, or a starred path
+     *
+     * @param path the path
+     * @return the group, such that a change to the path can only affect the results for paths of
+     *     the same group; or null if it may affect the results for any path
+     */
+    public static String getGroup(String path) {
+        for (String group : GROUPS) {
+            if (path.startsWith(group)) {
+                return group;
+            }
+        }
+        return null;
+    }
+}
@@ -29,7 +29,7 @@ public class CheckWidths extends CheckCLDR {
     // remember to add this class to the list in CheckCLDR.getCheckAll
     // to run just this test, on just locales starting with 'nl', use CheckCLDR with -fnl.*
     // -t.*CheckWidths.*
-    private static CoverageLevel2 coverageLevel;
+    private CoverageLevel2 coverageLevel;
     private Level requiredLevel;
 
     private static UnitWidthUtil UNIT_WIDTHS_UTIL = UnitWidthUtil.getInstance();
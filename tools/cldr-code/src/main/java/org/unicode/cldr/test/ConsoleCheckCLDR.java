@@ -8,9 +8,12 @@ import com.ibm.icu.lang.UCharacter;
 import com.ibm.icu.text.Collator;
 import com.ibm.icu.text.UnicodeSet;
 import com.ibm.icu.util.ULocale;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -26,7 +29,12 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.unicode.cldr.draft.FileUtilities;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus.Subtype;
@@ -215,7 +223,18 @@ public class ConsoleCheckCLDR {
         missingPaths(
                 new Params()
                         .setHelp(
-                                "include to show missing and provisional paths, at the specified level"));
+                                "include to show missing and provisional paths, at the specified level")),
+        parallel(
+                new Params()
+                        .setHelp(
+                                "Check locales concurrently on the given number of threads (0 = one per core). Not with -g, -v, -d, or -x.")
+                        .setMatch("\\d+")
+                        .setDefault("0")
+                        .setFlag('P')),
+        check_times(
+                new Params()
+                        .setHelp("Show the wall time spent in each check")
+                        .setFlag('T'));
 
         // BOILERPLATE TO COPY
         final Option option;
@@ -264,7 +283,9 @@ public class ConsoleCheckCLDR {
         UOption.create("source_all", 'S', UOption.OPTIONAL_ARG).setDefault("common,seed,exemplars"),
         UOption.create("bailey", 'b', UOption.NO_ARG),
         UOption.create("exemplarError", 'E', UOption.NO_ARG),
-        UOption.create("missingPaths", 'm', UOption.NO_ARG)
+        UOption.create("missingPaths", 'm', UOption.NO_ARG),
+        UOption.create("parallel", 'P', UOption.OPTIONAL_ARG).setDefault("0"),
+        UOption.create("check_times", 'T', UOption.NO_ARG)
     };
 
     private static final Comparator<String> baseFirstCollator =
@@ -283,9 +304,21 @@ public class ConsoleCheckCLDR {
             };
     private static final boolean PATH_IN_COUNT = false;
 
-    static Counter<ErrorType> subtotalCount = new Counter<>(true); // new ErrorCount();
+    /** The counts for the locale being checked on this thread; added to totalCount when done. */
+    static final ThreadLocal<Counter<ErrorType>> subtotalCount =
+            ThreadLocal.withInitial(() -> new Counter<>(true));
+
     static Counter<ErrorType> totalCount = new Counter<>(true);
 
+    /** Where the output for a locale goes; buffered when checking locales in parallel. */
+    private static final ThreadLocal<PrintStream> LOCALE_OUT =
+            ThreadLocal.withInitial(() -> System.out);
+
+    private static final ThreadLocal<PrintStream> LOCALE_ERR =
+            ThreadLocal.withInitial(() -> System.err);
+
+    private static final List<String> SPECIAL_PURPOSE_LOCALES = Arrays.asList("en_US_POSIX");
+
     private enum RawStatus {
         missing,
         provisional,
@@ -298,9 +331,24 @@ public class ConsoleCheckCLDR {
      * @throws IOException
      */
     public static void main(String[] args) throws IOException {
+        if (run(args) != 0) {
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * Check the locales as main() does, without exiting.
+     *
+     * @return the number of errors found
+     */
+    static long run(String[] args) throws IOException {
         MyOptions.parse(args, true);
         ElapsedTimer totalTimer = new ElapsedTimer();
         UOption.parseArgs(args, options);
+        totalCount = new Counter<>(true);
+        // so that this thread writes to the current System.out and System.err
+        LOCALE_OUT.remove();
+        LOCALE_ERR.remove();
         String factoryFilter = options[FILE_FILTER].value;
         if (factoryFilter.equals("key")) {
             factoryFilter =
@@ -308,7 +356,7 @@ public class ConsoleCheckCLDR {
         }
         String checkFilter = options[TEST_FILTER].value;
         String subtypeFilterString = options[SUBTYPE_FILTER].value;
-        EnumSet<Subtype> subtypeFilter = null;
+        subtypeFilter = null;
         if (subtypeFilterString != null) {
             subtypeFilter = EnumSet.noneOf(Subtype.class);
             Matcher m = PatternCache.get(subtypeFilterString).matcher("");
@@ -319,25 +367,25 @@ public class ConsoleCheckCLDR {
             }
             if (subtypeFilter.size() == 0) {
                 System.err.println("No subtype match for " + subtypeFilterString);
-                return;
+                return 0;
             }
         }
 
         errorsOnly = options[ERRORS_ONLY].doesOccur;
-        boolean showMissing = MyOptions.missingPaths.option.doesOccur();
+        showMissing = MyOptions.missingPaths.option.doesOccur();
 
         SHOW_EXAMPLES = options[EXAMPLES].doesOccur;
-        boolean showAll = options[SHOWALL].doesOccur;
-        boolean checkFlexibleDates = options[DATE_FORMATS].doesOccur;
+        showAll = options[SHOWALL].doesOccur;
+        checkFlexibleDates = options[DATE_FORMATS].doesOccur;
         String pathFilterString = options[PATH_FILTER].value;
-        Matcher pathFilter = null;
+        pathFilterPattern = null;
         if (!pathFilterString.equals(".*")) {
-            pathFilter = PatternCache.get(pathFilterString).matcher("");
+            pathFilterPattern = PatternCache.get(pathFilterString);
         }
-        boolean checkOnSubmit = options[CHECK_ON_SUBMIT].doesOccur;
+        checkOnSubmit = options[CHECK_ON_SUBMIT].doesOccur;
         boolean noaliases = options[NO_ALIASES].doesOccur;
 
-        Level coverageLevel = null;
+        coverageLevel = null;
         String coverageLevelInput = options[COVERAGE].value;
         if (coverageLevelInput != null) {
             coverageLevel = Level.get(coverageLevelInput);
@@ -350,7 +398,7 @@ public class ConsoleCheckCLDR {
             }
         }
 
-        Organization organization =
+        organization =
                 options[ORGANIZATION].value == null
                         ? null
                         : Organization.fromString(options[ORGANIZATION].value);
@@ -363,7 +411,6 @@ public class ConsoleCheckCLDR {
         }
         final CLDRConfig cldrConf = CLDR_CONFIG;
         cldrConf.setEnvironment(Environment.UNITTEST);
-        final Phase phase;
         if (options[PHASE].doesOccur) {
             String phaseVal = options[PHASE].value;
             try {
@@ -399,7 +446,22 @@ public class ConsoleCheckCLDR {
             phase = cldrConf.getPhase();
         }
 
-        boolean baileyTest = options[BAILEY].doesOccur;
+        baileyTest = options[BAILEY].doesOccur;
+
+        int threads = 0;
+        if (MyOptions.parallel.option.doesOccur()) {
+            if (options[GENERATE_HTML].doesOccur
+                    || options[VOTE_RESOLVE].doesOccur
+                    || checkFlexibleDates
+                    || SHOW_EXAMPLES) {
+                throw new IllegalArgumentException("Don't use -P with -g, -v, -d, or -x.");
+            }
+            threads = Integer.parseInt(MyOptions.parallel.option.getValue());
+            if (threads == 0) {
+                threads = Runtime.getRuntime().availableProcessors();
+            }
+        }
+        boolean checkTimes = MyOptions.check_times.option.doesOccur();
 
         File sourceDirectories[] = null;
 
@@ -443,7 +505,7 @@ public class ConsoleCheckCLDR {
             voteResolver = new VoteResolver<>(voterInfoList);
         }
 
-        String user = options[USER].value;
+        user = options[USER].value;
 
         System.out.println("Source directories:\n");
         for (File f : sourceDirectories) {
@@ -452,7 +514,7 @@ public class ConsoleCheckCLDR {
         }
 
         // set up the test
-        Factory cldrFactory =
+        cldrFactory =
                 SimpleFactory.make(sourceDirectories, factoryFilter)
                         .setSupplementalDirectory(new File(CLDRPaths.SUPPLEMENTAL_DIRECTORY));
         CompoundCheckCLDR checkCldr = CheckCLDR.getCheckAll(cldrFactory, checkFilter);
@@ -460,338 +522,413 @@ public class ConsoleCheckCLDR {
             throw new IllegalArgumentException("The filter doesn't match any tests.");
         }
         System.out.println("filtered tests: " + checkCldr.getFilteredTests());
+        checkCldr.setTiming(checkTimes);
         Factory backCldrFactory = CLDRConfig.getInstance().getMainAndAnnotationsFactory();
         english = backCldrFactory.make("en", true);
 
         CheckCLDR.setDisplayInformation(english);
         checkCldr.setEnglishFile(english);
         setExampleGenerator(new ExampleGenerator(english, english));
-        PathShower pathShower = new PathShower();
 
         // call on the files
         Set<String> locales = new TreeSet<>(baseFirstCollator);
         locales.addAll(cldrFactory.getAvailable());
 
-        List<CheckStatus> result = new ArrayList<>();
-        Set<PathHeader> paths = new TreeSet<>(); // CLDRFile.ldmlComparator);
-        Map<String, String> m = new TreeMap<>();
-        Map<String, String> options = new HashMap<>();
-        FlexibleDateFromCLDR fset = new FlexibleDateFromCLDR();
-        Set<String> englishPaths = null;
-
-        Set<String> fatalErrors = new TreeSet<>();
+        if (checkFlexibleDates) {
+            fset = new FlexibleDateFromCLDR();
+        }
+        fatalErrors.clear();
 
         showHeaderLine();
 
         supplementalDataInfo = SupplementalDataInfo.getInstance(CLDRPaths.SUPPLEMENTAL_DIRECTORY);
 
-        LocaleIDParser localeIDParser = new LocaleIDParser();
-        String lastBaseLanguage = "";
-        PathHeader.Factory pathHeaderFactory = PathHeader.getFactory(english);
+        pathHeaderFactory = PathHeader.getFactory(english);
+
+        localeStatus = StandardCodes.make().getLocaleToLevel(organization);
+
+        // also add the English paths
+        Set<String> englishPaths = new HashSet<>();
+        final CLDRFile displayFile = CheckCLDR.getDisplayInformation();
+        final Matcher pathFilter = pathFilterPattern == null ? null : pathFilterPattern.matcher("");
+        addPrettyPaths(displayFile, pathFilter, pathHeaderFactory, noaliases, true, englishPaths);
+        addPrettyPaths(
+                displayFile,
+                displayFile.getExtraPaths(),
+                pathFilter,
+                pathHeaderFactory,
+                noaliases,
+                true,
+                englishPaths);
+        englishPaths = Collections.unmodifiableSet(englishPaths); // for robustness
+
+        final List<CompoundCheckCLDR> checks;
+        if (threads == 0) {
+            checks = Collections.singletonList(checkCldr);
+            // load the next few files to be checked (and their parents) in parallel
+            final Iterable<String> prefetching =
+                    cldrFactory.prefetching(
+                            new ArrayList<>(locales),
+                            localeID ->
+                                    !CLDRFile.isSupplementalName(localeID)
+                                            && !supplementalDataInfo
+                                                    .getDefaultContentLocales()
+                                                    .contains(localeID)
+                                            && !SPECIAL_PURPOSE_LOCALES.contains(localeID),
+                            true,
+                            cldrFactory.getMinimalDraftStatus());
+            for (String localeID : prefetching) {
+                totalCount.addAll(checkLocale(localeID, checkCldr));
+            }
+        } else {
+            checks = Collections.synchronizedList(new ArrayList<>());
+            checkLocalesInParallel(locales, checkFilter, threads, checkTimes, checks);
+        }
 
-        final Map<String, Level> locale_status =
-                StandardCodes.make().getLocaleToLevel(organization);
+        if (ErrorFile.errorFileWriter != null) {
+            ErrorFile.closeErrorFile();
+        }
 
-        final List<String> specialPurposeLocales = new ArrayList<>(Arrays.asList("en_US_POSIX"));
-        for (String localeID : locales) {
-            if (CLDRFile.isSupplementalName(localeID)) continue;
-            if (supplementalDataInfo.getDefaultContentLocales().contains(localeID)) {
-                System.out.println("# Skipping default content locale: " + localeID);
-                continue;
-            }
+        if (ErrorFile.generated_html_directory != null) {
+            ErrorFile.writeErrorCountsText();
+            ErrorFile.writeErrorFileIndex();
+        }
+        System.out.println();
+        for (ErrorType type : totalCount.keySet()) {
+            System.out.println("# Total " + type + ":\t" + totalCount.getCount(type));
+        }
+        if (checkTimes) {
+            showCheckTimes(checks);
+        }
 
-            // We don't really need to check the POSIX locale, as it is a special purpose locale
-            if (specialPurposeLocales.contains(localeID)) {
-                System.out.println("# Skipping special purpose locale: " + localeID);
-                continue;
+        System.out.println();
+        System.out.println("# Total elapsed time: " + totalTimer);
+        if (fatalErrors.size() != 0) {
+            System.out.println("# FATAL ERRORS:");
+        }
+        long errorCount = totalCount.getCount(ErrorType.error) + fatalErrors.size();
+        if (errorCount != 0) {
+            System.out.println();
+            System.out.println("<< FAILURE - Error count is " + errorCount + " . >>");
+        } else {
+            System.out.println();
+            System.out.println("<< SUCCESS - No errors found. >>");
+        }
+        if (LogicalGrouping.GET_TYPE_COUNTS) {
+            for (String s : LogicalGrouping.typeCount.keySet()) {
+                System.out.println(s + "=" + LogicalGrouping.typeCount.get(s));
             }
+        }
+        for (CompoundCheckCLDR check : checks) {
+            check.handleFinish();
+        }
+        return errorCount;
+    } // end of run()
+
+    /**
+     * Check one locale, writing the results to {@link #LOCALE_OUT}.
+     *
+     * @return the count of each type of problem found
+     */
+    private static Counter<ErrorType> checkLocale(String localeID, CompoundCheckCLDR checkCldr) {
+        final Counter<ErrorType> subtotal = new Counter<>(true);
+        subtotalCount.set(subtotal);
+        final PrintStream out = LOCALE_OUT.get();
+        final Matcher pathFilter = pathFilterPattern == null ? null : pathFilterPattern.matcher("");
+        final LocaleIDParser localeIDParser = new LocaleIDParser();
+        final List<CheckStatus> result = new ArrayList<>();
+        final Map<String, String> m = new TreeMap<>();
+        final Map<String, String> options = new HashMap<>();
+
+        if (CLDRFile.isSupplementalName(localeID)) return subtotal;
+        if (supplementalDataInfo.getDefaultContentLocales().contains(localeID)) {
+            out.println("# Skipping default content locale: " + localeID);
+            return subtotal;
+        }
 
-            boolean isLanguageLocale =
-                    localeID.equals(localeIDParser.set(localeID).getLanguageScript());
-            options.clear();
+        // We don't really need to check the POSIX locale, as it is a special purpose locale
+        if (SPECIAL_PURPOSE_LOCALES.contains(localeID)) {
+            out.println("# Skipping special purpose locale: " + localeID);
+            return subtotal;
+        }
 
-            if (MyOptions.exemplarError.option.doesOccur()) {
-                options.put(Options.Option.exemplarErrors.toString(), "true");
-            }
+        boolean isLanguageLocale =
+                localeID.equals(localeIDParser.set(localeID).getLanguageScript());
 
-            // if the organization is set, skip any locale that doesn't have a value in Locales.txt
-            Level level = coverageLevel;
-            if (level == null) {
-                level = Level.MODERN;
-            }
-            if (organization != null) {
-                if (locale_status == null) continue;
-                level = locale_status.get(localeID);
-                if (level == null) continue;
-                if (level.compareTo(Level.BASIC) < 0) continue;
-            } else if (!isLanguageLocale) {
-                // otherwise, skip all language locales
-                options.put(Options.Option.CheckCoverage_skip.getKey(), "true");
-            }
+        if (MyOptions.exemplarError.option.doesOccur()) {
+            options.put(Options.Option.exemplarErrors.toString(), "true");
+        }
 
-            // if (organization != null)
-            // options.put(Options.Option.CoverageLevel_localeType.getKey(),
-            // organization.toString());
-            options.put(Options.Option.phase.getKey(), phase.toString());
+        // if the organization is set, skip any locale that doesn't have a value in Locales.txt
+        Level level = coverageLevel;
+        if (level == null) {
+            level = Level.MODERN;
+        }
+        if (organization != null) {
+            if (localeStatus == null) return subtotal;
+            level = localeStatus.get(localeID);
+            if (level == null) return subtotal;
+            if (level.compareTo(Level.BASIC) < 0) return subtotal;
+        } else if (!isLanguageLocale) {
+            // otherwise, skip all language locales
+            options.put(Options.Option.CheckCoverage_skip.getKey(), "true");
+        }
 
-            if (SHOW_LOCALE) System.out.println();
+        // if (organization != null)
+        // options.put(Options.Option.CoverageLevel_localeType.getKey(),
+        // organization.toString());
+        options.put(Options.Option.phase.getKey(), phase.toString());
 
-            CLDRFile file;
-            CLDRFile englishFile = english;
-            CLDRFile parent = null;
+        if (SHOW_LOCALE) out.println();
 
-            ElapsedTimer timer = new ElapsedTimer();
-            try {
-                file = cldrFactory.make(localeID, true);
-                if (ErrorFile.voteFactory != null) {
-                    ErrorFile.voteFile = ErrorFile.voteFactory.make(localeID, true);
-                }
-                final String parentID = LocaleIDParser.getParent(localeID);
-                if (parentID != null) {
-                    parent = cldrFactory.make(parentID, true);
-                }
-            } catch (RuntimeException e) {
-                fatalErrors.add(localeID);
-                System.out.println("FATAL ERROR: " + localeID);
-                e.printStackTrace(System.out);
-                continue;
+        CLDRFile file;
+        CLDRFile englishFile = english;
+        CLDRFile parent = null;
+
+        ElapsedTimer timer = new ElapsedTimer();
+        try {
+            file = cldrFactory.make(localeID, true);
+            if (ErrorFile.voteFactory != null) {
+                ErrorFile.voteFile = ErrorFile.voteFactory.make(localeID, true);
             }
+            final String parentID = LocaleIDParser.getParent(localeID);
+            if (parentID != null) {
+                parent = cldrFactory.make(parentID, true);
+            }
+        } catch (RuntimeException e) {
+            fatalErrors.add(localeID);
+            out.println("FATAL ERROR: " + localeID);
+            e.printStackTrace(out);
+            return subtotal;
+        }
 
-            // generate HTML if asked for
-            if (ErrorFile.generated_html_directory != null) {
-                String baseLanguage = localeIDParser.set(localeID).getLanguageScript();
+        // generate HTML if asked for
+        if (ErrorFile.generated_html_directory != null) {
+            String baseLanguage = localeIDParser.set(localeID).getLanguageScript();
 
-                if (!baseLanguage.equals(lastBaseLanguage)) {
-                    lastBaseLanguage = baseLanguage;
-                    ErrorFile.openErrorFile(localeID, baseLanguage);
-                }
+            if (!baseLanguage.equals(lastBaseLanguage)) {
+                lastBaseLanguage = baseLanguage;
+                ErrorFile.openErrorFile(localeID, baseLanguage);
             }
+        }
 
-            if (user != null) {
-                file = new CLDRFile.TestUser(file, user, isLanguageLocale);
-                if (parent != null) {
-                    parent = new CLDRFile.TestUser(parent, user, isLanguageLocale);
-                }
+        if (user != null) {
+            file = new CLDRFile.TestUser(file, user, isLanguageLocale);
+            if (parent != null) {
+                parent = new CLDRFile.TestUser(parent, user, isLanguageLocale);
             }
-            checkCldr.setCldrFileToCheck(file, new Options(options), result);
+        }
+        checkCldr.setCldrFileToCheck(file, new Options(options), result);
 
-            subtotalCount.clear();
+        for (Iterator<CheckStatus> it3 = result.iterator(); it3.hasNext(); ) {
+            CheckStatus status = it3.next();
+            String statusString = status.toString(); // com.ibm.icu.impl.Utility.escape(
+            CheckStatus.Type statusType = status.getType();
 
-            for (Iterator<CheckStatus> it3 = result.iterator(); it3.hasNext(); ) {
-                CheckStatus status = it3.next();
-                String statusString = status.toString(); // com.ibm.icu.impl.Utility.escape(
-                CheckStatus.Type statusType = status.getType();
+            if (errorsOnly) {
+                if (!statusType.equals(CheckStatus.errorType)) continue;
+            }
 
-                if (errorsOnly) {
-                    if (!statusType.equals(CheckStatus.errorType)) continue;
+            if (subtypeFilter != null) {
+                if (!subtypeFilter.contains(status.getSubtype())) {
+                    continue;
                 }
+            }
 
-                if (subtypeFilter != null) {
-                    if (!subtypeFilter.contains(status.getSubtype())) {
-                        continue;
-                    }
-                }
+            if (checkOnSubmit) {
+                if (!status.isCheckOnSubmit() || !statusType.equals(CheckStatus.errorType))
+                    continue;
+            }
+            showValue(
+                    file,
+                    null,
+                    localeID,
+                    null,
+                    null,
+                    null,
+                    null,
+                    statusString,
+                    status.getSubtype());
+        }
+        Set<PathHeader> paths = new TreeSet<>(); // CLDRFile.ldmlComparator);
 
-                if (checkOnSubmit) {
-                    if (!status.isCheckOnSubmit() || !statusType.equals(CheckStatus.errorType))
-                        continue;
-                }
-                showValue(
-                        file,
-                        null,
-                        localeID,
-                        null,
-                        null,
-                        null,
-                        null,
-                        statusString,
-                        status.getSubtype());
-            }
-            paths.clear();
-
-            CoverageInfo covInfo = cldrConf.getCoverageInfo();
-            for (String path : file.fullIterable()) {
-                if (pathFilter != null && !pathFilter.reset(path).find()) {
+        CoverageInfo covInfo = CLDR_CONFIG.getCoverageInfo();
+        for (String path : file.fullIterable()) {
+            if (pathFilter != null && !pathFilter.reset(path).find()) {
+                continue;
+            }
+            if (level != null) {
+                Level currentLevel = covInfo.getCoverageLevel(path, localeID);
+                if (currentLevel.compareTo(level) > 0) {
                     continue;
                 }
-                if (level != null) {
-                    Level currentLevel = covInfo.getCoverageLevel(path, localeID);
-                    if (currentLevel.compareTo(level) > 0) {
-                        continue;
-                    }
-                }
-                final PathHeader pathHeader = pathHeaderFactory.fromPath(path);
-                if (pathHeader.getSectionId() != SectionId.Special) {
-                    paths.add(pathHeader);
-                }
             }
-
-            // also add the English paths
-            // initialize the first time in.
-            if (englishPaths == null) {
-                englishPaths = new HashSet<>();
-                final CLDRFile displayFile = CheckCLDR.getDisplayInformation();
-                addPrettyPaths(
-                        displayFile, pathFilter, pathHeaderFactory, noaliases, true, englishPaths);
-                addPrettyPaths(
-                        displayFile,
-                        displayFile.getExtraPaths(),
-                        pathFilter,
-                        pathHeaderFactory,
-                        noaliases,
-                        true,
-                        englishPaths);
-                englishPaths = Collections.unmodifiableSet(englishPaths); // for robustness
-            }
-
-            UnicodeSet missingExemplars = new UnicodeSet();
-            UnicodeSet missingCurrencyExemplars = new UnicodeSet();
-            if (checkFlexibleDates) {
-                fset.set(file);
+            final PathHeader pathHeader = pathHeaderFactory.fromPath(path);
+            if (pathHeader.getSectionId() != SectionId.Special) {
+                paths.add(pathHeader);
             }
-            pathShower.set(localeID);
-
-            // only create if we are going to use
-            ExampleGenerator exampleGenerator =
-                    SHOW_EXAMPLES ? new ExampleGenerator(file, englishFile) : null;
+        }
 
-            int pathCount = 0;
-            Status otherPath = new Status();
-            int rawMissingCount = 0;
-            int rawProvisionalCount = 0;
-            CLDRFile unresolved = file.getUnresolved();
+        UnicodeSet missingExemplars = new UnicodeSet();
+        UnicodeSet missingCurrencyExemplars = new UnicodeSet();
+        if (checkFlexibleDates) {
+            fset.set(file);
+        }
 
-            for (PathHeader pathHeader : paths) {
-                pathCount++;
-                String path = pathHeader.getOriginalPath();
-                String prettyPath = pathHeader.toString().replace('\t', '|').replace(' ', '_');
-                if (!showAll && !file.isWinningPath(path)) {
-                    continue;
-                }
-                final String topValue = unresolved.getStringValue(path);
-                RawStatus rawStatus = RawStatus.present;
+        // only create if we are going to use
+        ExampleGenerator exampleGenerator =
+                SHOW_EXAMPLES ? new ExampleGenerator(file, englishFile) : null;
+
+        int pathCount = 0;
+        Status otherPath = new Status();
+        int rawMissingCount = 0;
+        int rawProvisionalCount = 0;
+        CLDRFile unresolved = file.getUnresolved();
+
+        for (PathHeader pathHeader : paths) {
+            pathCount++;
+            String path = pathHeader.getOriginalPath();
+            String prettyPath = pathHeader.toString().replace('\t', '|').replace(' ', '_');
+            if (!showAll && !file.isWinningPath(path)) {
+                continue;
+            }
+            final String topValue = unresolved.getStringValue(path);
+            RawStatus rawStatus = RawStatus.present;
 
-                if (topValue == null) {
-                    rawStatus = RawStatus.missing;
-                    rawMissingCount++;
-                }
+            if (topValue == null) {
+                rawStatus = RawStatus.missing;
+                rawMissingCount++;
+            }
 
-                if (!isLanguageLocale && !baileyTest) {
-                    final String sourceLocaleID = file.getSourceLocaleID(path, otherPath);
-                    if (!localeID.equals(sourceLocaleID)) {
-                        continue;
-                    }
-                    // also skip aliases
-                    if (!path.equals(otherPath.pathWhereFound)) {
-                        continue;
-                    }
-                }
-                if (path.contains("@alt") && path.contains("proposed")) {
+            if (!isLanguageLocale && !baileyTest) {
+                final String sourceLocaleID = file.getSourceLocaleID(path, otherPath);
+                if (!localeID.equals(sourceLocaleID)) {
                     continue;
                 }
-                String value = file.getStringValue(path);
-                if (baileyTest) {
-                    value = CldrUtility.INHERITANCE_MARKER;
+                // also skip aliases
+                if (!path.equals(otherPath.pathWhereFound)) {
+                    continue;
                 }
+            }
+            if (path.contains("@alt") && path.contains("proposed")) {
+                continue;
+            }
+            String value = file.getStringValue(path);
+            if (baileyTest) {
+                value = CldrUtility.INHERITANCE_MARKER;
+            }
 
-                String fullPath = file.getFullXPath(path);
-                if (topValue != null) {
-                    XPathParts fullParts = XPathParts.getFrozenInstance(fullPath);
-                    String draftStatus = fullParts.getAttributeValue(-1, "draft");
-                    if (draftStatus != null && !draftStatus.equals("contributed")) {
-                        rawProvisionalCount++;
-                        rawStatus = RawStatus.provisional;
-                    }
+            String fullPath = file.getFullXPath(path);
+            if (topValue != null) {
+                XPathParts fullParts = XPathParts.getFrozenInstance(fullPath);
+                String draftStatus = fullParts.getAttributeValue(-1, "draft");
+                if (draftStatus != null && !draftStatus.equals("contributed")) {
+                    rawProvisionalCount++;
+                    rawStatus = RawStatus.provisional;
                 }
-                if (showMissing && rawStatus != RawStatus.present) {
-                    String englishValue = englishFile.getStringValue(path);
-                    if (englishValue == null) {
-                        englishValue = "n/a";
-                    }
-                    System.out.println(
-                            getLocaleAndName(localeID)
-                                    + "\tRaw "
-                                    + rawStatus
-                                    + "\t"
-                                    + pathHeader
-                                    + "\t"
-                                    + englishValue
-                                    + "\t"
-                                    + path);
+            }
+            if (showMissing && rawStatus != RawStatus.present) {
+                String englishValue = englishFile.getStringValue(path);
+                if (englishValue == null) {
+                    englishValue = "n/a";
                 }
+                out.println(
+                        getLocaleAndName(localeID)
+                                + "\tRaw "
+                                + rawStatus
+                                + "\t"
+                                + pathHeader
+                                + "\t"
+                                + englishValue
+                                + "\t"
+                                + path);
+            }
 
-                String example = "";
-                if (SHOW_EXAMPLES) {
-                    example =
-                            ExampleGenerator.simplify(exampleGenerator.getExampleHtml(path, value));
-                    showExamples(checkCldr, prettyPath, localeID, path, value, fullPath, example);
-                }
-                if (checkFlexibleDates) {
-                    fset.checkFlexibles(path, value, fullPath);
+            String example = "";
+            if (SHOW_EXAMPLES) {
+                example = ExampleGenerator.simplify(exampleGenerator.getExampleHtml(path, value));
+                showExamples(checkCldr, prettyPath, localeID, path, value, fullPath, example);
+            }
+            if (checkFlexibleDates) {
+                fset.checkFlexibles(path, value, fullPath);
+            }
+            int limit = 1;
+            for (int jj = 0; jj < limit; ++jj) {
+                if (jj == 0) {
+                    checkCldr.check(path, fullPath, value, new Options(options), result);
+                } else {
+                    checkCldr.getExamples(path, fullPath, value, new Options(options), result);
                 }
-                int limit = 1;
-                for (int jj = 0; jj < limit; ++jj) {
-                    if (jj == 0) {
-                        checkCldr.check(path, fullPath, value, new Options(options), result);
-                    } else {
-                        checkCldr.getExamples(path, fullPath, value, new Options(options), result);
-                    }
 
-                    boolean showedOne = false;
-                    for (Iterator<CheckStatus> it3 = result.iterator(); it3.hasNext(); ) {
-                        CheckStatus status = it3.next();
-                        String statusString = status.toString(); // com.ibm.icu.impl.Utility.escape(
-                        CheckStatus.Type statusType = status.getType();
-                        Object[] parameters = status.getParameters();
-
-                        if (parameters != null) {
-                            if (parameters.length >= 1
-                                    && status.getCause().getClass() == CheckForExemplars.class) {
-                                try {
-                                    UnicodeSet set = new UnicodeSet(parameters[0].toString());
-                                    if (status.getMessage().contains("currency")) {
-                                        missingCurrencyExemplars.addAll(set);
-                                    } else {
-                                        missingExemplars.addAll(set);
-                                    }
-                                } catch (RuntimeException e) {
-                                } // skip if not parseable as set
-                            }
+                boolean showedOne = false;
+                for (Iterator<CheckStatus> it3 = result.iterator(); it3.hasNext(); ) {
+                    CheckStatus status = it3.next();
+                    String statusString = status.toString(); // com.ibm.icu.impl.Utility.escape(
+                    CheckStatus.Type statusType = status.getType();
+                    Object[] parameters = status.getParameters();
+
+                    if (parameters != null) {
+                        if (parameters.length >= 1
+                                && status.getCause().getClass() == CheckForExemplars.class) {
+                            try {
+                                UnicodeSet set = new UnicodeSet(parameters[0].toString());
+                                if (status.getMessage().contains("currency")) {
+                                    missingCurrencyExemplars.addAll(set);
+                                } else {
+                                    missingExemplars.addAll(set);
+                                }
+                            } catch (RuntimeException e) {
+                            } // skip if not parseable as set
                         }
+                    }
 
-                        if (errorsOnly && !statusType.equals(CheckStatus.errorType)) {
-                            continue;
-                        }
+                    if (errorsOnly && !statusType.equals(CheckStatus.errorType)) {
+                        continue;
+                    }
 
-                        if (subtypeFilter != null) {
-                            if (!subtypeFilter.contains(status.getSubtype())) {
-                                continue;
-                            }
-                        }
-                        if (checkOnSubmit) {
-                            if (!status.isCheckOnSubmit()
-                                    || !statusType.equals(CheckStatus.errorType)) continue;
+                    if (subtypeFilter != null) {
+                        if (!subtypeFilter.contains(status.getSubtype())) {
+                            continue;
                         }
+                    }
+                    if (checkOnSubmit) {
+                        if (!status.isCheckOnSubmit()
+                                || !statusType.equals(CheckStatus.errorType)) continue;
+                    }
 
-                        if (statusType.equals(CheckStatus.demoType)) {
-                            SimpleDemo d = status.getDemo();
-                            if (d != null && d instanceof FormatDemo) {
-                                FormatDemo fd = (FormatDemo) d;
-                                m.clear();
-                                if (d.processPost(m))
-                                    System.out.println("\tDemo:\t" + fd.getPlainText(m));
-                            }
-                            continue;
+                    if (statusType.equals(CheckStatus.demoType)) {
+                        SimpleDemo d = status.getDemo();
+                        if (d != null && d instanceof FormatDemo) {
+                            FormatDemo fd = (FormatDemo) d;
+                            m.clear();
+                            if (d.processPost(m))
+                                out.println("\tDemo:\t" + fd.getPlainText(m));
                         }
+                        continue;
+                    }
 
-                        if (parameters != null) {
-                            for (int i = 0; i < parameters.length; ++i) {
-                                if (showStackTrace && parameters[i] instanceof Throwable) {
-                                    ((Throwable) parameters[i]).printStackTrace();
-                                }
+                    if (parameters != null) {
+                        for (int i = 0; i < parameters.length; ++i) {
+                            if (showStackTrace && parameters[i] instanceof Throwable) {
+                                ((Throwable) parameters[i]).printStackTrace();
                             }
                         }
+                    }
 
+                    showValue(
+                            file,
+                            prettyPath,
+                            localeID,
+                            example,
+                            path,
+                            value,
+                            fullPath,
+                            statusString,
+                            status.getSubtype());
+                    showedOne = true;
+                }
+                if (!showedOne && phase != Phase.FINAL_TESTING) {
+                    if (!showedOne && showAll) {
                         showValue(
                                 file,
                                 prettyPath,
@@ -800,73 +937,39 @@ public class ConsoleCheckCLDR {
                                 path,
                                 value,
                                 fullPath,
-                                statusString,
-                                status.getSubtype());
+                                "ok",
+                                Subtype.none);
                         showedOne = true;
                     }
-                    if (!showedOne && phase != Phase.FINAL_TESTING) {
-                        if (!showedOne && showAll) {
-                            showValue(
-                                    file,
-                                    prettyPath,
-                                    localeID,
-                                    example,
-                                    path,
-                                    value,
-                                    fullPath,
-                                    "ok",
-                                    Subtype.none);
-                            showedOne = true;
-                        }
-                    }
                 }
             }
+        }
 
-            if (resolveVotesDirectory != null) {
-                LocaleVotingData.resolveErrors(localeID);
-            }
-
-            showSummary(
-                    localeID,
-                    level,
-                    "Items:\t"
-                            + pathCount
-                            + "\tRaw Missing:\t"
-                            + rawMissingCount
-                            + "\tRaw Provisional:\t"
-                            + rawProvisionalCount);
+        if (resolveVotesDirectory != null) {
+            LocaleVotingData.resolveErrors(localeID);
+        }
 
+        showSummary(
+                localeID,
+                level,
+                "Items:\t"
+                        + pathCount
+                        + "\tRaw Missing:\t"
+                        + rawMissingCount
+                        + "\tRaw Provisional:\t"
+                        + rawProvisionalCount);
+
+        if (missingExemplars.size() != 0) {
+            missingExemplars.removeAll(
+                    new UnicodeSet("[[:Uppercase:]-[İ]]")); // remove uppercase #4670
             if (missingExemplars.size() != 0) {
-                missingExemplars.removeAll(
-                        new UnicodeSet("[[:Uppercase:]-[İ]]")); // remove uppercase #4670
-                if (missingExemplars.size() != 0) {
-                    Collator col = Collator.getInstance(new ULocale(localeID));
-                    showSummary(
-                            localeID,
-                            level,
-                            "Total missing from general exemplars:\t"
-                                    + missingExemplars.size()
-                                    + "\t"
-                                    + new UnicodeSetPrettyPrinter()
-                                            .setOrdering(
-                                                    col != null
-                                                            ? col
-                                                            : Collator.getInstance(ULocale.ROOT))
-                                            .setSpaceComparator(
-                                                    col != null
-                                                            ? col
-                                                            : Collator.getInstance(ULocale.ROOT)
-                                                                    .setStrength2(Collator.PRIMARY))
-                                            .setCompressRanges(false)
-                                            .format(missingExemplars));
-                }
-            }
-            if (missingCurrencyExemplars.size() != 0) {
                 Collator col = Collator.getInstance(new ULocale(localeID));
                 showSummary(
                         localeID,
                         level,
-                        "Total missing from currency exemplars:\t"
+                        "Total missing from general exemplars:\t"
+                                + missingExemplars.size()
+                                + "\t"
                                 + new UnicodeSetPrettyPrinter()
                                         .setOrdering(
                                                 col != null
@@ -877,79 +980,158 @@ public class ConsoleCheckCLDR {
                                                         ? col
                                                         : Collator.getInstance(ULocale.ROOT)
                                                                 .setStrength2(Collator.PRIMARY))
-                                        .setCompressRanges(true)
-                                        .format(missingCurrencyExemplars));
-            }
-            for (ErrorType type : subtotalCount.keySet()) {
-                showSummary(
-                        localeID, level, "Subtotal " + type + ":\t" + subtotalCount.getCount(type));
+                                        .setCompressRanges(false)
+                                        .format(missingExemplars));
             }
+        }
+        if (missingCurrencyExemplars.size() != 0) {
+            Collator col = Collator.getInstance(new ULocale(localeID));
+            showSummary(
+                    localeID,
+                    level,
+                    "Total missing from currency exemplars:\t"
+                            + new UnicodeSetPrettyPrinter()
+                                    .setOrdering(
+                                            col != null
+                                                    ? col
+                                                    : Collator.getInstance(ULocale.ROOT))
+                                    .setSpaceComparator(
+                                            col != null
+                                                    ? col
+                                                    : Collator.getInstance(ULocale.ROOT)
+                                                            .setStrength2(Collator.PRIMARY))
+                                    .setCompressRanges(true)
+                                    .format(missingCurrencyExemplars));
+        }
+        for (ErrorType type : subtotal.keySet()) {
+            showSummary(localeID, level, "Subtotal " + type + ":\t" + subtotal.getCount(type));
+        }
 
-            if (checkFlexibleDates) {
-                fset.showFlexibles();
-            }
-            if (SHOW_EXAMPLES) {
-                // ldml/dates/timeZoneNames/zone[@type="America/Argentina/San_Juan"]/exemplarCity
-                for (String zone : StandardCodes.make().getGoodAvailableCodes("tzid")) {
-                    String path =
-                            "//ldml/dates/timeZoneNames/zone[@type=\"" + zone + "\"]/exemplarCity";
-                    PathHeader pathHeader = pathHeaderFactory.fromPath(path);
-                    String prettyPath = pathHeader.toString().replace('\t', '|').replace(' ', '_');
-                    if (pathFilter != null && !pathFilter.reset(path).matches()) {
-                        continue;
-                    }
-                    String fullPath = file.getStringValue(path);
-                    if (fullPath != null) {
-                        continue;
-                    }
-                    /*
-                     * TODO: fix this code. Calling getExampleHtml with value = null will always return null,
-                     * so what's this supposed to accomplish?
-                     */
-                    String example =
-                            ExampleGenerator.simplify(
-                                    exampleGenerator.getExampleHtml(path, null /* value */));
-                    showExamples(checkCldr, prettyPath, localeID, path, null, fullPath, example);
+        if (checkFlexibleDates) {
+            fset.showFlexibles();
+        }
+        if (SHOW_EXAMPLES) {
+            // ldml/dates/timeZoneNames/zone[@type="America/Argentina/San_Juan"]/exemplarCity
+            for (String zone : StandardCodes.make().getGoodAvailableCodes("tzid")) {
+                String path =
+                        "//ldml/dates/timeZoneNames/zone[@type=\"" + zone + "\"]/exemplarCity";
+                PathHeader pathHeader = pathHeaderFactory.fromPath(path);
+                String prettyPath = pathHeader.toString().replace('\t', '|').replace(' ', '_');
+                if (pathFilter != null && !pathFilter.reset(path).matches()) {
+                    continue;
                 }
+                String fullPath = file.getStringValue(path);
+                if (fullPath != null) {
+                    continue;
+                }
+                /*
+                 * TODO: fix this code. Calling getExampleHtml with value = null will always return null,
+                 * so what's this supposed to accomplish?
+                 */
+                String example =
+                        ExampleGenerator.simplify(
+                                exampleGenerator.getExampleHtml(path, null /* value */));
+                showExamples(checkCldr, prettyPath, localeID, path, null, fullPath, example);
             }
-            System.out.println("# Elapsed time: " + timer);
-            System.out.flush();
         }
+        out.println("# Elapsed time: " + timer);
+        out.flush();
+        return subtotal;
+    }
 
-        if (ErrorFile.errorFileWriter != null) {
-            ErrorFile.closeErrorFile();
+    /**
+     * Check the locales concurrently, each thread with its own CompoundCheckCLDR. The output of
+     * each locale is buffered, and written out in the same order as a sequential run.
+     */
+    private static void checkLocalesInParallel(
+            Collection<String> locales,
+            String checkFilter,
+            int threads,
+            boolean checkTimes,
+            List<CompoundCheckCLDR> checks) {
+        final ThreadLocal<CompoundCheckCLDR> threadCheck =
+                ThreadLocal.withInitial(
+                        () -> {
+                            CompoundCheckCLDR check =
+                                    CheckCLDR.getCheckAll(cldrFactory, checkFilter);
+                            check.setEnglishFile(english);
+                            check.setTiming(checkTimes);
+                            checks.add(check);
+                            return check;
+                        });
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<LocaleOutput>> outputs = new ArrayList<>();
+            for (String localeID : locales) {
+                outputs.add(
+                        executor.submit(
+                                () -> {
+                                    LocaleOutput output = new LocaleOutput();
+                                    LOCALE_OUT.set(output.out);
+                                    LOCALE_ERR.set(output.err);
+                                    try {
+                                        output.subtotal = checkLocale(localeID, threadCheck.get());
+                                    } finally {
+                                        LOCALE_OUT.remove();
+                                        LOCALE_ERR.remove();
+                                    }
+                                    return output;
+                                }));
+            }
+            for (Future<LocaleOutput> future : outputs) {
+                LocaleOutput output = future.get();
+                System.out.print(output.out.toString());
+                System.out.flush();
+                System.err.print(output.err.toString());
+                totalCount.addAll(output.subtotal);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking " + locales, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Couldn't check " + locales, e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
+    }
 
-        if (ErrorFile.generated_html_directory != null) {
-            ErrorFile.writeErrorCountsText();
-            ErrorFile.writeErrorFileIndex();
-        }
-        System.out.println();
-        for (ErrorType type : totalCount.keySet()) {
-            System.out.println("# Total " + type + ":\t" + totalCount.getCount(type));
-        }
+    /** The buffered results of checking one locale. */
+    private static class LocaleOutput {
+        final BufferedPrintStream out = new BufferedPrintStream();
+        final BufferedPrintStream err = new BufferedPrintStream();
+        Counter<ErrorType> subtotal;
+    }
 
-        System.out.println();
-        System.out.println("# Total elapsed time: " + totalTimer);
-        if (fatalErrors.size() != 0) {
-            System.out.println("# FATAL ERRORS:");
+    /** A PrintStream that collects what is written to it, for later output. */
+    private static class BufferedPrintStream extends PrintStream {
+        BufferedPrintStream() {
+            super(new ByteArrayOutputStream(), false, StandardCharsets.UTF_8);
         }
-        long errorCount = totalCount.getCount(ErrorType.error) + fatalErrors.size();
-        if (errorCount != 0) {
-            System.out.println();
-            System.out.println("<< FAILURE - Error count is " + errorCount + " . >>");
-            System.exit(-1);
-        } else {
-            System.out.println();
-            System.out.println("<< SUCCESS - No errors found. >>");
+
+        @Override
+        public String toString() {
+            flush();
+            return ((ByteArrayOutputStream) out).toString(StandardCharsets.UTF_8);
         }
-        if (LogicalGrouping.GET_TYPE_COUNTS) {
-            for (String s : LogicalGrouping.typeCount.keySet()) {
-                System.out.println(s + "=" + LogicalGrouping.typeCount.get(s));
+    }
+
+    /** Show the wall time spent in each check, slowest first. */
+    private static void showCheckTimes(Collection<CompoundCheckCLDR> checks) {
+        Counter<String> nanos = new Counter<>();
+        synchronized (checks) {
+            for (CompoundCheckCLDR check : checks) {
+                check.getCheckTimes().forEach(nanos::add);
             }
         }
-        checkCldr.handleFinish();
-    } // end of main()
+        System.out.println();
+        for (String check : nanos.getKeysetSortedByCount(false)) {
+            System.out.println(
+                    "# Check time " + check + ":\t" + nanos.getCount(check) / 1_000_000 + " ms");
+        }
+    }
 
     static class LocaleVotingData {
         private int disputedCount = 0;
@@ -1587,7 +1769,7 @@ public class ConsoleCheckCLDR {
 
     private static void showSummary(String localeID, Level level, String value) {
         String line = "# " + getLocaleAndName(localeID) + "\tSummary\t" + level + "\t" + value;
-        System.out.println(line);
+        LOCALE_OUT.get().println(line);
     }
 
     private static void showExamples(
@@ -1692,7 +1874,7 @@ public class ConsoleCheckCLDR {
 
     private static PathDescription pathDescription = null;
 
-    private static String getIdString(String path, String value) {
+    private static synchronized String getIdString(String path, String value) {
         if (pathDescription == null) {
             pathDescription =
                     new PathDescription(
@@ -1717,8 +1899,7 @@ public class ConsoleCheckCLDR {
             String statusString,
             Subtype subtype) {
         ErrorType shortStatus = ErrorType.fromStatusString(statusString);
-        subtotalCount.add(shortStatus, 1);
-        totalCount.add(shortStatus, 1);
+        subtotalCount.get().add(shortStatus, 1);
         if (subtype == null) {
             subtype = Subtype.none;
         }
@@ -1754,11 +1935,11 @@ public class ConsoleCheckCLDR {
                                     ? ""
                                     : "\t" + status.pathWhereFound);
             if (location != null) {
-                System.err.println(location.toString() + shortStatus); // print full path here
+                LOCALE_ERR.get().println(location.toString() + shortStatus); // print full path here
             }
             String idViewString =
                     idView ? (path == null ? "\tNO_ID" : getIdString(path, value)) : "";
-            System.out.println(
+            LOCALE_OUT.get().println(
                     getLocaleAndName(localeID)
                             + (idViewString.isEmpty()
                                     ?
@@ -1843,7 +2024,7 @@ public class ConsoleCheckCLDR {
                                             Pair.of(localeID, path),
                                             locPath -> guessFilePath(locPath));
                 }
-                System.out.println(
+                LOCALE_OUT.get().println(
                         "::"
                                 + shortStatus
                                 + " "
@@ -1866,6 +2047,7 @@ public class ConsoleCheckCLDR {
     }
 
     static String lastHtmlLocaleID = "";
+    private static String lastBaseLanguage = "";
     private static VoterInfoList voterInfoList;
     private static VoteResolver<String> voteResolver;
     private static String resolveVotesDirectory;
@@ -1873,6 +2055,24 @@ public class ConsoleCheckCLDR {
     private static SupplementalDataInfo supplementalDataInfo;
     private static CLDRFile english;
 
+    // settings from the command line, for checkLocale
+    private static Factory cldrFactory;
+    private static PathHeader.Factory pathHeaderFactory;
+    private static Phase phase;
+    private static Level coverageLevel;
+    private static Organization organization;
+    private static Map<String, Level> localeStatus;
+    private static EnumSet<Subtype> subtypeFilter;
+    private static Pattern pathFilterPattern;
+    private static String user;
+    private static boolean showAll;
+    private static boolean showMissing;
+    private static boolean checkFlexibleDates;
+    private static boolean checkOnSubmit;
+    private static boolean baileyTest;
+    private static FlexibleDateFromCLDR fset;
+    private static final Set<String> fatalErrors = Collections.synchronizedSet(new TreeSet<>());
+
     public static class PathShower {
         String localeID;
         boolean newLocale = true;
@@ -2,11 +2,20 @@ package org.unicode.cldr.test;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
 import org.unicode.cldr.test.CheckCLDR.Options;
 import org.unicode.cldr.util.CLDRConfig;
@@ -15,6 +24,7 @@ import org.unicode.cldr.util.CLDRLocale;
 import org.unicode.cldr.util.CLDRLocale.SublocaleProvider;
 import org.unicode.cldr.util.Factory;
 import org.unicode.cldr.util.Pair;
+import org.unicode.cldr.util.PathStarrer;
 import org.unicode.cldr.util.XMLSource;
 
 /**
@@ -26,17 +36,51 @@ import org.unicode.cldr.util.XMLSource;
  */
 public class TestCache implements XMLSource.Listener {
     public class TestResultBundle {
-        private final CheckCLDR cc = CheckCLDR.getCheckAll(getFactory(), nameMatcher);
+        /**
+         * The CheckCLDR for the file; replaced by a new one (see getCheckCLDR) after a value
+         * changes, since the tests may depend on other paths
+         */
+        private volatile CheckCLDR cc;
+
+        private volatile boolean ccIsStale = false;
         final CLDRFile file;
         private final CheckCLDR.Options options;
         private final ConcurrentHashMap<Pair<String, String>, List<CheckStatus>> pathCache;
-        protected final List<CheckStatus> possibleProblems = new ArrayList<>();
+
+        /** The keys of pathCache for each CheckDependencies group, for invalidation */
+        private final ConcurrentHashMap<String, Set<Pair<String, String>>> groupToKeys =
+                new ConcurrentHashMap<>();
+
+        /** Incremented when results are invalidated, so that stale results are not cached */
+        private final AtomicLong generation = new AtomicLong();
+
+        protected volatile List<CheckStatus> possibleProblems = new ArrayList<>();
 
         protected TestResultBundle(CheckCLDR.Options cldrOptions) {
             options = cldrOptions;
             pathCache = new ConcurrentHashMap<>();
             file = getFactory().make(options.getLocale().getBaseName(), true);
-            cc.setCldrFileToCheck(file, options, possibleProblems);
+            cc = newCheckCLDR(possibleProblems);
+        }
+
+        private CheckCLDR newCheckCLDR(List<CheckStatus> problems) {
+            final CheckCLDR checkCldr = CheckCLDR.getCheckAll(getFactory(), nameMatcher);
+            checkCldr.setCldrFileToCheck(file, options, problems);
+            return checkCldr;
+        }
+
+        private CheckCLDR getCheckCLDR() {
+            if (ccIsStale) {
+                synchronized (this) {
+                    if (ccIsStale) {
+                        ccIsStale = false;
+                        final List<CheckStatus> problems = new ArrayList<>();
+                        cc = newCheckCLDR(problems);
+                        possibleProblems = problems;
+                    }
+                }
+            }
+            return cc;
         }
 
         /**
@@ -59,20 +103,139 @@ public class TestCache implements XMLSource.Listener {
             Pair<String, String> key = new Pair<>(path, value);
             List<CheckStatus> cachedResult = pathCache.get(key);
             if (cachedResult != null) {
+                checkHits.increment();
                 result.addAll(cachedResult);
             } else {
-                cc.check(path, file.getFullXPath(path), value, options, result);
-                pathCache.put(key, ImmutableList.copyOf(result));
+                checkMisses.increment();
+                final long gen = generation.get();
+                getCheckCLDR().check(path, file.getFullXPath(path), value, options, result);
+                cacheResult(key, result, gen);
+            }
+        }
+
+        /**
+         * Add the result to the cache, unless results have been invalidated since the check was
+         * started
+         */
+        private void cacheResult(Pair<String, String> key, List<CheckStatus> result, long gen) {
+            final String group = CheckDependencies.getGroup(key.getFirst());
+            if (group != null) {
+                groupToKeys.computeIfAbsent(group, k -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+            pathCache.put(key, ImmutableList.copyOf(result));
+            if (generation.get() != gen) {
+                pathCache.remove(key);
             }
         }
 
         public void getExamples(String path, String value, List<CheckStatus> result) {
-            cc.getExamples(path, file.getFullXPath(path), value, options, result);
+            getCheckCLDR().getExamples(path, file.getFullXPath(path), value, options, result);
         }
 
         public List<CheckStatus> getPossibleProblems() {
             return possibleProblems;
         }
+
+        /** Completed when the warm-up started by warmUp(Executor) is done */
+        private CompletableFuture<Void> warmedUp = null;
+
+        /**
+         * Check the current value of every path in the file, so that later calls to check() for
+         * those values are answered from the cache. The paths are divided among the available
+         * processors, and each part is checked by a task on the executor with its own CheckCLDR,
+         * since CheckCLDR is not thread-safe. Only the first call starts a warm-up.
+         *
+         * @param executor the Executor for the tasks
+         * @return a future that is completed when all the paths have been checked
+         */
+        public synchronized CompletableFuture<Void> warmUp(Executor executor) {
+            if (warmedUp == null) {
+                final long gen = generation.get();
+                warmedUp =
+                        CompletableFuture.supplyAsync(this::getWarmUpChunks, executor)
+                                .thenCompose(chunks -> warmUp(chunks, gen, executor));
+            }
+            return warmedUp;
+        }
+
+        private List<List<String>> getWarmUpChunks() {
+            final Set<String> pathSet = new LinkedHashSet<>();
+            file.fullIterable().forEach(pathSet::add);
+            final List<String> paths = new ArrayList<>(pathSet);
+            final int chunkSize =
+                    Math.max(1, (paths.size() + WARM_UP_CHUNK_COUNT - 1) / WARM_UP_CHUNK_COUNT);
+            return Lists.partition(paths, chunkSize);
+        }
+
+        private CompletableFuture<Void> warmUp(
+                List<List<String>> chunks, long gen, Executor executor) {
+            final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks.size()];
+            for (int i = 0; i < futures.length; i++) {
+                final List<String> chunk = chunks.get(i);
+                futures[i] = CompletableFuture.runAsync(() -> warmUp(chunk, gen), executor);
+            }
+            return CompletableFuture.allOf(futures);
+        }
+
+        private void warmUp(List<String> paths, long gen) {
+            final CheckCLDR checkCldr = newCheckCLDR(new ArrayList<>());
+            final List<CheckStatus> result = new ArrayList<>();
+            for (String path : paths) {
+                if (generation.get() != gen) {
+                    return; // a value changed; leave the rest to check()
+                }
+                final String value = file.getStringValue(path);
+                final Pair<String, String> key = new Pair<>(path, value);
+                if (!pathCache.containsKey(key)) {
+                    checkCldr.check(path, file.getFullXPath(path), value, options, result);
+                    cacheResult(key, result, gen);
+                }
+            }
+        }
+
+        /**
+         * Remove the cached results that may depend on the value of the given path: those for
+         * paths in the same {@link CheckDependencies} group as the path or as the paths depending
+         * on it according to {@link ExampleDependencies}. If any of those paths is not in a group,
+         * all the cached results are removed.
+         *
+         * @param xpath the path whose value has changed
+         */
+        private void valueChanged(String xpath) {
+            generation.incrementAndGet();
+            ccIsStale = true;
+            final Set<String> groups = new HashSet<>();
+            groups.add(CheckDependencies.getGroup(xpath));
+            for (String dependent : ExampleDependencies.dependencies.get(starPath(xpath))) {
+                groups.add(CheckDependencies.getGroup(dependent));
+            }
+            if (groups.contains(null)) {
+                groupToKeys.clear();
+                pathCache.clear();
+                return;
+            }
+            for (String group : groups) {
+                final Set<Pair<String, String>> keys = groupToKeys.remove(group);
+                if (keys != null) {
+                    for (Pair<String, String> key : keys) {
+                        pathCache.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    /** The number of parts into which TestResultBundle.warmUp divides the paths */
+    private static final int WARM_UP_CHUNK_COUNT = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Get the starred path, in the form used by ExampleDependencies
+     *
+     * @param path the path
+     * @return the path with attribute values replaced by "*"
+     */
+    private static String starPath(String path) {
+        return new PathStarrer().setSubstitutionPattern("*").set(path);
     }
 
     private static final boolean DEBUG = false;
@@ -86,8 +249,29 @@ public class TestCache implements XMLSource.Listener {
             CacheBuilder.newBuilder()
                     .maximumSize(CLDRConfig.getInstance().getProperty("CLDR_TESTCACHE_SIZE", 12))
                     .softValues()
+                    .recordStats()
                     .build();
 
+    /** Counts of check() calls answered from, and not from, the results cached in bundles */
+    private final LongAdder checkHits = new LongAdder();
+
+    private final LongAdder checkMisses = new LongAdder();
+
+    /** Get the statistics of the cache of TestResultBundles, for monitoring */
+    public CacheStats getBundleCacheStats() {
+        return testResultCache.stats();
+    }
+
+    /** Get the number of TestResultBundle.check() calls answered from the cache */
+    public long getCheckHitCount() {
+        return checkHits.sum();
+    }
+
+    /** Get the number of TestResultBundle.check() calls that ran the checks */
+    public long getCheckMissCount() {
+        return checkMisses.sum();
+    }
+
     private Factory factory = null;
 
     private String nameMatcher = null;
@@ -106,10 +290,38 @@ public class TestCache implements XMLSource.Listener {
             b = new TestResultBundle(options);
             // System.err.println(et.toString());
             testResultCache.put(options, b);
+            if (warmUpExecutor != null) {
+                b.warmUp(warmUpExecutor);
+            }
         }
         return b;
     }
 
+    private Executor warmUpExecutor = null;
+
+    /**
+     * Set an Executor on which new bundles are warmed up (see TestResultBundle.warmUp) in the
+     * background, or null (the default) to fill their caches only as paths are checked
+     *
+     * @param executor the Executor, or null
+     */
+    public void setWarmUpExecutor(Executor executor) {
+        this.warmUpExecutor = executor;
+    }
+
+    /**
+     * Get the bundle for this test, and fill its cache with the results for the current values of
+     * all paths, on the warm-up Executor if one is set, or else on this thread
+     *
+     * @param options the options
+     * @return the bundle
+     */
+    public TestResultBundle warmUp(CheckCLDR.Options options) {
+        final TestResultBundle b = getBundle(options);
+        b.warmUp(warmUpExecutor != null ? warmUpExecutor : Runnable::run).join();
+        return b;
+    }
+
     protected Factory getFactory() {
         return factory;
     }
@@ -205,29 +417,19 @@ public class TestCache implements XMLSource.Listener {
     /**
      * Update the cache of TestResultBundle objects, per valueChanged
      *
+     * <p>The bundles are kept; only the results that may depend on the changed path are removed.
+     *
      * @param xpath the xpath whose value has changed
      * @param locale the CLDRLocale
      *     <p>Called by valueChangedInvalidateRecursively
      */
-    private void updateTestResultCache(
-            @SuppressWarnings("unused") String xpath, CLDRLocale locale) {
-        if (!testResultCache.asMap().isEmpty()) {
-            // Filter the testResultCache to only remove the items where the locale matches
-            List<Options> toRemove = new ArrayList<>();
-            for (Options k : testResultCache.asMap().keySet()) {
-                if (k.getLocale().equals(locale)) {
-                    toRemove.add(k);
-                }
-            }
-            if (!DEBUG) {
-                // no logging is done, simply invalidate all items
-                testResultCache.invalidateAll(toRemove);
-            } else {
-                // avoid concurrent remove
-                for (CheckCLDR.Options k : toRemove) {
-                    testResultCache.invalidate(k);
-                    System.err.println("BundDel " + k);
+    private void updateTestResultCache(String xpath, CLDRLocale locale) {
+        for (Entry<Options, TestResultBundle> e : testResultCache.asMap().entrySet()) {
+            if (e.getKey().getLocale().equals(locale)) {
+                if (DEBUG) {
+                    System.err.println("BundUpdate " + e.getKey() + " @ " + xpath);
                 }
+                e.getValue().valueChanged(xpath);
             }
         }
     }
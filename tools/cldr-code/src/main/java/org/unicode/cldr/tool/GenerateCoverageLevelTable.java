@@ -0,0 +1,91 @@
+package org.unicode.cldr.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.unicode.cldr.tool.Option.Options;
+import org.unicode.cldr.tool.Option.Params;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRPaths;
+import org.unicode.cldr.util.CoverageLevelTable;
+import org.unicode.cldr.util.Factory;
+import org.unicode.cldr.util.SupplementalDataInfo;
+import org.unicode.cldr.util.Timer;
+
+/**
+ * Precompute the coverage level of every path in every locale into a {@link CoverageLevelTable}.
+ * Run with -DCLDR_COVERAGE_TABLE=&lt;file&gt; afterwards to have the table used.
+ */
+public class GenerateCoverageLevelTable {
+    private enum MyOptions {
+        file(
+                new Params()
+                        .setHelp("Output file")
+                        .setMatch(".+")
+                        .setDefault(CLDRPaths.GEN_DIRECTORY + "coverageLevels.bin")),
+        locale(new Params().setHelp("Regex for locales").setMatch(".*").setDefault(".*")),
+        ;
+
+        // BOILERPLATE TO COPY
+        final Option option;
+
+        private MyOptions(Params params) {
+            option = new Option(this, params);
+        }
+
+        private static Options myOptions = new Options();
+
+        static {
+            for (MyOptions option : MyOptions.values()) {
+                myOptions.add(option, option.option);
+            }
+        }
+
+        private static Set<String> parse(String[] args) {
+            return myOptions.parse(MyOptions.values()[0], args, true);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        MyOptions.parse(args);
+        Matcher localeMatcher = Pattern.compile(MyOptions.locale.option.getValue()).matcher("");
+        CLDRConfig config = CLDRConfig.getInstance();
+        Factory factory = config.getCldrFactory();
+        SupplementalDataInfo sdi = config.getSupplementalDataInfo();
+        Timer timer = new Timer();
+
+        // every path that appears in some locale, plus the ones that only come from inheritance
+        Set<String> locales = new TreeSet<>();
+        Set<String> paths = new TreeSet<>();
+        config.getRoot().forEach(paths::add);
+        config.getEnglish().fullIterable().forEach(paths::add);
+        for (String locale : factory.getAvailable()) {
+            if (localeMatcher.reset(locale).matches()) {
+                locales.add(locale);
+                factory.make(locale, false).forEach(paths::add);
+            }
+        }
+        System.out.println(
+                "Computing " + paths.size() + " paths × " + locales.size() + " locales");
+
+        File file = new File(MyOptions.file.option.getValue());
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        CoverageLevelTable.write(file, sdi, locales, paths);
+
+        CoverageLevelTable table = CoverageLevelTable.open(file, sdi.getDirectory());
+        System.out.println(
+                "Wrote "
+                        + file.getCanonicalPath()
+                        + ": "
+                        + table.getPathCount()
+                        + " paths, "
+                        + table.getGroupCount()
+                        + " locale groups, "
+                        + file.length()
+                        + " bytes, "
+                        + timer);
+    }
+}
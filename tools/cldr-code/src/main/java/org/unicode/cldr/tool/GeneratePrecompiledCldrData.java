@@ -0,0 +1,83 @@
+package org.unicode.cldr.tool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.unicode.cldr.api.CldrDataSupplier;
+import org.unicode.cldr.api.CldrDraftStatus;
+import org.unicode.cldr.tool.Option.Options;
+import org.unicode.cldr.tool.Option.Params;
+import org.unicode.cldr.util.CLDRPaths;
+import org.unicode.cldr.util.Timer;
+
+/**
+ * Write the CLDR data for the API into a directory of memory-mappable files, for use with {@link
+ * CldrDataSupplier#forPrecompiledData(Path)}.
+ */
+public class GeneratePrecompiledCldrData {
+    private enum MyOptions {
+        dir(
+                new Params()
+                        .setHelp("Output directory")
+                        .setMatch(".+")
+                        .setDefault(CLDRPaths.GEN_DIRECTORY + "precompiled")),
+        locale(new Params().setHelp("Regex for locales").setMatch(".*").setDefault(".*")),
+        draftStatus(
+                new Params()
+                        .setHelp("Minimum draft status")
+                        .setMatch("UNCONFIRMED|PROVISIONAL|CONTRIBUTED|APPROVED")
+                        .setDefault("UNCONFIRMED")),
+        ;
+
+        // BOILERPLATE TO COPY
+        final Option option;
+
+        private MyOptions(Params params) {
+            option = new Option(this, params);
+        }
+
+        private static Options myOptions = new Options();
+
+        static {
+            for (MyOptions option : MyOptions.values()) {
+                myOptions.add(option, option.option);
+            }
+        }
+
+        private static Set<String> parse(String[] args) {
+            return myOptions.parse(MyOptions.values()[0], args, true);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        MyOptions.parse(args);
+        Matcher localeMatcher = Pattern.compile(MyOptions.locale.option.getValue()).matcher("");
+        CldrDraftStatus draftStatus =
+                CldrDraftStatus.valueOf(MyOptions.draftStatus.option.getValue());
+        CldrDataSupplier source =
+                CldrDataSupplier.forCldrFilesIn(Paths.get(CLDRPaths.BASE_DIRECTORY));
+        Timer timer = new Timer();
+
+        Set<String> localeIds = new TreeSet<>();
+        for (String localeId : source.getAvailableLocaleIds()) {
+            if (localeMatcher.reset(localeId).matches()) {
+                localeIds.add(localeId);
+            }
+        }
+        Path dir = Paths.get(MyOptions.dir.option.getValue());
+        CldrDataSupplier.writePrecompiledData(source, draftStatus, localeIds, dir);
+        System.out.println(
+                "Wrote "
+                        + localeIds.size()
+                        + " locales to "
+                        + dir.toAbsolutePath()
+                        + " ("
+                        + draftStatus
+                        + "), "
+                        + timer);
+    }
+}
@@ -544,7 +544,23 @@ public class ShowLocaleCoverage {
             Counter<Level> computedLevels = new Counter<>();
             Counter<Level> computedSublocaleLevels = new Counter<>();
 
-            for (String locale : availableLanguages) {
+            // load the next few files (and their parents) in parallel, rather than one at a time
+            final LanguageTagParser prefetchLtp = new LanguageTagParser();
+            final Iterable<String> prefetching =
+                    factory.prefetching(
+                            new ArrayList<>(availableLanguages),
+                            locale ->
+                                    (locales == null
+                                                    || locales.contains(locale)
+                                                    || locales.contains(
+                                                            CLDRLocale.getInstance(locale)
+                                                                    .getLanguage()))
+                                            && (matcher == null || matcher.reset(locale).matches())
+                                            && !defaultContents.contains(locale)
+                                            && prefetchLtp.set(locale).getRegion().isEmpty(),
+                            true,
+                            minimumDraftStatus);
+            for (String locale : prefetching) {
                 try {
                     if (locale.contains("supplemental") // for old versionsl
                     //                        || locale.startsWith("sr_Latn")
@@ -0,0 +1,66 @@
+package org.unicode.cldr.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheBuilderSpec;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the bounded caches behind long-lived static lookup tables, such as the XPathParts frozen
+ * instances, so that memory stays flat over long runs. Each cache is set up from a {@link
+ * CacheBuilderSpec} string, which can be overridden with the Java system property
+ * CLDR_CACHE_&lt;name&gt;, eg
+ *
+ * <pre>
+ * -DCLDR_CACHE_XPathParts=maximumSize=500000,recordStats
+ * -DCLDR_CACHE_XPathParts=maximumWeight=20000000,recordStats
+ * </pre>
+ *
+ * With maximumWeight, entries are weighed by the weigher that the cache was built with (roughly,
+ * the number of characters held). A system property is used rather than CLDRConfig, since these
+ * caches are set up during class initialization of low-level classes.
+ */
+public class BoundedCaches {
+    private static final Map<String, Cache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Build a cache and register it under the given name.
+     *
+     * @param name the name for the system property and for {@link #getStatistics(String)}
+     * @param defaultSpec the CacheBuilderSpec to use if the property isn't set
+     * @param weigher used if the spec has a maximumWeight
+     */
+    public static <K, V> Cache<K, V> build(
+            String name, String defaultSpec, Weigher<? super K, ? super V> weigher) {
+        final String spec = System.getProperty("CLDR_CACHE_" + name, defaultSpec);
+        final CacheBuilder<Object, Object> builder = CacheBuilder.from(spec);
+        final Cache<K, V> cache =
+                spec.contains("maximumWeight") ? builder.weigher(weigher).build() : builder.build();
+        caches.put(name, cache);
+        return cache;
+    }
+
+    /**
+     * Get Statistics for the named cache. They are only recorded if its spec has recordStats.
+     *
+     * @throws IllegalArgumentException if there is no such cache
+     */
+    public static CacheStats getStatistics(String name) {
+        Cache<?, ?> cache = caches.get(name);
+        if (cache == null) {
+            throw new IllegalArgumentException("No cache named " + name + ": " + caches.keySet());
+        }
+        return cache.stats();
+    }
+
+    /** Get the size and Statistics of each cache, by name. */
+    public static Map<String, String> getAllStatistics() {
+        Map<String, String> result = new TreeMap<>();
+        caches.forEach((name, cache) -> result.put(name, cache.size() + "\t" + cache.stats()));
+        return result;
+    }
+}
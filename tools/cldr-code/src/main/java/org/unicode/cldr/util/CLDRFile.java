@@ -10,6 +10,8 @@ package org.unicode.cldr.util;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.collect.ImmutableSet;
@@ -49,10 +51,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.unicode.cldr.test.CheckMetazones;
@@ -159,7 +161,7 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
 
     private Set<String> extraPaths = null;
 
-    private boolean locked;
+    private volatile boolean locked;
     private DtdType dtdType;
     private DtdData dtdData;
 
@@ -440,6 +442,9 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
             CLDRFile result = (CLDRFile) super.clone();
             result.locked = false;
             result.dataSource = result.dataSource.cloneAsThawed();
+            result.namePatterns = null;
+            result.nameCache = newNameCache();
+            result.nameCacheClearer = null;
             return result;
         } catch (CloneNotSupportedException e) {
             throw new InternalError("should never happen");
@@ -1167,7 +1172,7 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
      * @see com.ibm.icu.util.Freezable#isFrozen()
      */
     @Override
-    public synchronized boolean isFrozen() {
+    public boolean isFrozen() {
         return locked;
     }
 
@@ -2563,26 +2568,42 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
     private static class DistinguishedXPath {
 
         public static final String stats() {
-            return "distinguishingMap:"
-                    + distinguishingMap.size()
-                    + " "
-                    + "normalizedPathMap:"
-                    + normalizedPathMap.size();
+            return "distinguishingCache:" + cache.size() + " " + cache.stats();
         }
 
-        private static Map<String, String> distinguishingMap = new ConcurrentHashMap<>();
-        private static Map<String, String> normalizedPathMap = new ConcurrentHashMap<>();
+        /** The distinguishing path for a path, and its normalized path if that is different. */
+        private static final class Distinguished {
+            final String distinguishing;
+            final String normalized;
 
-        static {
-            distinguishingMap.put("", ""); // seed this to make the code simpler
+            Distinguished(String distinguishing, String normalized) {
+                this.distinguishing = distinguishing;
+                this.normalized = normalized;
+            }
         }
 
+        /**
+         * Distinguished paths by path. Bounded, so that memory stays flat when many file versions
+         * are read; see {@link BoundedCaches} for the settings.
+         */
+        private static final Cache<String, Distinguished> cache =
+                BoundedCaches.build(
+                        "DistinguishedXPath",
+                        "maximumSize=200000,recordStats",
+                        (xpath, d) ->
+                                xpath.length()
+                                        + d.distinguishing.length()
+                                        + (d.normalized == null ? 0 : d.normalized.length()));
+
         public static String getDistinguishingXPath(String xpath, String[] normalizedPath) {
             // For example, this removes [@xml:space="preserve"] from a path with element
             // foreignSpaceReplacement.
-            //     synchronized (distinguishingMap) {
-            String result = distinguishingMap.get(xpath);
-            if (result == null) {
+            Distinguished found = xpath.isEmpty() ? new Distinguished("", null) : null;
+            if (found == null) {
+                found = cache.getIfPresent(xpath);
+            }
+            if (found == null) {
+                String normalized = null;
                 XPathParts distinguishingParts =
                         XPathParts.getFrozenInstance(xpath)
                                 .cloneAsThawed(); // not frozen, for removeAttributes
@@ -2640,7 +2661,7 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
                     }
                     String newXPath = distinguishingParts.toString();
                     if (!newXPath.equals(xpath)) {
-                        normalizedPathMap.put(xpath, newXPath); // store differences
+                        normalized = newXPath; // store differences
                     }
                 }
 
@@ -2659,19 +2680,17 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
                     distinguishingParts.removeAttributes(i, toRemove);
                 }
 
-                result = distinguishingParts.toString();
+                String result = distinguishingParts.toString();
                 if (result.equals(xpath)) { // don't save the copy if we don't have to.
                     result = xpath;
                 }
-                distinguishingMap.put(xpath, result);
+                found = new Distinguished(result, normalized);
+                cache.put(xpath, found);
             }
             if (normalizedPath != null) {
-                normalizedPath[0] = normalizedPathMap.get(xpath);
-                if (normalizedPath[0] == null) {
-                    normalizedPath[0] = xpath;
-                }
+                normalizedPath[0] = found.normalized == null ? xpath : found.normalized;
             }
-            return result;
+            return found.distinguishing;
         }
 
         public Map<String, String> getNonDistinguishingAttributes(
@@ -3672,6 +3691,112 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
     static final Joiner JOIN_HYPHEN = Joiner.on('-');
     static final Joiner JOIN_UNDERBAR = Joiner.on('_');
 
+    /*
+     * getName is called from many threads on shared resolved files, so it takes no locks. For
+     * frozen files, the localeDisplayPattern values are looked up once, and composed names are
+     * memoized (the MAX_NAME_CACHE_SIZE most recently used of them); unfrozen files may change,
+     * so they get neither. A resolved file may be frozen while the sources under it change (as
+     * in the Survey Tool), so both are cleared whenever the data source reports a change. Names
+     * with an altPicker aren't memoized, since callers often pass a new one each time.
+     */
+    private static final int MAX_NAME_CACHE_SIZE = 10000;
+
+    private volatile NamePatterns namePatterns;
+    private Cache<NameKey, String> nameCache = newNameCache();
+
+    /**
+     * Clears namePatterns and nameCache; held here since the data source only keeps a weak
+     * reference to it
+     */
+    private volatile XMLSource.Listener nameCacheClearer;
+
+    /** Make sure that namePatterns and nameCache are cleared when the data source changes. */
+    private void clearNamesOnChange() {
+        if (nameCacheClearer == null) {
+            // harmless if done twice
+            XMLSource.Listener clearer =
+                    (xpath, source) -> {
+                        namePatterns = null;
+                        nameCache.invalidateAll();
+                    };
+            nameCacheClearer = clearer;
+            dataSource.addListener(clearer);
+        }
+    }
+
+    private static Cache<NameKey, String> newNameCache() {
+        return CacheBuilder.newBuilder().maximumSize(MAX_NAME_CACHE_SIZE).build();
+    }
+
+    /** The localeDisplayPattern values used to compose names. */
+    private static final class NamePatterns {
+        final String localeKeyTypePattern;
+        final String localePattern;
+        final String localeSeparator;
+
+        NamePatterns(CLDRFile file) {
+            localeKeyTypePattern = file.getWinningValueWithBailey(GETNAME_LOCALE_KEY_TYPE_PATTERN);
+            localePattern = file.getWinningValueWithBailey(GETNAME_LOCALE_PATTERN);
+            localeSeparator = file.getWinningValueWithBailey(GETNAME_LOCALE_SEPARATOR);
+        }
+    }
+
+    private NamePatterns getNamePatterns() {
+        if (!isFrozen()) {
+            return new NamePatterns(this);
+        }
+        clearNamesOnChange();
+        NamePatterns result = namePatterns;
+        if (result == null) {
+            namePatterns = result = new NamePatterns(this); // harmless if computed twice
+        }
+        return result;
+    }
+
+    private static final class NameKey {
+        final String localeOrTZID;
+        final boolean onlyConstructCompound;
+        final String localeKeyTypePattern;
+        final String localePattern;
+        final String localeSeparator;
+
+        NameKey(
+                String localeOrTZID,
+                boolean onlyConstructCompound,
+                String localeKeyTypePattern,
+                String localePattern,
+                String localeSeparator) {
+            this.localeOrTZID = localeOrTZID;
+            this.onlyConstructCompound = onlyConstructCompound;
+            this.localeKeyTypePattern = localeKeyTypePattern;
+            this.localePattern = localePattern;
+            this.localeSeparator = localeSeparator;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof NameKey)) {
+                return false;
+            }
+            NameKey other = (NameKey) obj;
+            return localeOrTZID.equals(other.localeOrTZID)
+                    && onlyConstructCompound == other.onlyConstructCompound
+                    && Objects.equals(localeKeyTypePattern, other.localeKeyTypePattern)
+                    && Objects.equals(localePattern, other.localePattern)
+                    && Objects.equals(localeSeparator, other.localeSeparator);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                    localeOrTZID,
+                    onlyConstructCompound,
+                    localeKeyTypePattern,
+                    localePattern,
+                    localeSeparator);
+        }
+    }
+
     /** Utility for getting a name, given a type and code. */
     public String getName(String type, String code) {
         return getName(typeNameToCode(type), code);
@@ -3696,7 +3821,7 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
      * @param localeOrTZID
      * @return
      */
-    public synchronized String getName(String localeOrTZID) {
+    public String getName(String localeOrTZID) {
         return getName(localeOrTZID, false);
     }
 
@@ -3715,17 +3840,18 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
             boolean onlyConstructCompound,
             Transform<String, String> altPicker,
             Set<String> paths) {
+        NamePatterns patterns = getNamePatterns();
         return getName(
                 lparser,
                 onlyConstructCompound,
                 altPicker,
-                getWinningValueWithBailey(GETNAME_LOCALE_KEY_TYPE_PATTERN),
-                getWinningValueWithBailey(GETNAME_LOCALE_PATTERN),
-                getWinningValueWithBailey(GETNAME_LOCALE_SEPARATOR),
+                patterns.localeKeyTypePattern,
+                patterns.localePattern,
+                patterns.localeSeparator,
                 paths);
     }
 
-    public synchronized String getName(
+    public String getName(
             String localeOrTZID,
             boolean onlyConstructCompound,
             String localeKeyTypePattern,
@@ -3749,7 +3875,7 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
      * @param onlyConstructCompound
      * @return
      */
-    public synchronized String getName(String localeOrTZID, boolean onlyConstructCompound) {
+    public String getName(String localeOrTZID, boolean onlyConstructCompound) {
         return getName(localeOrTZID, onlyConstructCompound, null);
     }
 
@@ -3764,7 +3890,7 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
      *     "English (U.K.)" instead of "English (United Kingdom)"
      * @return
      */
-    public synchronized String getName(
+    public String getName(
             String localeOrTZID,
             boolean onlyConstructCompound,
             Transform<String, String> altPicker) {
@@ -3782,17 +3908,18 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
      *     "English (U.K.)" instead of "English (United Kingdom)"
      * @return
      */
-    public synchronized String getName(
+    public String getName(
             String localeOrTZID,
             boolean onlyConstructCompound,
             Transform<String, String> altPicker,
             Set<String> paths) {
+        NamePatterns patterns = getNamePatterns();
         return getName(
                 localeOrTZID,
                 onlyConstructCompound,
-                getWinningValueWithBailey(GETNAME_LOCALE_KEY_TYPE_PATTERN),
-                getWinningValueWithBailey(GETNAME_LOCALE_PATTERN),
-                getWinningValueWithBailey(GETNAME_LOCALE_SEPARATOR),
+                patterns.localeKeyTypePattern,
+                patterns.localePattern,
+                patterns.localeSeparator,
                 altPicker,
                 paths);
     }
@@ -3809,7 +3936,51 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
      * @param paths if non-null, fillin with contributory paths
      * @return
      */
-    public synchronized String getName(
+    public String getName(
+            String localeOrTZID,
+            boolean onlyConstructCompound,
+            String localeKeyTypePattern,
+            String localePattern,
+            String localeSeparator,
+            Transform<String, String> altPicker,
+            Set<String> paths) {
+        if (paths != null || altPicker != null || !isFrozen()) {
+            return computeName(
+                    localeOrTZID,
+                    onlyConstructCompound,
+                    localeKeyTypePattern,
+                    localePattern,
+                    localeSeparator,
+                    altPicker,
+                    paths);
+        }
+        clearNamesOnChange();
+        NameKey key =
+                new NameKey(
+                        localeOrTZID,
+                        onlyConstructCompound,
+                        localeKeyTypePattern,
+                        localePattern,
+                        localeSeparator);
+        String result = nameCache.getIfPresent(key);
+        if (result == null) {
+            result =
+                    computeName(
+                            localeOrTZID,
+                            onlyConstructCompound,
+                            localeKeyTypePattern,
+                            localePattern,
+                            localeSeparator,
+                            null,
+                            null);
+            if (result != null) {
+                nameCache.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    private String computeName(
             String localeOrTZID,
             boolean onlyConstructCompound,
             String localeKeyTypePattern,
@@ -0,0 +1,298 @@
+package org.unicode.cldr.util;
+
+import com.ibm.icu.util.VersionInfo;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.unicode.cldr.util.XPathParts.Comments;
+
+/**
+ * An XMLSource that keys its data by the int IDs of {@link XPathIdTable}, in an open-addressing
+ * hash table of primitive arrays, instead of the String-keyed maps of {@link SimpleXMLSource}. The
+ * distinguishing and full paths are shared across all sources, so when many locales are resident
+ * (as in the Survey Tool) each one only costs a few ints per path plus its values.
+ *
+ * <p>Lookups are lock-free. Modifications are synchronized; a reader racing with a modification
+ * may miss the entry being added, but never sees a damaged table. Most instances are made frozen
+ * from a SimpleXMLSource by the loader.
+ */
+public class CompactXMLSource extends XMLSource {
+    private static final int EMPTY = -1;
+    private static final int REMOVED = -2;
+    private static final int SAME_AS_DPATH = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    /** The open-addressing table, replaced as a whole when it grows. */
+    private static final class Table {
+        final int[] pathIds; // EMPTY, REMOVED, or the ID of the distinguishing path
+        final int[] fullPathIds; // SAME_AS_DPATH, or the ID of the full path
+        final String[] values;
+        final int mask;
+        int count; // live entries
+        int used; // live plus removed entries
+
+        Table(int capacity) {
+            pathIds = new int[capacity];
+            Arrays.fill(pathIds, EMPTY);
+            fullPathIds = new int[capacity];
+            values = new String[capacity];
+            mask = capacity - 1;
+        }
+
+        int find(int pathId) {
+            for (int i = hash(pathId) & mask; ; i = (i + 1) & mask) {
+                int current = pathIds[i];
+                if (current == pathId) {
+                    return i;
+                } else if (current == EMPTY) {
+                    return -1;
+                }
+            }
+        }
+
+        Table copy(int capacity) {
+            Table result = new Table(capacity);
+            for (int i = 0; i < pathIds.length; ++i) {
+                if (pathIds[i] >= 0) {
+                    result.insert(pathIds[i], values[i], fullPathIds[i]);
+                }
+            }
+            return result;
+        }
+
+        void insert(int pathId, String value, int fullPathId) {
+            int i = hash(pathId) & mask;
+            while (pathIds[i] >= 0) {
+                i = (i + 1) & mask;
+            }
+            if (pathIds[i] == EMPTY) {
+                ++used;
+            }
+            // fill in the data before the key, so a racing reader never finds a key without data
+            values[i] = value;
+            fullPathIds[i] = fullPathId;
+            pathIds[i] = pathId;
+            ++count;
+        }
+
+        private static int hash(int pathId) {
+            int h = pathId * 0x9E3779B9; // Fibonacci hashing spreads the dense IDs
+            return h ^ (h >>> 16);
+        }
+    }
+
+    private volatile Table table;
+    private Comments xpath_comments = new Comments();
+    private Map<String, SourceLocation> locationHash = new HashMap<>();
+    private VersionInfo dtdVersionInfo;
+
+    public CompactXMLSource(String localeID) {
+        table = new Table(MIN_CAPACITY);
+        setLocaleID(localeID);
+    }
+
+    /**
+     * Make a compact copy of another source, sharing its comments. The copy is frozen if the
+     * other source is.
+     */
+    public CompactXMLSource(XMLSource other) {
+        List<String> paths = new ArrayList<>();
+        other.forEach(paths::add);
+        table = new Table(capacityFor(paths.size()));
+        for (String dpath : paths) {
+            String fullPath = other.getFullPathAtDPath(dpath);
+            if (fullPath == null) {
+                fullPath = dpath;
+            }
+            int fullPathId = XPathIdTable.getId(fullPath);
+            table.insert(
+                    XPathIdTable.getId(dpath),
+                    other.getValueAtDPath(dpath),
+                    fullPath.equals(dpath) ? SAME_AS_DPATH : fullPathId);
+            SourceLocation location = other.getSourceLocation(fullPath);
+            if (location != null) {
+                locationHash.put(XPathIdTable.getPath(fullPathId), location);
+            }
+        }
+        xpath_comments = other.getXpathComments();
+        dtdVersionInfo = other.getDtdVersionInfo();
+        setLocaleID(other.getLocaleID());
+        setNonInheriting(other.isNonInheriting());
+        setXMLNormalizingDtdType(other.getXMLNormalizingDtdType());
+        if (other.isFrozen()) {
+            locationHash = Collections.unmodifiableMap(locationHash);
+            locked = true;
+        }
+    }
+
+    private static int capacityFor(int count) {
+        // keep the load factor at or under 1/2
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, count) * 2 - 1) << 1);
+    }
+
+    /** Get the value for a distinguishing path ID from {@link XPathIdTable}. */
+    public String getValueAtPathId(int pathId) {
+        Table current = table;
+        int i = current.find(pathId);
+        return i < 0 ? null : current.values[i];
+    }
+
+    @Override
+    public String getValueAtDPath(String xpath) {
+        int pathId = XPathIdTable.peekId(xpath);
+        return pathId == XPathIdTable.NO_ID ? null : getValueAtPathId(pathId);
+    }
+
+    @Override
+    public String getFullPathAtDPath(String xpath) {
+        int pathId = XPathIdTable.peekId(xpath);
+        if (pathId == XPathIdTable.NO_ID) {
+            return null;
+        }
+        Table current = table;
+        int i = current.find(pathId);
+        if (i < 0) {
+            return null;
+        }
+        int fullPathId = current.fullPathIds[i];
+        return fullPathId == SAME_AS_DPATH ? xpath : XPathIdTable.getPath(fullPathId);
+    }
+
+    @Override
+    public synchronized void putValueAtDPath(String distinguishingXPath, String value) {
+        int pathId = XPathIdTable.getId(distinguishingXPath);
+        Table current = table;
+        int i = current.find(pathId);
+        if (i >= 0) {
+            current.values[i] = value;
+            return;
+        }
+        if ((current.used + 1) * 2 > current.pathIds.length) {
+            current = current.copy(capacityFor(current.count + 1));
+        }
+        current.insert(pathId, value, SAME_AS_DPATH);
+        table = current;
+    }
+
+    @Override
+    public synchronized void putFullPathAtDPath(String distinguishingXPath, String fullxpath) {
+        Table current = table;
+        int i = current.find(XPathIdTable.getId(distinguishingXPath));
+        if (i >= 0) {
+            current.fullPathIds[i] =
+                    fullxpath.equals(distinguishingXPath)
+                            ? SAME_AS_DPATH
+                            : XPathIdTable.getId(fullxpath);
+        }
+        // else like SimpleXMLSource, a full path without a value is of no use; the value is
+        // always put first by XMLSource.putValueAtPath
+    }
+
+    @Override
+    public synchronized void removeValueAtDPath(String distinguishingXPath) {
+        int pathId = XPathIdTable.peekId(distinguishingXPath);
+        if (pathId == XPathIdTable.NO_ID) {
+            return;
+        }
+        Table current = table;
+        int i = current.find(pathId);
+        if (i >= 0) {
+            current.pathIds[i] = REMOVED;
+            current.values[i] = null;
+            --current.count;
+        }
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        Table current = table;
+        List<String> result = new ArrayList<>(current.count);
+        for (int pathId : current.pathIds) {
+            if (pathId >= 0) {
+                result.add(XPathIdTable.getPath(pathId));
+            }
+        }
+        return Collections.unmodifiableList(result).iterator();
+    }
+
+    @Override
+    public Comments getXpathComments() {
+        return xpath_comments;
+    }
+
+    @Override
+    public void setXpathComments(Comments xpath_comments) {
+        this.xpath_comments = xpath_comments;
+    }
+
+    /**
+     * Find the paths with a matching value. Unlike SimpleXMLSource, no value-to-path index is kept
+     * (that would defeat the purpose of this class), so this is a linear scan.
+     */
+    @Override
+    public void getPathsWithValue(String valueToMatch, String pathPrefix, Set<String> result) {
+        String normalized = SimpleXMLSource.normalize(valueToMatch);
+        Table current = table;
+        for (int i = 0; i < current.pathIds.length; ++i) {
+            int pathId = current.pathIds[i];
+            if (pathId < 0) {
+                continue;
+            }
+            String value = current.values[i];
+            if (value == null || CldrUtility.INHERITANCE_MARKER.equals(value)) {
+                continue;
+            }
+            String path = XPathIdTable.getPath(pathId);
+            if ((pathPrefix == null || path.startsWith(pathPrefix))
+                    && normalized.equals(SimpleXMLSource.normalize(value))) {
+                result.add(path);
+            }
+        }
+    }
+
+    @Override
+    public XMLSource freeze() {
+        locked = true;
+        return this;
+    }
+
+    @Override
+    public XMLSource cloneAsThawed() {
+        CompactXMLSource result = (CompactXMLSource) super.cloneAsThawed();
+        Table current = table;
+        result.table = current.copy(current.pathIds.length);
+        result.xpath_comments = (Comments) xpath_comments.clone();
+        result.locationHash = new HashMap<>(locationHash);
+        return result;
+    }
+
+    @Override
+    public VersionInfo getDtdVersionInfo() {
+        return dtdVersionInfo;
+    }
+
+    public void setDtdVersionInfo(VersionInfo dtdVersionInfo) {
+        this.dtdVersionInfo = dtdVersionInfo;
+    }
+
+    @Override
+    public XMLSource addSourceLocation(String currentFullXPath, SourceLocation location) {
+        if (!isFrozen()) {
+            locationHash.put(currentFullXPath.intern(), location);
+        } else {
+            System.err.println(
+                    "CompactXMLSource::addSourceLocationAttempt to modify frozen source location");
+        }
+        return this;
+    }
+
+    @Override
+    public SourceLocation getSourceLocation(String fullXPath) {
+        return locationHash.get(fullXPath);
+    }
+}
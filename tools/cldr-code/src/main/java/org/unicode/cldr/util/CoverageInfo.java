@@ -79,7 +79,17 @@ public class CoverageInfo {
      * @return
      */
     public Level getCoverageLevel(String xpath, String loc) {
+        if (xpath == null) {
+            return Level.UNDETERMINED; // as CoverageLevel2.getLevel does
+        }
         Level result = null;
+        final CoverageLevelTable table = supplementalDataInfo.getCoverageLevelTable();
+        if (table != null) {
+            result = table.get(xpath, loc);
+            if (result != null) {
+                return result;
+            }
+        }
         final XPathWithLocation xpLoc = new XPathWithLocation(xpath, loc);
         try {
             result =
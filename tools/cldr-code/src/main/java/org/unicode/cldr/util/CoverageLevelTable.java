@@ -0,0 +1,274 @@
+package org.unicode.cldr.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+import org.unicode.cldr.test.CoverageLevel2;
+
+/**
+ * Precomputed coverage levels for (distinguishing path, locale) pairs, stored as a compact on-disk
+ * table that is memory-mapped when opened. Paths are keyed by their {@link StringId}, so the table
+ * is independent of the process that wrote it. Locales whose levels are identical for every path
+ * share a column (a "locale group"), which keeps the table small.
+ *
+ * <p>The table records a checksum of the supplemental data it was computed from, and is ignored if
+ * that data has changed. Paths or locales that are not in the table return null from {@link
+ * #get(String, String)}, and callers fall back to {@link CoverageLevel2}.
+ *
+ * <p>The table is used by {@link SupplementalDataInfo#getCoverageLevel(String, String)} and {@link
+ * CoverageInfo} if the property {@link #TABLE_FILE_KEY} names a table file, for example
+ * -DCLDR_COVERAGE_TABLE=/tmp/coverageLevels.bin. Write it with {@link
+ * org.unicode.cldr.tool.GenerateCoverageLevelTable}.
+ */
+public class CoverageLevelTable {
+    public static final String TABLE_FILE_KEY = "CLDR_COVERAGE_TABLE";
+
+    private static final int MAGIC = 0x434C4456; // "CLDV"
+    private static final int FORMAT_VERSION = 1;
+    private static final Level[] LEVELS = Level.values();
+
+    private final Map<String, Integer> localeToGroup;
+    private final ByteBuffer buffer;
+    private final int pathCount;
+    private final int groupCount;
+    private final int idsOffset;
+    private final int levelsOffset;
+
+    private CoverageLevelTable(
+            Map<String, Integer> localeToGroup,
+            ByteBuffer buffer,
+            int pathCount,
+            int groupCount,
+            int idsOffset) {
+        this.localeToGroup = localeToGroup;
+        this.buffer = buffer;
+        this.pathCount = pathCount;
+        this.groupCount = groupCount;
+        this.idsOffset = idsOffset;
+        this.levelsOffset = idsOffset + 8 * pathCount;
+    }
+
+    /**
+     * Open the table named by {@link #TABLE_FILE_KEY}, if it is set and the table is current for
+     * the supplemental data in the directory. Otherwise returns null.
+     */
+    public static CoverageLevelTable open(File supplementalDirectory) {
+        String fileName = CldrUtility.getProperty(TABLE_FILE_KEY, null);
+        if (fileName == null || fileName.isEmpty()) {
+            return null;
+        }
+        File file = new File(fileName);
+        if (!file.isFile()) {
+            System.err.println("CoverageLevelTable: " + file + " not found, not used");
+            return null;
+        }
+        try {
+            CoverageLevelTable result = open(file, supplementalDirectory);
+            if (result == null) {
+                System.err.println("CoverageLevelTable: " + file + " is out of date, not used");
+            }
+            return result;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("CoverageLevelTable: can't read " + file + ", not used: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Open a table file, returning null if it was not computed from the current supplemental data
+     * in the directory.
+     */
+    public static CoverageLevelTable open(File file, File supplementalDirectory)
+            throws IOException {
+        final ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            return null;
+        }
+        if (buffer.getLong() != getStamp(supplementalDirectory)) {
+            return null;
+        }
+        final int pathCount = buffer.getInt();
+        final int groupCount = buffer.getInt();
+        final int localeCount = buffer.getInt();
+        final Map<String, Integer> localeToGroup = new HashMap<>(2 * localeCount);
+        for (int i = 0; i < localeCount; ++i) {
+            byte[] localeBytes = new byte[buffer.getShort()];
+            buffer.get(localeBytes);
+            localeToGroup.put(new String(localeBytes, StandardCharsets.UTF_8), buffer.getInt());
+        }
+        return new CoverageLevelTable(
+                localeToGroup, buffer, pathCount, groupCount, buffer.position());
+    }
+
+    /**
+     * Get the coverage level for the path in the locale, or null if the table doesn't have that
+     * path or locale.
+     */
+    public Level get(String xpath, String locale) {
+        Integer group = localeToGroup.get(locale);
+        if (group == null || xpath == null) {
+            return null;
+        }
+        int index = findPath(StringId.getId(xpath));
+        if (index < 0) {
+            return null;
+        }
+        return LEVELS[buffer.get(levelsOffset + index * groupCount + group)];
+    }
+
+    /** Returns true if the table has levels for the locale. */
+    public boolean hasLocale(String locale) {
+        return localeToGroup.containsKey(locale);
+    }
+
+    /** The number of paths in the table. */
+    public int getPathCount() {
+        return pathCount;
+    }
+
+    /** The number of distinct locale groups (columns) in the table. */
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    private int findPath(long id) {
+        // binary search over the sorted IDs, using absolute gets so lookups are thread-safe
+        int low = 0;
+        int high = pathCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = buffer.getLong(idsOffset + 8 * mid);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compute the coverage levels for all the paths in all the locales, and write them to the
+     * file. The file is written to a temporary file first and then moved into place, so a reader
+     * never sees a partial table.
+     */
+    public static void write(
+            File file,
+            SupplementalDataInfo sdi,
+            Collection<String> locales,
+            Collection<String> paths)
+            throws IOException {
+        final long[] ids = new long[paths.size()];
+        final Map<Long, String> idToPath = new HashMap<>(2 * paths.size());
+        int count = 0;
+        for (String path : paths) {
+            long id = StringId.getId(path);
+            if (idToPath.put(id, path) == null) {
+                ids[count++] = id;
+            }
+        }
+        final long[] sortedIds = Arrays.copyOf(ids, count);
+        Arrays.sort(sortedIds);
+        final String[] sortedPaths = new String[count];
+        for (int i = 0; i < count; ++i) {
+            sortedPaths[i] = idToPath.get(sortedIds[i]);
+        }
+
+        // compute a column per locale, sharing identical columns
+        final Map<ByteBuffer, Integer> columnToGroup = new LinkedHashMap<>();
+        final Map<String, Integer> localeToGroup = new LinkedHashMap<>();
+        for (String locale : new TreeSet<>(locales)) {
+            final CoverageLevel2 coverage = CoverageLevel2.getInstance(sdi, locale);
+            final byte[] column = new byte[count];
+            for (int i = 0; i < count; ++i) {
+                column[i] = (byte) coverage.getLevel(sortedPaths[i]).ordinal();
+            }
+            Integer group = columnToGroup.get(ByteBuffer.wrap(column));
+            if (group == null) {
+                group = columnToGroup.size();
+                columnToGroup.put(ByteBuffer.wrap(column), group);
+            }
+            localeToGroup.put(locale, group);
+        }
+        final byte[][] columns = new byte[columnToGroup.size()][];
+        for (Entry<ByteBuffer, Integer> entry : columnToGroup.entrySet()) {
+            columns[entry.getValue()] = entry.getKey().array();
+        }
+
+        final File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(getStamp(sdi.getDirectory()));
+            out.writeInt(count);
+            out.writeInt(columns.length);
+            out.writeInt(localeToGroup.size());
+            for (Entry<String, Integer> entry : localeToGroup.entrySet()) {
+                byte[] localeBytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeShort(localeBytes.length);
+                out.write(localeBytes);
+                out.writeInt(entry.getValue());
+            }
+            for (long id : sortedIds) {
+                out.writeLong(id);
+            }
+            // row-major, so all the groups for a path are adjacent
+            for (int i = 0; i < count; ++i) {
+                for (byte[] column : columns) {
+                    out.writeByte(column[i]);
+                }
+            }
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * A checksum of everything the levels depend on: the supplemental XML files (including the
+     * coverage rules), the generation version, and the set of levels.
+     */
+    static long getStamp(File supplementalDirectory) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(CLDRFile.GEN_VERSION.getBytes(StandardCharsets.UTF_8));
+        crc.update(LEVELS.length);
+        File[] files = supplementalDirectory.listFiles((dir, name) -> name.endsWith(".xml"));
+        if (files == null) {
+            throw new IOException("Can't list " + supplementalDirectory);
+        }
+        Arrays.sort(files);
+        byte[] buffer = new byte[1 << 16];
+        for (File file : files) {
+            crc.update(file.getName().getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                int length;
+                while ((length = in.read(buffer)) > 0) {
+                    crc.update(buffer, 0, length);
+                }
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -2,11 +2,25 @@ package org.unicode.cldr.util;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.unicode.cldr.util.CLDRFile.DraftStatus;
 import org.unicode.cldr.util.CLDRLocale.SublocaleProvider;
 import org.unicode.cldr.util.XMLSource.ResolvingSource;
@@ -31,6 +45,28 @@ public abstract class Factory implements SublocaleProvider {
     /** Flag to set more verbose output in makeServolingSource */
     private static final boolean DEBUG_FACTORY = false;
 
+    /**
+     * The pool for all loading, shared so that each call doesn't start its own threads. It is in a
+     * holder so that CLDRConfig isn't read, and no pool is made, until something is loaded in
+     * parallel. Like those of the common pool, its threads are daemons and exit when idle, so it
+     * is never shut down.
+     */
+    private static final class LoadPoolHolder {
+        /** Maximum number of threads used by makeAll / prefetch, set with -DCLDR_LOAD_THREADS=n */
+        private static final int LOAD_THREADS =
+                Math.max(
+                        1,
+                        CLDRConfig.getInstance()
+                                .getProperty(
+                                        "CLDR_LOAD_THREADS",
+                                        Runtime.getRuntime().availableProcessors()));
+
+        private static final ForkJoinPool LOAD_POOL = new ForkJoinPool(LOAD_THREADS);
+
+        /** How many locales {@link #prefetching} loads ahead of the caller */
+        private static final int PREFETCH_WINDOW = 2 * LOAD_THREADS;
+    }
+
     private File supplementalDirectory = null;
 
     /**
@@ -139,6 +175,37 @@ public abstract class Factory implements SublocaleProvider {
         return make(localeID, resolved, getMinimalDraftStatus());
     }
 
+    /**
+     * Make the resolved file for a locale from the already-made resolved file of its parent. The
+     * result shares the parent's resolution chain and starts from the parent's set of resolved
+     * paths, so making a tree of locales parents-first avoids recomputing that set for every
+     * child. The parent must have been made with the same minimal draft status. If resolvedParent
+     * is null or is not the resolved parent of the locale, this is the same as {@link
+     * #make(String, boolean, DraftStatus)}.
+     *
+     * @param localeID the locale to make
+     * @param resolvedParent the resolved file for the parent of the locale, or null
+     * @param madeWithMinimalDraftStatus the minimal draft status
+     * @return the resolved file
+     */
+    public CLDRFile makeResolvedChild(
+            String localeID, CLDRFile resolvedParent, DraftStatus madeWithMinimalDraftStatus) {
+        final XMLSource parentSource = resolvedParent == null ? null : resolvedParent.dataSource;
+        if (!(parentSource instanceof ResolvingSource)
+                || !parentSource
+                        .getLocaleID()
+                        .equals(LocaleIDParser.getParent(localeID, ignoreExplicitParentLocale))) {
+            return make(localeID, true, madeWithMinimalDraftStatus);
+        }
+        CLDRFile file = handleMake(localeID, false, madeWithMinimalDraftStatus);
+        if (file == null) {
+            throw new NullPointerException(
+                    this + ".handleMake returned a null CLDRFile for " + localeID);
+        }
+        return new CLDRFile(new ResolvingSource(file.dataSource, (ResolvingSource) parentSource))
+                .setSupplementalDirectory(getSupplementalDirectory());
+    }
+
     public CLDRFile makeWithFallback(String localeID) {
         return makeWithFallback(localeID, getMinimalDraftStatus());
     }
@@ -152,6 +219,198 @@ public abstract class Factory implements SublocaleProvider {
         return make(currentLocaleID, true, madeWithMinimalDraftStatus);
     }
 
+    /**
+     * Load the unresolved files for a set of locales in parallel, on a fork-join pool bounded by
+     * CLDR_LOAD_THREADS, so that later calls to make() are fast. If resolved is true, all of the
+     * parents of the locales are loaded as well; each shared parent is loaded exactly once. Locales
+     * that are not available or that fail to load are skipped.
+     *
+     * <p>The files are only kept in soft caches of limited size, so this is for sets of locales
+     * which are used soon afterwards. To work through many locales one at a time, use {@link
+     * #prefetching} instead.
+     *
+     * @param localeIDs the locales to load
+     * @param resolved whether the resolved files will be wanted
+     */
+    public void prefetch(Collection<String> localeIDs, boolean resolved) {
+        prefetch(localeIDs, resolved, getMinimalDraftStatus());
+    }
+
+    public void prefetch(
+            Collection<String> localeIDs,
+            boolean resolved,
+            DraftStatus madeWithMinimalDraftStatus) {
+        Set<String> available = handleGetAvailable();
+        Set<String> forest = new LinkedHashSet<>();
+        for (String localeID : localeIDs) {
+            for (String curLocale = localeID;
+                    curLocale != null && !forest.contains(curLocale);
+                    curLocale =
+                            resolved
+                                    ? LocaleIDParser.getParent(
+                                            curLocale, ignoreExplicitParentLocale)
+                                    : null) {
+                if (available.contains(curLocale)) {
+                    forest.add(curLocale);
+                }
+            }
+        }
+        Consumer<String> loader = localeID -> load(localeID, madeWithMinimalDraftStatus);
+        runInLoadPool(() -> forest.parallelStream().forEach(loader), localeIDs);
+    }
+
+    /**
+     * Iterate over a list of locales, loading the unresolved files of the next few locales (and
+     * their parents, if resolved is true) in parallel while the caller works on the current one.
+     * Only a few locales are loaded ahead, so that they are still cached when the caller makes
+     * them. Each locale is returned once its files are loaded.
+     *
+     * @param localeIDs the locales, in the order in which they are wanted
+     * @param toLoad which of the locales to load; the others are returned without loading them
+     * @param resolved whether the resolved files will be wanted
+     */
+    public Iterable<String> prefetching(
+            List<String> localeIDs,
+            Predicate<String> toLoad,
+            boolean resolved,
+            DraftStatus madeWithMinimalDraftStatus) {
+        return () -> new Prefetcher(localeIDs, toLoad, resolved, madeWithMinimalDraftStatus);
+    }
+
+    /** The iterator for {@link #prefetching} */
+    private class Prefetcher implements Iterator<String> {
+        private final List<String> localeIDs;
+        private final Predicate<String> toLoad;
+        private final boolean resolved;
+        private final DraftStatus draftStatus;
+        private final Set<String> available = handleGetAvailable();
+        // the loading of each locale that has been started
+        private final Map<String, CompletableFuture<Void>> loads = new HashMap<>();
+        private int next = 0; // the next locale to return
+        private int ahead = 0; // the next locale to start loading
+
+        Prefetcher(
+                List<String> localeIDs,
+                Predicate<String> toLoad,
+                boolean resolved,
+                DraftStatus draftStatus) {
+            this.localeIDs = localeIDs;
+            this.toLoad = toLoad;
+            this.resolved = resolved;
+            this.draftStatus = draftStatus;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < localeIDs.size();
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int end = Math.min(localeIDs.size(), next + LoadPoolHolder.PREFETCH_WINDOW);
+            for (; ahead < end; ahead++) {
+                for (String localeID : getLocalesToLoad(localeIDs.get(ahead))) {
+                    loads.computeIfAbsent(
+                            localeID,
+                            k ->
+                                    CompletableFuture.runAsync(
+                                            () -> load(k, draftStatus), LoadPoolHolder.LOAD_POOL));
+                }
+            }
+            final String result = localeIDs.get(next++);
+            for (String localeID : getLocalesToLoad(result)) {
+                loads.get(localeID).join();
+            }
+            return result;
+        }
+
+        /** The available locales to load for a locale: it and its parents, if resolved */
+        private List<String> getLocalesToLoad(String localeID) {
+            final List<String> result = new ArrayList<>();
+            if (!toLoad.test(localeID)) {
+                return result;
+            }
+            for (String curLocale = localeID;
+                    curLocale != null;
+                    curLocale =
+                            resolved
+                                    ? LocaleIDParser.getParent(
+                                            curLocale, ignoreExplicitParentLocale)
+                                    : null) {
+                if (available.contains(curLocale)) {
+                    result.add(curLocale);
+                }
+            }
+            return result;
+        }
+    }
+
+    private void load(String localeID, DraftStatus madeWithMinimalDraftStatus) {
+        try {
+            handleMake(localeID, false, madeWithMinimalDraftStatus);
+        } catch (RuntimeException e) {
+            // ignore here; make() will throw the same exception to the caller
+        }
+    }
+
+    /**
+     * Make the files for a set of locales in parallel. The inheritance forest is first loaded with
+     * {@link #prefetch(Collection, boolean)}, then the requested files are made from it.
+     *
+     * @param localeIDs the locales to make
+     * @param resolved whether to make resolved files
+     * @return the files, keyed by locale ID, in the iteration order of localeIDs
+     */
+    public Map<String, CLDRFile> makeAll(Collection<String> localeIDs, boolean resolved) {
+        return makeAll(localeIDs, resolved, getMinimalDraftStatus());
+    }
+
+    public Map<String, CLDRFile> makeAll(
+            Collection<String> localeIDs,
+            boolean resolved,
+            DraftStatus madeWithMinimalDraftStatus) {
+        prefetch(localeIDs, resolved, madeWithMinimalDraftStatus);
+        List<String> localeList = new ArrayList<>(localeIDs);
+        Function<String, CLDRFile> maker =
+                localeID -> make(localeID, resolved, madeWithMinimalDraftStatus);
+        List<CLDRFile> files =
+                runInLoadPool(
+                        () -> localeList.parallelStream().map(maker).collect(Collectors.toList()),
+                        localeIDs);
+        Map<String, CLDRFile> result = new LinkedHashMap<>();
+        for (int i = 0; i < localeList.size(); ++i) {
+            result.put(localeList.get(i), files.get(i));
+        }
+        return result;
+    }
+
+    private static void runInLoadPool(Runnable task, Collection<String> localeIDs) {
+        runInLoadPool(
+                () -> {
+                    task.run();
+                    return null;
+                },
+                localeIDs);
+    }
+
+    /** Run a task (normally a parallel stream) in the load pool, not in the common pool */
+    private static <T> T runInLoadPool(Callable<T> task, Collection<String> localeIDs) {
+        try {
+            return LoadPoolHolder.LOAD_POOL.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + localeIDs, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Couldn't load " + localeIDs, e.getCause());
+        }
+    }
+
     public static XMLSource makeResolvingSource(List<XMLSource> sources) {
         return new ResolvingSource(sources);
     }
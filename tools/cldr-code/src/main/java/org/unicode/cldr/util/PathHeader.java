@@ -1,6 +1,11 @@
 package org.unicode.cldr.util;
 
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
 import com.ibm.icu.impl.Relation;
 import com.ibm.icu.impl.Row;
 import com.ibm.icu.lang.UCharacter;
@@ -24,6 +29,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -642,12 +648,54 @@ public class PathHeader implements Comparable<PathHeader> {
         static long order;
         static SubstringOrder suborder;
 
-        static final Map<String, PathHeader> cache = new HashMap<>();
-        // synchronized with cache
-        static final Map<SectionId, Map<PageId, SectionPage>> sectionToPageToSectionPage =
-                new EnumMap<>(SectionId.class);
-        static final Relation<SectionPage, String> sectionPageToPaths =
-                Relation.of(new TreeMap<SectionPage, Set<String>>(), HashSet.class);
+        /** Maximum number of PathHeaders in the cache, set with -DCLDR_PATHHEADER_CACHE_SIZE=n */
+        private static final int CACHE_SIZE =
+                Integer.parseInt(CldrUtility.getProperty("CLDR_PATHHEADER_CACHE_SIZE", "300000"));
+
+        /**
+         * The paths in the cache for each section and page, so it is bounded by CACHE_SIZE too.
+         * The index has an entry for every page that the lookup can produce, built once, so
+         * adding a path or reading a page never locks.
+         */
+        private static final Map<SectionId, Map<PageId, Set<String>>> sectionToPageToPaths =
+                buildSectionPageIndex();
+
+        /**
+         * PathHeaders by path. Reads don't lock; misses are computed under the lookup lock, and
+         * the least-recently-used entries are dropped when the cache is full, and their paths from
+         * sectionToPageToPaths.
+         */
+        static final Cache<String, PathHeader> cache =
+                CacheBuilder.newBuilder()
+                        .maximumSize(CACHE_SIZE)
+                        .recordStats()
+                        .removalListener(
+                                (RemovalNotification<String, PathHeader> removed) -> {
+                                    if (removed.getCause() != RemovalCause.REPLACED) {
+                                        Set<String> paths = getIndexedPaths(removed.getValue());
+                                        if (paths != null) {
+                                            paths.remove(removed.getKey());
+                                        }
+                                    }
+                                })
+                        .build();
+
+        /** The indexed paths of the page of a PathHeader, or null if the page isn't indexed. */
+        private static Set<String> getIndexedPaths(PathHeader pathHeader) {
+            return sectionToPageToPaths.get(pathHeader.sectionId).get(pathHeader.pageId);
+        }
+
+        private static Map<SectionId, Map<PageId, Set<String>>> buildSectionPageIndex() {
+            Map<SectionId, Map<PageId, Set<String>>> result = new EnumMap<>(SectionId.class);
+            for (SectionId sectionId : SectionId.values()) {
+                result.put(sectionId, new EnumMap<>(PageId.class));
+            }
+            for (PageId pageId : PageId.values()) {
+                result.get(pageId.getSectionId()).put(pageId, ConcurrentHashMap.newKeySet());
+            }
+            return result;
+        }
+
         private static CLDRFile englishFile;
         private Set<String> matchersFound = new HashSet<>();
 
@@ -678,9 +726,12 @@ public class PathHeader implements Comparable<PathHeader> {
 
         /** Use only when trying to find unmatched patterns */
         public void clearCache() {
-            synchronized (cache) {
-                cache.clear();
-            }
+            cache.invalidateAll();
+        }
+
+        /** Get the hit, miss, and eviction counts of the cache behind fromPath. */
+        public static CacheStats getCacheStatistics() {
+            return cache.stats();
         }
 
         /** Return the PathHeader for a given path. Thread-safe. */
@@ -703,13 +754,16 @@ public class PathHeader implements Comparable<PathHeader> {
             if (path == null) {
                 throw new NullPointerException("Path cannot be null");
             }
-            synchronized (cache) {
-                PathHeader old = cache.get(path);
+            PathHeader old = cache.getIfPresent(path);
+            if (old != null) {
+                return old;
+            }
+            synchronized (lookup) {
+                // another thread may have computed it while we waited
+                old = cache.getIfPresent(path);
                 if (old != null) {
                     return old;
                 }
-            }
-            synchronized (lookup) {
                 String cleanPath = path;
                 // special handling for alt
                 String alt = null;
@@ -755,27 +809,12 @@ public class PathHeader implements Comparable<PathHeader> {
                                     suborder,
                                     data.status,
                                     path);
-                    synchronized (cache) {
-                        PathHeader old = cache.get(path);
-                        if (old == null) {
-                            cache.put(path, result);
-                        } else {
-                            result = old;
-                        }
-                        Map<PageId, SectionPage> pageToPathHeaders =
-                                sectionToPageToSectionPage.get(result.sectionId);
-                        if (pageToPathHeaders == null) {
-                            sectionToPageToSectionPage.put(
-                                    result.sectionId,
-                                    pageToPathHeaders = new EnumMap<>(PageId.class));
-                        }
-                        SectionPage sectionPage = pageToPathHeaders.get(result.pageId);
-                        if (sectionPage == null) {
-                            sectionPage = new SectionPage(result.sectionId, result.pageId);
-                            pageToPathHeaders.put(result.pageId, sectionPage);
-                        }
-                        sectionPageToPaths.put(sectionPage, path);
+                    // indexed first, so that evicting it at once also removes it from the index
+                    Set<String> paths = getIndexedPaths(result);
+                    if (paths != null) {
+                        paths.add(path);
                     }
+                    cache.put(path, result);
                     return result;
                 } catch (Exception e) {
                     throw new IllegalArgumentException(
@@ -786,52 +825,6 @@ public class PathHeader implements Comparable<PathHeader> {
             }
         }
 
-        private static class SectionPage implements Comparable<SectionPage> {
-            private final SectionId sectionId;
-            private final PageId pageId;
-
-            public SectionPage(SectionId sectionId, PageId pageId) {
-                this.sectionId = sectionId;
-                this.pageId = pageId;
-            }
-
-            @Override
-            public int compareTo(SectionPage other) {
-                // Within each section, order alphabetically if the integer
-                // orders are
-                // not different.
-                int result;
-                if (0 != (result = sectionId.compareTo(other.sectionId))) {
-                    return result;
-                }
-                if (0 != (result = pageId.compareTo(other.pageId))) {
-                    return result;
-                }
-                return 0;
-            }
-
-            @Override
-            public boolean equals(Object obj) {
-                PathHeader other;
-                try {
-                    other = (PathHeader) obj;
-                } catch (Exception e) {
-                    return false;
-                }
-                return sectionId == other.sectionId && pageId == other.pageId;
-            }
-
-            @Override
-            public int hashCode() {
-                return sectionId.hashCode() ^ pageId.hashCode();
-            }
-
-            @Override
-            public String toString() {
-                return sectionId + " > " + pageId;
-            }
-        }
-
         /**
          * Returns a set of paths currently associated with the given section and page.
          *
@@ -839,7 +832,8 @@ public class PathHeader implements Comparable<PathHeader> {
          *
          * <ol>
          *   <li>The set may not be complete for a cldrFile unless all of paths in the file have had
-         *       fromPath called. And this includes getExtraPaths().
+         *       fromPath called. And this includes getExtraPaths(). Paths are also dropped with
+         *       their PathHeaders when the cache is full (see CLDR_PATHHEADER_CACHE_SIZE).
          *   <li>The set may include paths that have no value in the current cldrFile.
          *   <li>The set may be empty, if the section/page aren't valid.
          * </ol>
@@ -850,18 +844,12 @@ public class PathHeader implements Comparable<PathHeader> {
          */
         public static Set<String> getCachedPaths(SectionId sectionId, PageId page) {
             Set<String> target = new HashSet<>();
-            synchronized (cache) {
-                Map<PageId, SectionPage> pageToSectionPage =
-                        sectionToPageToSectionPage.get(sectionId);
-                if (pageToSectionPage == null) {
-                    return target;
-                }
-                SectionPage sectionPage = pageToSectionPage.get(page);
-                if (sectionPage == null) {
-                    return target;
-                }
-                Set<String> set = sectionPageToPaths.getAll(sectionPage);
-                target.addAll(set);
+            if (sectionId == null || page == null) {
+                return target;
+            }
+            Set<String> paths = sectionToPageToPaths.get(sectionId).get(page);
+            if (paths != null) {
+                target.addAll(paths);
             }
             return target;
         }
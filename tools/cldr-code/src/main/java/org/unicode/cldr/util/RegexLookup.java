@@ -1,6 +1,7 @@
 package org.unicode.cldr.util;
 
 import com.google.common.base.Splitter;
+import com.ibm.icu.impl.Utility;
 import com.ibm.icu.text.Transform;
 import com.ibm.icu.util.Output;
 import java.util.ArrayList;
@@ -37,7 +38,6 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
     private Transform<String, ? extends T> valueTransform;
     private Merger<T> valueMerger;
     private final boolean allowNull = false;
-    private static PathStarrer pathStarrer = new PathStarrer().setSubstitutionPattern("*");
 
     public enum LookupType {
         STAR_PATTERN_LOOKUP,
@@ -622,9 +622,21 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
         }
     }
 
+    /**
+     * Storage for STAR_PATTERN_LOOKUP. The patterns are grouped by their star pattern, which is
+     * compared to the star pattern of each path, so only the patterns in the same group need to be
+     * tried. On first lookup each group is compiled: if its patterns require literal values for
+     * some attribute, they are also indexed by the value of the attribute that best separates
+     * them, so that only the patterns that can match that value (plus any that allow other
+     * values) are tried, in the order they were added.
+     */
     private static class StarPatternMap<T> implements StorageInterfaceBase<T> {
         private Map<String, List<SPNode>> _spmap;
         private int _size = 0;
+        private volatile Map<String, Bucket> buckets = null;
+
+        /** Characters that keep an attribute value in a pattern from being a literal. */
+        private static final Pattern NOT_LITERAL = Pattern.compile("[\\\\.\\[\\]{}()*+?^$|#\\s]");
 
         public StarPatternMap() {
             _spmap = new HashMap<>();
@@ -639,23 +651,26 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
         @Override
         public void put(Finder pattern, T value) {
             // System.out.println("pattern.toString() is => "+pattern.toString());
+            final PathStarrer starrer = new PathStarrer().setSubstitutionPattern("*");
             String starPattern =
-                    pathStarrer.transform2(
+                    starrer.transform2(
                             pattern.toString().replaceAll("\\(\\[\\^\"\\]\\*\\)", "*"));
             // System.out.println("Putting => "+starPattern);
             List<SPNode> candidates = _spmap.get(starPattern);
             if (candidates == null) {
                 candidates = new ArrayList<>();
             }
-            SPNode newNode = new SPNode(pattern, value);
+            SPNode newNode = new SPNode(pattern, value, starrer.getAttributes());
             candidates.add(newNode);
             _spmap.put(starPattern, candidates);
             _size++;
+            buckets = null;
         }
 
         @Override
         public T get(Finder finder) {
-            String starPattern = pathStarrer.transform2(finder.toString());
+            String starPattern =
+                    new PathStarrer().setSubstitutionPattern("*").transform2(finder.toString());
             List<SPNode> candidates = _spmap.get(starPattern);
             if (candidates == null) {
                 return null;
@@ -668,6 +683,13 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
             return null;
         }
 
+        /** Get the patterns that can match the path, in the order they were added. */
+        private List<SPNode> getCandidates(String path) {
+            List<String> values = new ArrayList<>();
+            Bucket bucket = getBuckets().get(starPath(path, values));
+            return bucket == null ? Collections.emptyList() : bucket.get(values);
+        }
+
         @Override
         public List<T> getAll(
                 String pattern,
@@ -677,12 +699,7 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
             List<SPNode> list = new ArrayList<>();
             List<T> retList = new ArrayList<>();
 
-            String starPattern = pathStarrer.transform2(pattern);
-            List<SPNode> candidates = _spmap.get(starPattern);
-            if (candidates == null) {
-                return retList;
-            }
-            for (SPNode cand : candidates) {
+            for (SPNode cand : getCandidates(pattern)) {
                 Info info = new Info();
                 if (cand._finder.find(pattern, context, info)) {
                     list.add(cand);
@@ -708,24 +725,23 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
                 Object context,
                 Output<String[]> arguments,
                 Output<Finder> matcherFound) {
-            List<Finder> matcherList = new ArrayList<>();
-            Output<String[]> firstInfo = new Output<>();
-            List<T> matches =
-                    getAll(
-                            pattern,
-                            context,
-                            matcherList,
-                            firstInfo); // need to get whole list because we want value that was
-            // entered first
-            if (arguments != null && firstInfo.value != null) {
-                //                arguments.value = (matcherList.size() > 0) ?
-                // matcherList.get(0).getInfo() : null;
-                arguments.value = matcherList.isEmpty() ? null : firstInfo.value;
+            // the candidates are in the order they were entered, so the first match wins
+            for (SPNode cand : getCandidates(pattern)) {
+                Info info = new Info();
+                if (cand._finder.find(pattern, context, info)) {
+                    if (arguments != null) {
+                        arguments.value = info.value;
+                    }
+                    if (matcherFound != null) {
+                        matcherFound.value = cand._finder;
+                    }
+                    return cand._val;
+                }
             }
             if (matcherFound != null) {
-                matcherFound.value = (matcherList.size() > 0) ? matcherList.get(0) : null;
+                matcherFound.value = null;
             }
-            return (matches.size() > 0) ? matches.get(0) : null;
+            return null;
         }
 
         @Override
@@ -741,19 +757,130 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
             return ret.entrySet();
         }
 
+        private Map<String, Bucket> getBuckets() {
+            Map<String, Bucket> result = buckets;
+            if (result == null) {
+                synchronized (this) {
+                    result = buckets;
+                    if (result == null) {
+                        result = new HashMap<>();
+                        for (Entry<String, List<SPNode>> entry : _spmap.entrySet()) {
+                            result.put(entry.getKey(), new Bucket(entry.getValue()));
+                        }
+                        buckets = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Same as PathStarrer.transform2 with a "*" substitution pattern, for a path rather than a
+         * pattern, but without a regex and without shared state. The attribute values are added to
+         * values.
+         */
+        static String starPath(String path, List<String> values) {
+            StringBuilder result = new StringBuilder(path.length());
+            int last = 0;
+            while (true) {
+                int start = path.indexOf("=\"", last);
+                if (start < 0) {
+                    break;
+                }
+                start += 2;
+                int end = path.indexOf('"', start);
+                if (end < 0) {
+                    break;
+                }
+                result.append(path, last, start).append('*');
+                values.add(path.substring(start, end));
+                last = end;
+            }
+            result.append(path, last, path.length());
+            String starred = result.toString();
+            if (starred.indexOf('\\') >= 0) {
+                starred = Utility.unescape(starred);
+            }
+            if (starred.startsWith("^") && starred.endsWith("$")) {
+                starred = starred.substring(1, starred.length() - 1);
+            }
+            return starred;
+        }
+
+        /** The compiled patterns for one star pattern. */
+        private class Bucket {
+            /** The attribute the patterns are indexed by, or -1 if they aren't */
+            private final int attribute;
+
+            private final Map<String, List<SPNode>> byValue = new HashMap<>();
+            /** The patterns to try for any other value of the attribute */
+            private final List<SPNode> others = new ArrayList<>();
+
+            Bucket(List<SPNode> candidates) {
+                // pick the attribute with the most distinct literal values
+                int best = -1;
+                int bestCount = 1;
+                final int attributeCount = candidates.get(0).literals.size();
+                for (int i = 0; i < attributeCount; ++i) {
+                    Set<String> found = new TreeSet<>();
+                    for (SPNode cand : candidates) {
+                        if (cand.getLiteral(i) != null) {
+                            found.add(cand.getLiteral(i));
+                        }
+                    }
+                    if (found.size() > bestCount) {
+                        best = i;
+                        bestCount = found.size();
+                    }
+                }
+                attribute = best;
+                for (SPNode cand : candidates) {
+                    final String literal = attribute < 0 ? null : cand.getLiteral(attribute);
+                    if (literal == null) {
+                        others.add(cand);
+                        byValue.values().forEach(list -> list.add(cand));
+                    } else {
+                        byValue.computeIfAbsent(literal, k -> new ArrayList<>(others)).add(cand);
+                    }
+                }
+            }
+
+            List<SPNode> get(List<String> values) {
+                if (attribute < 0 || attribute >= values.size()) {
+                    return others;
+                }
+                return byValue.getOrDefault(values.get(attribute), others);
+            }
+        }
+
         /**
          * A Node of a StarPatternMap
          *
          * @author ribnitz
          */
         public class SPNode extends NodeBase<T> {
-            //            Finder _finder;
-            //            T _val;
+            /**
+             * The attribute values that the pattern requires, or null where the value is a regex
+             * or the pattern isn't an anchored RegexFinder.
+             */
+            final List<String> literals;
 
-            public SPNode(Finder finder, T val) {
-                //                _finder = finder;
-                //                _val = val;
+            public SPNode(Finder finder, T val, List<String> attributeValues) {
                 super(finder, val);
+                final String pattern = finder.toString();
+                final boolean anchored =
+                        finder instanceof RegexFinder
+                                && pattern.startsWith("^")
+                                && pattern.endsWith("$");
+                List<String> literals = new ArrayList<>();
+                for (String value : attributeValues) {
+                    literals.add(anchored && !NOT_LITERAL.matcher(value).find() ? value : null);
+                }
+                this.literals = literals;
+            }
+
+            String getLiteral(int attribute) {
+                return attribute < literals.size() ? literals.get(attribute) : null;
             }
 
             @Override
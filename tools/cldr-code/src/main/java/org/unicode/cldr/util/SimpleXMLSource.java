@@ -250,4 +250,9 @@ public class SimpleXMLSource extends XMLSource {
     public SourceLocation getSourceLocation(String fullXPath) {
         return locationHash.get(fullXPath);
     }
+
+    /** Get all the source locations, keyed by full xpath. Used by XMLSourceSnapshot. */
+    Map<String, SourceLocation> getSourceLocations() {
+        return Collections.unmodifiableMap(locationHash);
+    }
 }
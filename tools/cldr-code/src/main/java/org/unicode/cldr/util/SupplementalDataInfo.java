@@ -55,6 +55,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
@@ -2602,7 +2603,17 @@ public class SupplementalDataInfo {
      * @return
      */
     public Level getCoverageLevel(String xpath, String loc) {
+        if (xpath == null) {
+            return Level.UNDETERMINED; // as CoverageLevel2.getLevel does
+        }
         Level result = null;
+        final CoverageLevelTable table = getCoverageLevelTable();
+        if (table != null) {
+            result = table.get(xpath, loc);
+            if (result != null) {
+                return result;
+            }
+        }
         result = coverageCache.get(xpath, loc);
         if (result == null) {
             CoverageLevel2 cov = localeToCoverageLevelInfo.get(loc);
@@ -2617,6 +2628,27 @@ public class SupplementalDataInfo {
         return result;
     }
 
+    /**
+     * Get the precomputed coverage level table for this supplemental data, if one is configured
+     * and current.
+     *
+     * @return the table, or null
+     * @see CoverageLevelTable
+     */
+    public CoverageLevelTable getCoverageLevelTable() {
+        Optional<CoverageLevelTable> result = coverageLevelTable;
+        if (result == null) {
+            synchronized (this) {
+                result = coverageLevelTable;
+                if (result == null) {
+                    coverageLevelTable =
+                            result = Optional.ofNullable(CoverageLevelTable.open(directory));
+                }
+            }
+        }
+        return result.orElse(null);
+    }
+
     /**
      * Cache Data structure with object expiry, List that can hold up to MAX_LOCALES caches of
      * locales, when one locale hasn't been used for a while it will removed and GC'd
@@ -3360,6 +3392,7 @@ public class SupplementalDataInfo {
             new EnumMap<>(DayPeriodInfo.Type.class);
     private Map<String, CoverageLevel2> localeToCoverageLevelInfo = new ConcurrentHashMap<>();
     private CoverageCache coverageCache = new CoverageCache();
+    private volatile Optional<CoverageLevelTable> coverageLevelTable = null;
     private transient String lastPluralLocales = "";
     private transient PluralType lastPluralWasOrdinal = null;
     private transient Map<Count, String> lastPluralMap = new EnumMap<>(Count.class);
@@ -1,5 +1,7 @@
 package org.unicode.cldr.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.ibm.icu.impl.Relation;
 import com.ibm.icu.impl.Row;
 import com.ibm.icu.impl.Row.R2;
@@ -15,6 +17,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -23,14 +26,17 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus.Subtype;
 import org.unicode.cldr.test.CheckCLDR.Options;
 import org.unicode.cldr.test.CheckCoverage;
+import org.unicode.cldr.test.CheckDependencies;
 import org.unicode.cldr.test.CheckNew;
 import org.unicode.cldr.test.CoverageLevel2;
 import org.unicode.cldr.test.OutdatedPaths;
@@ -378,7 +384,7 @@ public class VettingViewer<T> {
         return new LocaleCompletionData(fileInfo.vc.problemCounter);
     }
 
-    private class VettingCounters {
+    private static class VettingCounters {
         private final Counter<NotificationCategory> problemCounter = new Counter<>();
         private final Counter<Subtype> errorSubtypeCounter = new Counter<>();
         private final Counter<Subtype> warningSubtypeCounter = new Counter<>();
@@ -395,6 +401,195 @@ public class VettingViewer<T> {
             errorSubtypeCounter.addAll(other.errorSubtypeCounter);
             warningSubtypeCounter.addAll(other.warningSubtypeCounter);
         }
+
+        private void clear() {
+            problemCounter.clear();
+            errorSubtypeCounter.clear();
+            warningSubtypeCounter.clear();
+        }
+    }
+
+    /** The results for one path that do not depend on the user; see FileInfo.getPathResult */
+    private static class PathResult {
+        private final String path;
+        private final PathHeader ph;
+        private final Set<NotificationCategory> problems;
+        private final String htmlMessage;
+        private final Set<Subtype> subtypes;
+        private final Subtype subtype;
+
+        private PathResult(
+                String path,
+                PathHeader ph,
+                EnumSet<NotificationCategory> problems,
+                CharSequence htmlMessage,
+                EnumSet<Subtype> subtypes,
+                Subtype subtype) {
+            this.path = path;
+            this.ph = ph;
+            this.problems = Collections.unmodifiableSet(problems.clone());
+            this.htmlMessage = htmlMessage.toString();
+            this.subtypes = Collections.unmodifiableSet(subtypes.clone());
+            this.subtype = subtype;
+        }
+
+        /**
+         * Add (or with delta = -1, subtract) the problems of this path to the counters
+         *
+         * @param vc the counters
+         * @param delta the amount to add for each problem and subtype
+         */
+        private void addTo(VettingCounters vc, int delta) {
+            for (NotificationCategory problem : problems) {
+                add(vc.problemCounter, problem, delta);
+            }
+            final Counter<Subtype> subtypeCounter =
+                    problems.contains(NotificationCategory.error)
+                            ? vc.errorSubtypeCounter
+                            : problems.contains(NotificationCategory.warning)
+                                    ? vc.warningSubtypeCounter
+                                    : null;
+            if (subtypeCounter != null) {
+                for (Subtype s : subtypes) {
+                    add(subtypeCounter, s, delta);
+                }
+            }
+        }
+
+        private static <K> void add(Counter<K> counter, K key, int delta) {
+            counter.add(key, delta);
+            if (counter.get(key) == 0) {
+                counter.remove(key); // so that keySet() is the same as for a new Counter
+            }
+        }
+    }
+
+    /**
+     * The PathResults for a locale, organization, coverage level and set of choices, updated
+     * incrementally. Paths are marked as changed by XMLSource.Listener events from the resolved
+     * source file, which include changes in parent locales; or by {@link #pathChanged} for changes
+     * that do not affect the winning value, such as votes.
+     *
+     * <p>Since some checks depend on other paths, a change to one path also marks the other paths
+     * in its {@link CheckDependencies} group as changed. A change to a path that is not in a group,
+     * such as the exemplars or number symbols, may affect any path, so all paths are recomputed.
+     *
+     * <p>All access must be synchronized on the PathResults object.
+     */
+    private static class PathResults implements XMLSource.Listener {
+        private final XMLSource source;
+        private final XMLSource baselineSource;
+
+        /** The results for the paths that are not skipped */
+        private final Map<String, PathResult> results = new HashMap<>();
+
+        /** The total counts for the results, apart from abstained */
+        private final VettingCounters counters = new VettingCounters();
+
+        /** Whether all paths have been computed */
+        private boolean complete = false;
+
+        /*
+         * These are updated without synchronization, since valueChanged may be called while the
+         * changed source is locked.
+         */
+        private final Map<String, Set<String>> groupToPaths = new ConcurrentHashMap<>();
+        private final Set<String> changedPaths = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean allChanged = new AtomicBoolean();
+
+        private PathResults(CLDRFile sourceFile, CLDRFile baselineFile) {
+            this.source = sourceFile.dataSource;
+            this.baselineSource = baselineFile == null ? null : baselineFile.dataSource;
+            source.addListener(this);
+        }
+
+        private boolean isFor(CLDRFile sourceFile, CLDRFile baselineFile) {
+            return source == sourceFile.dataSource
+                    && baselineSource == (baselineFile == null ? null : baselineFile.dataSource);
+        }
+
+        @Override
+        public void valueChanged(String xpath, XMLSource source) {
+            final String group = CheckDependencies.getGroup(xpath);
+            if (group == null) {
+                allChanged.set(true);
+                return;
+            }
+            changedPaths.add(xpath);
+            final Set<String> sameGroup = groupToPaths.get(group);
+            if (sameGroup != null) {
+                changedPaths.addAll(sameGroup);
+            }
+        }
+
+        /** Mark just this path as changed, for a change that doesn't change its value */
+        private void pathChanged(String xpath) {
+            changedPaths.add(xpath);
+        }
+
+        /**
+         * Get the paths to recompute, and reset them
+         *
+         * @return the changed paths, or null if all paths must be computed
+         */
+        private Set<String> takeChangedPaths() {
+            final Set<String> paths = new HashSet<>();
+            for (Iterator<String> it = changedPaths.iterator(); it.hasNext(); ) {
+                paths.add(it.next());
+                it.remove();
+            }
+            if (allChanged.getAndSet(false) || !complete) {
+                results.clear();
+                groupToPaths.clear();
+                counters.clear();
+                return null;
+            }
+            return paths;
+        }
+
+        private void put(String path, PathResult result) {
+            final PathResult old =
+                    (result == null) ? results.remove(path) : results.put(path, result);
+            if (old != null) {
+                old.addTo(counters, -1);
+            }
+            if (result != null) {
+                result.addTo(counters, 1);
+                final String group = CheckDependencies.getGroup(path);
+                if (group != null) {
+                    groupToPaths
+                            .computeIfAbsent(group, k -> ConcurrentHashMap.newKeySet())
+                            .add(path);
+                }
+            }
+        }
+    }
+
+    private static final boolean INCREMENTAL =
+            CLDRConfig.getInstance().getProperty("CLDR_VETTINGVIEWER_INCREMENTAL", true);
+
+    /** The PathResults, keyed by locale, organization, level, choices and UsersChoice class */
+    private static final Cache<List<Object>, PathResults> PATH_RESULTS =
+            CacheBuilder.newBuilder()
+                    .maximumSize(
+                            CLDRConfig.getInstance()
+                                    .getProperty("CLDR_VETTINGVIEWER_CACHE_SIZE", 200))
+                    .build();
+
+    /**
+     * Mark the path as changed for any incremental results for the locale. Use this for changes
+     * that do not change the winning value, such as votes; changes to the winning value are
+     * reported by XMLSource.Listener events.
+     *
+     * @param localeId the locale
+     * @param path the path
+     */
+    public static void pathChanged(String localeId, String path) {
+        for (Entry<List<Object>, PathResults> entry : PATH_RESULTS.asMap().entrySet()) {
+            if (localeId.equals(entry.getKey().get(0))) {
+                entry.getValue().pathChanged(path);
+            }
+        }
     }
 
     /**
@@ -468,32 +663,130 @@ public class VettingViewer<T> {
         /**
          * Loop through paths for the Dashboard or the Priority Items Summary
          *
+         * <p>Unless incremental results are disabled, only the paths that changed since the last
+         * call for the same locale, organization, level and choices are recomputed; see {@link
+         * PathResults}.
+         *
          * @return the FileInfo
          */
         private void getFileInfo() {
             if (progressCallback.isStopped()) {
                 throw new RuntimeException("Requested to stop");
             }
-            errorChecker.initErrorStatus(sourceFile);
             if (specificSinglePath != null) {
+                errorChecker.initErrorStatus(sourceFile);
                 handleOnePath(specificSinglePath);
                 return;
             }
-            Set<String> seenSoFar = new HashSet<>();
-            for (String path : sourceFile.fullIterable()) {
-                if (seenSoFar.contains(path)) {
-                    continue;
+            if (!INCREMENTAL) {
+                errorChecker.initErrorStatus(sourceFile);
+                Set<String> seenSoFar = new HashSet<>();
+                for (String path : sourceFile.fullIterable()) {
+                    if (seenSoFar.contains(path)) {
+                        continue;
+                    }
+                    seenSoFar.add(path);
+                    progressCallback.nudge(); // Let the user know we're moving along
+                    handleOnePath(path);
+                }
+                return;
+            }
+            final PathResults pathResults = getPathResults();
+            synchronized (pathResults) {
+                updatePathResults(pathResults);
+                vc.addAll(pathResults.counters);
+                if (sorted == null && (voterProgress == null || voterId == 0)) {
+                    return; // only the counts are needed
+                }
+                for (PathResult result : pathResults.results.values()) {
+                    report(result);
+                }
+            }
+        }
+
+        private PathResults getPathResults() {
+            final List<Object> key =
+                    Arrays.asList(
+                            localeId,
+                            organization,
+                            usersLevel,
+                            EnumSet.copyOf(choices),
+                            userVoteStatus.getClass());
+            try {
+                PathResults pathResults =
+                        PATH_RESULTS.get(key, () -> new PathResults(sourceFile, baselineFile));
+                if (!pathResults.isFor(sourceFile, baselineFile)) {
+                    // Different data for the same locale, such as from another Factory
+                    pathResults = new PathResults(sourceFile, baselineFile);
+                    PATH_RESULTS.put(key, pathResults);
+                }
+                return pathResults;
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /** Recompute the results for the paths that changed, or all paths the first time */
+        private void updatePathResults(PathResults pathResults) {
+            final Set<String> changedPaths = pathResults.takeChangedPaths();
+            if (changedPaths != null && changedPaths.isEmpty()) {
+                return;
+            }
+            pathResults.complete = false; // until done, in case we are stopped
+            errorChecker.initErrorStatus(sourceFile);
+            if (changedPaths == null) {
+                Set<String> seenSoFar = new HashSet<>();
+                for (String path : sourceFile.fullIterable()) {
+                    if (seenSoFar.add(path)) {
+                        progressCallback.nudge(); // Let the user know we're moving along
+                        pathResults.put(path, getPathResult(path));
+                    }
+                }
+            } else {
+                for (String path : changedPaths) {
+                    progressCallback.nudge();
+                    pathResults.put(path, getPathResult(path));
                 }
-                seenSoFar.add(path);
-                progressCallback.nudge(); // Let the user know we're moving along
-                handleOnePath(path);
             }
+            pathResults.complete = true;
         }
 
         private void handleOnePath(String path) {
+            PathResult result = getPathResult(path);
+            if (result != null) {
+                result.addTo(vc, 1);
+                report(result);
+            }
+        }
+
+        /**
+         * Add the user-dependent information for the path (voter progress and abstained), and add
+         * the path to sorted if it has any problems
+         */
+        private void report(PathResult result) {
+            problems.clear();
+            problems.addAll(result.problems);
+            updateVotedOrAbstained(result.path);
+
+            if (!problems.isEmpty() && sorted != null) {
+                reasonsToPaths.clear();
+                R2<SectionId, PageId> group =
+                        Row.of(result.ph.getSectionId(), result.ph.getPageId());
+                sorted.put(
+                        group,
+                        new WritingInfo(result.ph, problems, result.htmlMessage, result.subtype));
+            }
+        }
+
+        /**
+         * Get the results for the path that do not depend on the user
+         *
+         * @return the PathResult, or null if the path is to be skipped
+         */
+        private PathResult getPathResult(String path) {
             PathHeader ph = pathTransform.fromPath(path);
             if (ph == null || ph.shouldHide()) {
-                return;
+                return null;
             }
             String value = sourceFile.getWinningValue(path);
             statusMessage.setLength(0);
@@ -516,19 +809,17 @@ public class VettingViewer<T> {
                             ? null
                             : baselineFileUnresolved.getWinningValue(path);
             if (skipForLimitedSubmission(path, errorStatus, oldValue)) {
-                return;
+                return null;
             }
             if (!onlyRecordErrors
                     && choices.contains(NotificationCategory.changedOldValue)
                     && changedFromBaseline(path, value, oldValue, sourceFile)) {
                 problems.add(NotificationCategory.changedOldValue);
-                vc.problemCounter.increment(NotificationCategory.changedOldValue);
             }
             if (!onlyRecordErrors
                     && choices.contains(NotificationCategory.inheritedChanged)
                     && inheritedChangedFromBaseline(path, value, sourceFile)) {
                 problems.add(NotificationCategory.inheritedChanged);
-                vc.problemCounter.increment(NotificationCategory.inheritedChanged);
             }
             VoteStatus voteStatus =
                     userVoteStatus.getStatusForUsersOrganization(sourceFile, path, organization);
@@ -542,15 +833,9 @@ public class VettingViewer<T> {
                 recordLosingDisputedEtc(path, voteStatus, missingStatus);
             }
             if (pathLevelIsTooHigh && problems.isEmpty()) {
-                return;
-            }
-            updateVotedOrAbstained(path);
-
-            if (!problems.isEmpty() && sorted != null) {
-                reasonsToPaths.clear();
-                R2<SectionId, PageId> group = Row.of(ph.getSectionId(), ph.getPageId());
-                sorted.put(group, new WritingInfo(ph, problems, htmlMessage, firstSubtype()));
+                return null;
             }
+            return new PathResult(path, ph, problems, htmlMessage, subtypes, firstSubtype());
         }
 
         private boolean changedFromBaseline(
@@ -641,7 +926,6 @@ public class VettingViewer<T> {
             if (choices.contains(NotificationCategory.missingCoverage)
                     && missingStatus == MissingStatus.ABSENT) {
                 problems.add(NotificationCategory.missingCoverage);
-                vc.problemCounter.increment(NotificationCategory.missingCoverage);
             }
             if (!CheckCLDR.LIMITED_SUBMISSION
                     && !itemsOkIfVoted
@@ -658,7 +942,6 @@ public class VettingViewer<T> {
                 if (!OutdatedPaths.NO_VALUE.equals(oldEnglishValue)) {
                     // check to see if we voted
                     problems.add(NotificationCategory.englishChanged);
-                    vc.problemCounter.increment(NotificationCategory.englishChanged);
                 }
             }
         }
@@ -677,20 +960,12 @@ public class VettingViewer<T> {
                     && (!itemsOkIfVoted || !OK_IF_VOTED.containsAll(subtypes))) {
                 problems.add(choice);
                 appendToMessage(statusMessage, htmlMessage);
-                vc.problemCounter.increment(choice);
-                for (Subtype subtype : subtypes) {
-                    vc.errorSubtypeCounter.increment(subtype);
-                }
             } else if (!onlyRecordErrors
                     && choice == NotificationCategory.warning
                     && choices.contains(NotificationCategory.warning)
                     && (!itemsOkIfVoted || !OK_IF_VOTED.containsAll(subtypes))) {
                 problems.add(choice);
                 appendToMessage(statusMessage, htmlMessage);
-                vc.problemCounter.increment(choice);
-                for (Subtype subtype : subtypes) {
-                    vc.warningSubtypeCounter.increment(subtype);
-                }
             }
         }
 
@@ -700,7 +975,6 @@ public class VettingViewer<T> {
                 case losing:
                     if (choices.contains(NotificationCategory.weLost)) {
                         problems.add(NotificationCategory.weLost);
-                        vc.problemCounter.increment(NotificationCategory.weLost);
                     }
                     String usersValue =
                             userVoteStatus.getWinningValueForUsersOrganization(
@@ -716,14 +990,12 @@ public class VettingViewer<T> {
                 case disputed:
                     if (choices.contains(NotificationCategory.hasDispute)) {
                         problems.add(NotificationCategory.hasDispute);
-                        vc.problemCounter.increment(NotificationCategory.hasDispute);
                     }
                     break;
                 case provisionalOrWorse:
                     if (missingStatus == MissingStatus.PRESENT
                             && choices.contains(NotificationCategory.notApproved)) {
                         problems.add(NotificationCategory.notApproved);
-                        vc.problemCounter.increment(NotificationCategory.notApproved);
                     }
                     break;
                 default:
@@ -824,7 +1096,7 @@ public class VettingViewer<T> {
         private final EnumSet<NotificationCategory> choices;
         private final EnumSet<NotificationCategory> ourChoicesThatRequireOldFile;
         private final T organization;
-        private final VettingViewer<T>.VettingCounters totals;
+        private final VettingCounters totals;
         private final Map<String, VettingViewer<T>.FileInfo> localeNameToFileInfo;
         private final String header;
         private final int configChunkSize; // Number of locales to process at once, minimum 1
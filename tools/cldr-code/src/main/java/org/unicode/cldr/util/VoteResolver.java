@@ -521,58 +521,60 @@ public class VoteResolver<T> {
     }
 
     /**
-     * MaxCounter: make sure that we are always only getting the maximum of the values.
+     * Internal class for getting from an organization to its vote.
      *
-     * @author markdavis
-     * @param <T>
+     * <p>The votes are kept in arrays indexed by organization and by value id, where the id of a
+     * value is the order in which it was first voted for. A path only has a few distinct values, so
+     * values are found by a linear search. Since clear() resets the arrays instead of reallocating
+     * them, one resolver can be reused for all the paths of a locale without allocating per vote.
      */
-    static class MaxCounter<T> extends Counter<T> {
-        public MaxCounter(boolean b) {
-            super(b);
-        }
-
-        /** Add, but only to bring up to the maximum value. */
-        @Override
-        public MaxCounter<T> add(T obj, long countValue, long time) {
-            long value = getCount(obj);
-            if ((value <= countValue)) {
-                super.add(obj, countValue - value, time); // only add the difference!
-            }
-            return this;
-        }
-    }
-
-    /** Internal class for getting from an organization to its vote. */
     private class OrganizationToValueAndVote<T> {
-        private final Map<Organization, MaxCounter<T>> orgToVotes =
-                new EnumMap<>(Organization.class);
-        private final Counter<T> totalVotes = new Counter<>();
-        private final Map<Organization, Integer> orgToMax = new EnumMap<>(Organization.class);
+        private final Organization[] organizations = Organization.values();
+        // the values voted for, in the order first voted for
+        private final List<T> values = new ArrayList<>();
+        // per value id: the sum of all votes
+        private long[] totalVotes = new long[INITIAL_VALUE_CAPACITY];
+        // per organization, per value id: the highest vote of any voter of the organization, or
+        // NO_VOTE, and its time. Rows are allocated when an organization first votes.
+        private final long[][] orgVotes = new long[organizations.length][];
+        private final long[][] orgTimes = new long[organizations.length][];
+        // per organization: the number of values voted for, and the highest vote, or NO_VOTE
+        private final int[] orgValueCount = new int[organizations.length];
+        private final int[] orgToMax = new int[organizations.length];
+        // value ids in natural order of the values
+        private int[] sortedIds = new int[INITIAL_VALUE_CAPACITY];
+
+        @SuppressWarnings("unchecked")
+        private final Comparator<T> naturalOrder = new CldrUtility.ComparableComparator();
+
         private final Counter<T> totals = new Counter<>(true);
-        private Map<String, Long> nameTime = new LinkedHashMap<>();
+        private final Map<String, Long> nameTime = new LinkedHashMap<>();
         // map an organization to what it voted for.
-        private final Map<Organization, T> orgToAdd = new EnumMap<>(Organization.class);
+        private final List<T> orgToAdd =
+                new ArrayList<>(Collections.nCopies(organizations.length, null));
         private T baileyValue;
         private boolean baileySet; // was the bailey value set
 
         OrganizationToValueAndVote() {
-            for (Organization org : Organization.values()) {
-                orgToVotes.put(org, new MaxCounter<>(true));
-            }
+            Arrays.fill(orgToMax, NO_VOTE);
         }
 
         /** Call clear before considering each new path */
         public void clear() {
-            for (Map.Entry<Organization, MaxCounter<T>> entry : orgToVotes.entrySet()) {
-                entry.getValue().clear();
+            for (int o = 0; o < organizations.length; o++) {
+                if (orgToMax[o] != NO_VOTE) {
+                    Arrays.fill(orgVotes[o], 0, values.size(), NO_VOTE);
+                    orgValueCount[o] = 0;
+                    orgToMax[o] = NO_VOTE;
+                }
+                orgToAdd.set(o, null);
             }
-            orgToAdd.clear();
-            orgToMax.clear();
-            totalVotes.clear();
+            values.clear();
+            nameTime.clear();
             baileyValue = null;
             baileySet = false;
             if (transcript != null) {
-                transcript = new StringBuilder();
+                transcript.setLength(0);
             }
         }
 
@@ -582,7 +584,18 @@ public class VoteResolver<T> {
          * @return
          */
         private T getSingleVotedItem() {
-            return totalVotes.size() != 1 ? null : totalVotes.iterator().next();
+            return values.size() != 1 ? null : values.get(0);
+        }
+
+        /** The values voted for, in the order first voted for. */
+        private List<T> getVotedValues() {
+            return Collections.unmodifiableList(values);
+        }
+
+        /** The sum of the votes for the value, from all organizations. */
+        private long getTotalVotes(T value) {
+            final int id = values.indexOf(value);
+            return id < 0 ? 0 : totalVotes[id];
         }
 
         public Map<String, Long> getNameTime() {
@@ -623,16 +636,30 @@ public class VoteResolver<T> {
             if (DROP_HARD_INHERITANCE) {
                 value = changeBaileyToInheritance(value);
             }
-            totalVotes.add(value, votes, time.getTime());
-            nameTime.put(info.getName(), time.getTime());
-            if (DEBUG) {
-                System.out.println("totalVotes Info: " + totalVotes);
-            }
+            final long when = time.getTime();
+            final int id = getOrAddId(value);
+            totalVotes[id] += votes;
+            nameTime.put(info.getName(), when);
             if (DEBUG) {
                 System.out.println("VoteInfo: " + info.getName() + info.getOrganization());
             }
             Organization organization = info.getOrganization();
-            orgToVotes.get(organization).add(value, votes, time.getTime());
+            final int o = organization.ordinal();
+            if (orgVotes[o] == null) {
+                orgVotes[o] = new long[totalVotes.length];
+                orgTimes[o] = new long[totalVotes.length];
+                Arrays.fill(orgVotes[o], NO_VOTE);
+            }
+            // only bring the organization's vote for the value up to the maximum of its voters
+            final long[] votesForOrg = orgVotes[o];
+            if (votesForOrg[id] == NO_VOTE) {
+                orgValueCount[o]++;
+                votesForOrg[id] = votes;
+                orgTimes[o][id] = when;
+            } else if (votesForOrg[id] <= votes) {
+                votesForOrg[id] = votes;
+                orgTimes[o][id] = when;
+            }
             if (DEBUG) {
                 System.out.println(
                         "Adding now Info: "
@@ -641,21 +668,54 @@ public class VoteResolver<T> {
                                 + " is adding: "
                                 + votes
                                 + value
-                                + new Timestamp(time.getTime()));
+                                + new Timestamp(when));
             }
 
-            if (DEBUG) {
-                System.out.println(
-                        "addInternal: "
-                                + organization.getDisplayName()
-                                + " : "
-                                + orgToVotes.get(organization).toString());
+            // add the new votes to orgToMax, if they are greater that what was there
+            if (orgToMax[o] < votes) {
+                orgToMax[o] = votes;
             }
+        }
 
-            // add the new votes to orgToMax, if they are greater that what was there
-            Integer max = orgToMax.get(info.getOrganization());
-            if (max == null || max < votes) {
-                orgToMax.put(organization, votes);
+        /** The id of the value, adding it if it has no votes yet. */
+        private int getOrAddId(T value) {
+            int id = values.indexOf(value);
+            if (id < 0) {
+                id = values.size();
+                if (id == totalVotes.length) {
+                    growValueCapacity();
+                }
+                values.add(value);
+                totalVotes[id] = 0;
+            }
+            return id;
+        }
+
+        private void growValueCapacity() {
+            final int oldCapacity = totalVotes.length;
+            final int newCapacity = oldCapacity * 2;
+            totalVotes = Arrays.copyOf(totalVotes, newCapacity);
+            sortedIds = Arrays.copyOf(sortedIds, newCapacity);
+            for (int o = 0; o < organizations.length; o++) {
+                if (orgVotes[o] != null) {
+                    orgVotes[o] = Arrays.copyOf(orgVotes[o], newCapacity);
+                    orgTimes[o] = Arrays.copyOf(orgTimes[o], newCapacity);
+                    Arrays.fill(orgVotes[o], oldCapacity, newCapacity, NO_VOTE);
+                }
+            }
+        }
+
+        /** Fill sortedIds with the value ids, in natural order of the values. */
+        private void sortIds() {
+            final int count = values.size();
+            for (int i = 0; i < count; i++) {
+                final T value = values.get(i);
+                int j = i;
+                while (j > 0 && naturalOrder.compare(values.get(sortedIds[j - 1]), value) > 0) {
+                    sortedIds[j] = sortedIds[j - 1];
+                    j--;
+                }
+                sortedIds[j] = i;
             }
         }
 
@@ -674,43 +734,41 @@ public class VoteResolver<T> {
             totals.clear();
 
             annotateTranscript("- Getting all totals by organization:");
-            for (Map.Entry<Organization, MaxCounter<T>> entry : orgToVotes.entrySet()) {
-                Counter<T> items = entry.getValue();
-                if (items.size() == 0) {
+            sortIds();
+            final int count = values.size();
+            for (int o = 0; o < organizations.length; o++) {
+                if (orgValueCount[o] == 0) {
                     continue;
                 }
-                Iterator<T> iterator = items.getKeysetSortedByCount(false).iterator();
-                T value = iterator.next();
-                long weight = items.getCount(value);
+                final long[] votesForOrg = orgVotes[o];
+                final long[] timesForOrg = orgTimes[o];
+                // The top two votes. Of equal votes, the first in natural order is the top one.
+                long weight = NO_VOTE;
+                long weight2 = NO_VOTE;
+                for (int i = 0; i < count; i++) {
+                    final long votes = votesForOrg[sortedIds[i]];
+                    if (votes > weight) {
+                        weight2 = weight;
+                        weight = votes;
+                    } else if (votes > weight2) {
+                        weight2 = votes;
+                    }
+                }
                 if (weight == 0) {
                     continue;
                 }
+                Organization org = organizations[o];
                 annotateTranscript(
                         "-- Considering %s which has %d item(s)",
-                        entry.getKey().getDisplayName(), items.size());
-                Organization org = entry.getKey();
-                if (DEBUG) {
-                    System.out.println("sortedKeys?? " + value + " " + org.getDisplayName());
-                }
-                // if there is more than one item, check that it is less
-                if (iterator.hasNext()) {
-                    T value2 = iterator.next();
-                    long weight2 = items.getCount(value2);
-                    // if the votes for #1 are not better than #2, we have a dispute
-                    if (weight == weight2) {
-                        if (conflictedOrganizations != null) {
-                            annotateTranscript(
-                                    "--- There are conflicts due to different values by users of this organization.");
-                            conflictedOrganizations.add(org);
-                        }
+                        org.getDisplayName(), orgValueCount[o]);
+                // if the votes for #1 are not better than #2, we have a dispute
+                if (weight == weight2) {
+                    if (conflictedOrganizations != null) {
+                        annotateTranscript(
+                                "--- There are conflicts due to different values by users of this organization.");
+                        conflictedOrganizations.add(org);
                     }
                 }
-                // This is deprecated, but preserve it until the method is removed.
-                /*
-                 * TODO: explain the above comment, and follow through. What is deprecated (orgToAdd, or getOrgVote)?
-                 * Preserve until which method is removed (getOrgVote)?
-                 */
-                orgToAdd.put(org, value);
 
                 // We add the max vote for each of the organizations choices
                 long maxCount = 0;
@@ -718,17 +776,15 @@ public class VoteResolver<T> {
                 long considerCount = 0;
                 long maxtime = 0;
                 long considerTime = 0;
-                for (T item : items.keySet()) {
-                    if (DEBUG) {
-                        System.out.println(
-                                "Items in order: "
-                                        + item.toString()
-                                        + new Timestamp(items.getTime(item)));
+                for (int i = 0; i < count; i++) {
+                    final int id = sortedIds[i];
+                    final long votes = votesForOrg[id];
+                    if (votes == NO_VOTE) {
+                        continue;
                     }
-                    long count = items.getCount(item);
-                    long time = items.getTime(item);
-                    if (count > maxCount) {
-                        maxCount = count;
+                    final long time = timesForOrg[id];
+                    if (votes > maxCount) {
+                        maxCount = votes;
                         maxtime = time;
                         // tell the 'losing' item
                         if (considerItem != null) {
@@ -736,21 +792,10 @@ public class VoteResolver<T> {
                                     "---- Org is not voting for '%s': there is a higher ranked vote",
                                     considerItem);
                         }
-                        considerItem = item;
-                        if (DEBUG) {
-                            System.out.println(
-                                    "count>maxCount: "
-                                            + considerItem
-                                            + ":"
-                                            + new Timestamp(considerTime)
-                                            + " COUNT: "
-                                            + considerCount
-                                            + "MAXCOUNT: "
-                                            + maxCount);
-                        }
-                        considerCount = items.getCount(considerItem);
-                        considerTime = items.getTime(considerItem);
-                    } else if ((time > maxtime) && (count == maxCount)) {
+                        considerItem = values.get(id);
+                        considerCount = votes;
+                        considerTime = time;
+                    } else if ((time > maxtime) && (votes == maxCount)) {
                         maxtime = time;
                         // tell the 'losing' item
                         if (considerItem != null) {
@@ -758,22 +803,15 @@ public class VoteResolver<T> {
                                     "---- Org is not voting for '%s': there is a later vote",
                                     considerItem);
                         }
-                        considerItem = item;
-                        considerCount = items.getCount(considerItem);
-                        considerTime = items.getTime(considerItem);
-                        if (DEBUG) {
-                            System.out.println(
-                                    "time>maxTime: "
-                                            + considerItem
-                                            + ":"
-                                            + new Timestamp(considerTime));
-                        }
+                        considerItem = values.get(id);
+                        considerCount = votes;
+                        considerTime = time;
                     }
                 }
                 annotateTranscript(
                         "--- %s vote is for '%s' with strength %d",
                         org.getDisplayName(), considerItem, considerCount);
-                orgToAdd.put(org, considerItem);
+                orgToAdd.set(o, considerItem);
                 totals.add(considerItem, considerCount, considerTime);
 
                 if (DEBUG) {
@@ -788,11 +826,13 @@ public class VoteResolver<T> {
         }
 
         public int getOrgCount(T winningValue) {
+            final int id = values.indexOf(winningValue);
+            if (id < 0) {
+                return 0;
+            }
             int orgCount = 0;
-            for (Map.Entry<Organization, MaxCounter<T>> entry : orgToVotes.entrySet()) {
-                Counter<T> counter = entry.getValue();
-                long count = counter.getCount(winningValue);
-                if (count > 0) {
+            for (int o = 0; o < organizations.length; o++) {
+                if (orgValueCount[o] != 0 && orgVotes[o][id] > 0) {
                     orgCount++;
                 }
             }
@@ -801,8 +841,10 @@ public class VoteResolver<T> {
 
         private int getBestPossibleVote() {
             int total = 0;
-            for (Map.Entry<Organization, Integer> entry : orgToMax.entrySet()) {
-                total += entry.getValue();
+            for (int max : orgToMax) {
+                if (max != NO_VOTE) {
+                    total += max;
+                }
             }
             return total;
         }
@@ -810,14 +852,12 @@ public class VoteResolver<T> {
         @Override
         public String toString() {
             String orgToVotesString = "";
-            for (Entry<Organization, MaxCounter<T>> entry : orgToVotes.entrySet()) {
-                Counter<T> counter = entry.getValue();
-                if (counter.size() != 0) {
+            for (Organization org : organizations) {
+                if (orgValueCount[org.ordinal()] != 0) {
                     if (orgToVotesString.length() != 0) {
                         orgToVotesString += ", ";
                     }
-                    Organization org = entry.getKey();
-                    orgToVotesString += org.toString() + "=" + counter;
+                    orgToVotesString += org.toString() + "=" + getOrgToVotes(org);
                 }
             }
             EnumSet<Organization> conflicted = EnumSet.noneOf(Organization.class);
@@ -839,23 +879,36 @@ public class VoteResolver<T> {
          */
         @Deprecated
         public T getOrgVote(Organization org) {
-            return orgToAdd.get(org);
+            return orgToAdd.get(org.ordinal());
         }
 
         public T getOrgVoteRaw(Organization orgOfUser) {
-            return orgToAdd.get(orgOfUser);
+            return orgToAdd.get(orgOfUser.ordinal());
         }
 
+        /** The organization's vote for each value it voted for, in natural order of the values. */
         public Map<T, Long> getOrgToVotes(Organization org) {
             Map<T, Long> result = new LinkedHashMap<>();
-            MaxCounter<T> counter = orgToVotes.get(org);
-            for (T item : counter) {
-                result.put(item, counter.getCount(item));
+            final int o = org.ordinal();
+            if (orgValueCount[o] != 0) {
+                sortIds();
+                for (int i = 0; i < values.size(); i++) {
+                    final int id = sortedIds[i];
+                    if (orgVotes[o][id] != NO_VOTE) {
+                        result.put(values.get(id), orgVotes[o][id]);
+                    }
+                }
             }
             return result;
         }
     }
 
+    /** Marks an organization as not having voted, in the vote tallies */
+    private static final int NO_VOTE = -1;
+
+    /** The number of distinct values per path that the vote tallies have room for at first */
+    private static final int INITIAL_VALUE_CAPACITY = 8;
+
     /** Data built internally */
     private T winningValue;
 
@@ -1092,8 +1145,8 @@ public class VoteResolver<T> {
                  */
                 @Override
                 public int compare(T o1, T o2) {
-                    long v1 = organizationToValueAndVote.totalVotes.get(o1);
-                    long v2 = organizationToValueAndVote.totalVotes.get(o2);
+                    long v1 = organizationToValueAndVote.getTotalVotes(o1);
+                    long v2 = organizationToValueAndVote.getTotalVotes(o2);
                     if (v1 != v2) {
                         return v1 < v2 ? 1 : -1; // highest vote first
                     }
@@ -2050,7 +2103,7 @@ public class VoteResolver<T> {
         if (baselineValue != null && !totals.containsKey(baselineValue)) {
             result.put(baselineValue, 0L);
         }
-        for (T value : organizationToValueAndVote.totalVotes.getMap().keySet()) {
+        for (T value : organizationToValueAndVote.getVotedValues()) {
             if (!result.containsKey(value)) {
                 result.put(value, 0L);
             }
@@ -2076,7 +2129,7 @@ public class VoteResolver<T> {
         }
         final int itemsWithVotes =
                 DROP_HARD_INHERITANCE
-                        ? organizationToValueAndVote.totalVotes.size()
+                        ? organizationToValueAndVote.getVotedValues().size()
                         : countDistinctValuesWithVotes();
         if (itemsWithVotes > 1) {
             // If there are votes for two "distinct" items, we should look at them.
@@ -2125,7 +2178,7 @@ public class VoteResolver<T> {
         if (!resolved) { // must be resolved for bothInheritanceAndBaileyHadVotes
             throw new RuntimeException("countDistinctValuesWithVotes !resolved");
         }
-        int count = organizationToValueAndVote.totalVotes.size();
+        int count = organizationToValueAndVote.getVotedValues().size();
         if (count > 1 && bothInheritanceAndBaileyHadVotes) {
             return count - 1; // prevent showing as "disputed" in dashboard
         }
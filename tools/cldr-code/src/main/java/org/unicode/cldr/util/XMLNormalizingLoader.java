@@ -50,6 +50,13 @@ public class XMLNormalizingLoader {
     private static final boolean LOG_PROGRESS = false;
     private static final boolean DEBUG = false;
 
+    /**
+     * If true, cached sources are stored as CompactXMLSource, sharing paths across locales. Useful
+     * when all locales are kept in memory, set with -DCLDR_COMPACT_SOURCES
+     */
+    private static final boolean USE_COMPACT_SOURCES =
+            CldrUtility.getProperty("CLDR_COMPACT_SOURCES", false);
+
     enum SupplementalStatus {
         NEVER_SET,
         IS_SUMPPLEMENTAL,
@@ -125,7 +132,11 @@ public class XMLNormalizingLoader {
         XMLSource source = null;
         if (key.dirs.size() == 1) {
             File file = new File(key.dirs.iterator().next(), key.localeId + ".xml");
-            source = loadXMLFile(file, key.localeId, key.minimalDraftStatus);
+            // reads from the binary snapshot if enabled and current, else parses the XML
+            source = XMLSourceSnapshot.load(file, key.localeId, key.minimalDraftStatus);
+            if (USE_COMPACT_SOURCES) {
+                source = new CompactXMLSource(source);
+            }
             source.freeze();
             return source;
         }
@@ -7,6 +7,9 @@
 
 package org.unicode.cldr.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Iterators;
 import com.ibm.icu.impl.Utility;
 import com.ibm.icu.util.Freezable;
@@ -27,7 +30,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.unicode.cldr.util.CLDRFile.DraftStatus;
@@ -172,7 +177,8 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
     }
 
     // Listeners are stored using weak references so that they can be garbage collected.
-    private List<WeakReference<Listener>> listeners = new ArrayList<>();
+    // The list may be modified while listeners are being notified.
+    private List<WeakReference<Listener>> listeners = new CopyOnWriteArrayList<>();
 
     public String getLocaleID() {
         return localeID;
@@ -860,7 +866,7 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             return source == null ? constructedItems : source;
         }
 
-        Map<String, String> getFullPathAtDPathCache = new HashMap<>();
+        Map<String, String> getFullPathAtDPathCache = new ConcurrentHashMap<>();
 
         @Override
         public String getFullPathAtDPath(String xpath) {
@@ -993,16 +999,21 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             if (!skipInheritanceMarker || !cachingIsEnabled || (list != null)) {
                 return getPathLocation(xpath, false /* skipFirst */, skipInheritanceMarker, list);
             }
-            synchronized (getSourceLocaleIDCache) {
-                AliasLocation fullStatus = getSourceLocaleIDCache.get(xpath);
-                if (fullStatus == null) {
-                    fullStatus =
-                            getPathLocation(
-                                    xpath, false /* skipFirst */, skipInheritanceMarker, null);
+            AliasLocation fullStatus = getSourceLocaleIDCache.getIfPresent(xpath);
+            if (fullStatus == null) {
+                final long generation = cacheGeneration.get();
+                fullStatus =
+                        getPathLocation(xpath, false /* skipFirst */, skipInheritanceMarker, null);
+                if (fullStatus != null && generation == cacheGeneration.get()) {
                     getSourceLocaleIDCache.put(xpath, fullStatus); // cache copy
+                    // If valueChanged ran while we were computing, our result may be stale;
+                    // it either stopped us above, or its invalidation comes after this check.
+                    if (generation != cacheGeneration.get()) {
+                        getSourceLocaleIDCache.invalidate(xpath);
+                    }
                 }
-                return fullStatus;
             }
+            return fullStatus;
         }
 
         @Override
@@ -1019,7 +1030,35 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             return result;
         }
 
-        private transient Map<String, AliasLocation> getSourceLocaleIDCache = new WeakHashMap<>();
+        /**
+         * Maximum number of paths in each getSourceLocaleIDCache, set with
+         * -DCLDR_RESOLVING_CACHE_SIZE=n
+         */
+        private static final int SOURCE_LOCALE_ID_CACHE_SIZE =
+                Integer.parseInt(CldrUtility.getProperty("CLDR_RESOLVING_CACHE_SIZE", "50000"));
+
+        /**
+         * Cache of getPathLocation results, keyed by path. It is keyed by the path itself rather
+         * than by its {@link XPathIdTable} ID, since getting an ID adds the path to the global
+         * table, under a lock, for every path ever looked up. Reads don't lock; entries are dropped
+         * by valueChanged, or least-recently-used first when the cache is full.
+         */
+        private final transient Cache<String, AliasLocation> getSourceLocaleIDCache =
+                CacheBuilder.newBuilder()
+                        .maximumSize(SOURCE_LOCALE_ID_CACHE_SIZE)
+                        .recordStats()
+                        .build();
+
+        /** Bumped by each valueChanged, so that a racing lookup doesn't cache a stale result. */
+        private final transient AtomicLong cacheGeneration = new AtomicLong();
+
+        /**
+         * Get the hit, miss, and eviction counts of the cache behind getSourceLocaleID and the
+         * other lookups of inherited values.
+         */
+        public CacheStats getSourceLocaleIDCacheStatistics() {
+            return getSourceLocaleIDCache.stats();
+        }
 
         /**
          * Get the source locale ID for the given path, for this ResolvingSource.
@@ -1256,9 +1295,23 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
          * precalculated here since it doesn't appear to improve overall performance.
          */
         private Set<String> fillKeys() {
-            Set<String> paths = findNonAliasedPaths();
+            Set<String> paths;
+            Set<String> newPaths;
+            if (parentKeySet != null) {
+                // The parent's paths are already closed under aliasing, so only this locale's
+                // own new paths can add more.
+                paths = new HashSet<>(parentKeySet);
+                newPaths = new HashSet<>();
+                for (String xpath : currentSource) {
+                    if (paths.add(xpath)) {
+                        newPaths.add(xpath);
+                    }
+                }
+            } else {
+                paths = findNonAliasedPaths();
+                newPaths = paths;
+            }
             // Find aliased paths and loop until no more aliases can be found.
-            Set<String> newPaths = paths;
             int level = 0;
             boolean newPathsFound = false;
             do {
@@ -1353,7 +1406,10 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             return sources.get("root").getReverseAliases();
         }
 
-        private transient Set<String> cachedKeySet = null;
+        private transient volatile Set<String> cachedKeySet = null;
+
+        /** The resolved paths of the parent, if this source was made from a resolved parent. */
+        private final Set<String> parentKeySet;
 
         /**
          * @return an iterator over all the xpaths in this XMLSource.
@@ -1364,11 +1420,17 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
         }
 
         private Set<String> getCachedKeySet() {
-            if (cachedKeySet == null) {
-                cachedKeySet = fillKeys();
-                cachedKeySet = Collections.unmodifiableSet(cachedKeySet);
+            Set<String> result = cachedKeySet;
+            if (result == null) {
+                // children made from this source may ask for the set from several threads
+                synchronized (this) {
+                    result = cachedKeySet;
+                    if (result == null) {
+                        cachedKeySet = result = Collections.unmodifiableSet(fillKeys());
+                    }
+                }
             }
-            return cachedKeySet;
+            return result;
         }
 
         @Override
@@ -1401,29 +1463,53 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             return this; // No-op. ResolvingSource is already read-only.
         }
 
+        /**
+         * Invalidates the cached information for the path and any paths aliasing to it, and
+         * passes the change on to the listeners of this source.
+         */
         @Override
         public void valueChanged(String xpath, XMLSource nonResolvingSource) {
-            if (!cachingIsEnabled) {
+            final boolean hasListeners = hasListeners();
+            if (!cachingIsEnabled && !hasListeners) {
                 return;
             }
-            synchronized (getSourceLocaleIDCache) {
-                AliasLocation location = getSourceLocaleIDCache.remove(xpath);
-                if (location == null) {
-                    return;
-                }
-                // Paths aliasing to this path (directly or indirectly) may be affected,
-                // so clear them as well.
-                // There's probably a more elegant way to fix the paths than simply
-                // throwing everything out.
-                Set<String> dependentPaths = getDirectAliases(new String[] {xpath});
-                if (dependentPaths.size() > 0) {
-                    for (String path : dependentPaths) {
-                        getSourceLocaleIDCache.remove(path);
+            if (cachingIsEnabled) {
+                cacheGeneration.incrementAndGet();
+                invalidateCachedStatus(xpath);
+            }
+            if (hasListeners) {
+                notifyListeners(xpath);
+            } else if (getSourceLocaleIDCache.size() == 0 && getFullPathAtDPathCache.isEmpty()) {
+                return;
+            }
+            // Paths aliasing to this path (directly or indirectly) may be affected, so clear
+            // them as well. They may be cached even if the path itself isn't.
+            Set<String> seen = new HashSet<>();
+            String[] paths = {xpath};
+            int level = 0;
+            while (paths.length > 0) {
+                if (level++ > MAX_LEVEL) throw new IllegalArgumentException("Stack overflow");
+                Set<String> newPaths = getDirectAliases(paths);
+                newPaths.removeAll(seen);
+                seen.addAll(newPaths);
+                for (String path : newPaths) {
+                    if (cachingIsEnabled) {
+                        invalidateCachedStatus(path);
+                    }
+                    if (hasListeners) {
+                        notifyListeners(path);
                     }
                 }
+                paths = newPaths.toArray(new String[0]);
+                Arrays.sort(paths);
             }
         }
 
+        private void invalidateCachedStatus(String xpath) {
+            getSourceLocaleIDCache.invalidate(xpath);
+            getFullPathAtDPathCache.remove(xpath);
+        }
+
         /**
          * Creates a new ResolvingSource with the given locale resolution chain.
          *
@@ -1431,6 +1517,30 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
          *     current locale up to root.
          */
         public ResolvingSource(List<XMLSource> sourceList) {
+            this(sourceList, null);
+        }
+
+        /**
+         * Creates a new ResolvingSource for a locale whose parent is already resolved. The parent's
+         * resolution chain is shared, and its set of resolved paths is reused rather than
+         * recomputed from every source in the chain.
+         *
+         * @param source the unresolved source for the locale
+         * @param parent the resolving source for the locale's parent
+         */
+        public ResolvingSource(XMLSource source, ResolvingSource parent) {
+            this(makeChain(source, parent), parent.getCachedKeySet());
+        }
+
+        private static List<XMLSource> makeChain(XMLSource source, ResolvingSource parent) {
+            List<XMLSource> result = new ArrayList<>();
+            result.add(source);
+            result.addAll(parent.sources.values());
+            return result;
+        }
+
+        private ResolvingSource(List<XMLSource> sourceList, Set<String> parentKeySet) {
+            this.parentKeySet = parentKeySet;
             // Sanity check for root.
             if (sourceList == null
                     || !sourceList.get(sourceList.size() - 1).getLocaleID().equals("root")) {
@@ -1859,18 +1969,21 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
      * @param xpath the xpath where the change occurred.
      */
     public void notifyListeners(String xpath) {
-        int i = 0;
-        while (i < listeners.size()) {
-            Listener listener = listeners.get(i).get();
+        for (WeakReference<Listener> ref : listeners) {
+            Listener listener = ref.get();
             if (listener == null) { // listener has been garbage-collected.
-                listeners.remove(i);
+                listeners.remove(ref);
             } else {
                 listener.valueChanged(xpath, this);
-                i++;
             }
         }
     }
 
+    /** Returns true if any listeners have been added to this XML source. */
+    protected boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
     /**
      * return true if the path in this file (without resolution). Default implementation is to just
      * see if the path has a value. The resolved source must just test the top level.
@@ -0,0 +1,372 @@
+package org.unicode.cldr.util;
+
+import com.ibm.icu.util.VersionInfo;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import org.unicode.cldr.util.CLDRFile.DraftStatus;
+import org.unicode.cldr.util.XMLSource.SourceLocation;
+import org.unicode.cldr.util.XPathParts.Comments;
+import org.unicode.cldr.util.XPathParts.Comments.CommentType;
+
+/**
+ * Compact binary snapshot of a single-file {@link SimpleXMLSource}, so that a warm load can skip
+ * SAX parsing entirely. A snapshot holds an interned path table and an interned value table,
+ * followed by index triples (distinguishing path, value, full path), the source locations, and the
+ * comments.
+ *
+ * <p>A snapshot is only used if the XML file has the same modification time and length as when it
+ * was written (or, failing that, the same CRC32), and the DTD for the file and {@link
+ * CLDRFile#GEN_VERSION} are unchanged. Otherwise it is silently regenerated.
+ *
+ * <p>Snapshots are disabled unless the property {@link #SNAPSHOT_DIR_KEY} names a writable
+ * directory, for example -DCLDR_SNAPSHOT_DIR=/tmp/cldr-snapshots
+ */
+public class XMLSourceSnapshot {
+    public static final String SNAPSHOT_DIR_KEY = "CLDR_SNAPSHOT_DIR";
+
+    private static final int MAGIC = 0x434C4452; // "CLDR"
+    private static final int FORMAT_VERSION = 1;
+    private static final int SAME_AS_DPATH = -1;
+    private static final String SUFFIX = ".snapshot";
+    private static final boolean DEBUG = false;
+
+    private static final File SNAPSHOT_DIR = getSnapshotDir();
+    private static final Map<DtdType, Long> DTD_STAMPS = new ConcurrentHashMap<>();
+
+    private static File getSnapshotDir() {
+        String dir = CldrUtility.getProperty(SNAPSHOT_DIR_KEY, null);
+        if (dir == null || dir.isEmpty()) {
+            return null;
+        }
+        File result = new File(dir);
+        result.mkdirs();
+        if (!result.isDirectory() || !result.canWrite()) {
+            System.err.println(
+                    "XMLSourceSnapshot: cannot write to " + result + ", snapshots disabled");
+            return null;
+        }
+        return result;
+    }
+
+    /** Returns true if snapshots are enabled for this process. */
+    public static boolean isEnabled() {
+        return SNAPSHOT_DIR != null;
+    }
+
+    /**
+     * Load the XMLSource for the file, from its snapshot if that is current, otherwise by parsing
+     * the XML and then writing a fresh snapshot.
+     *
+     * @param xmlFile the XML file
+     * @param localeId the locale ID
+     * @param minimalDraftStatus the minimal draft status
+     * @return an unfrozen XMLSource
+     */
+    public static XMLSource load(File xmlFile, String localeId, DraftStatus minimalDraftStatus) {
+        if (!isEnabled()) {
+            return XMLNormalizingLoader.loadXMLFile(xmlFile, localeId, minimalDraftStatus);
+        }
+        File snapshotFile = getSnapshotFile(SNAPSHOT_DIR, xmlFile, localeId, minimalDraftStatus);
+        XMLSource result = read(snapshotFile, xmlFile, localeId);
+        if (result == null) {
+            result = XMLNormalizingLoader.loadXMLFile(xmlFile, localeId, minimalDraftStatus);
+            write(snapshotFile, xmlFile, result);
+        }
+        return result;
+    }
+
+    /**
+     * Get the snapshot file for an XML file. The parent directory of the XML file is folded into
+     * the name, since (for example) common/main/en.xml and common/annotations/en.xml both exist.
+     */
+    public static File getSnapshotFile(
+            File snapshotDir, File xmlFile, String localeId, DraftStatus minimalDraftStatus) {
+        File parent = xmlFile.getAbsoluteFile().getParentFile();
+        String dirName =
+                parent.getName()
+                        + "-"
+                        + Integer.toHexString(
+                                PathUtilities.getNormalizedPathString(parent).hashCode());
+        return new File(
+                new File(snapshotDir, dirName), localeId + "." + minimalDraftStatus + SUFFIX);
+    }
+
+    /**
+     * Read a snapshot, returning null if it is missing, stale, or unreadable.
+     *
+     * @param snapshotFile the snapshot
+     * @param xmlFile the XML file that the snapshot was made from
+     * @param localeId the locale ID
+     */
+    public static XMLSource read(File snapshotFile, File xmlFile, String localeId) {
+        if (!snapshotFile.canRead()) {
+            return null;
+        }
+        try (DataInputStream in =
+                new DataInputStream(
+                        new BufferedInputStream(new FileInputStream(snapshotFile), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            if (!CLDRFile.GEN_VERSION.equals(in.readUTF())) {
+                return null;
+            }
+            DtdType dtdType = DtdType.valueOf(in.readUTF());
+            if (in.readLong() != getDtdStamp(dtdType)) {
+                return null;
+            }
+            long lastModified = in.readLong();
+            long length = in.readLong();
+            long crc = in.readLong();
+            if (xmlFile.length() != length) {
+                return null;
+            }
+            if (xmlFile.lastModified() != lastModified && getCrc(xmlFile) != crc) {
+                return null;
+            }
+            if (!localeId.equals(in.readUTF())) {
+                return null;
+            }
+            SimpleXMLSource source = new SimpleXMLSource(localeId);
+            source.setXMLNormalizingDtdType(dtdType);
+            source.setNonInheriting(in.readBoolean());
+            String dtdVersion = in.readUTF();
+            if (!dtdVersion.isEmpty()) {
+                source.setDtdVersionInfo(VersionInfo.getInstance(dtdVersion));
+            }
+
+            String[] paths = readTable(in);
+            String[] values = readTable(in);
+
+            for (int count = in.readInt(); count > 0; --count) {
+                String dpath = paths[in.readInt()];
+                source.putValueAtDPath(dpath, values[in.readInt()]);
+                int fullIndex = in.readInt();
+                if (fullIndex != SAME_AS_DPATH) {
+                    source.putFullPathAtDPath(dpath, paths[fullIndex]);
+                }
+            }
+            for (int count = in.readInt(); count > 0; --count) {
+                String fullPath = paths[in.readInt()];
+                String system = values[in.readInt()];
+                source.addSourceLocation(
+                        fullPath, new SourceLocation(system, in.readInt(), in.readInt()));
+            }
+
+            Comments comments = source.getXpathComments();
+            comments.setInitialComment(values[in.readInt()]);
+            comments.setFinalComment(values[in.readInt()]);
+            for (CommentType type : CommentType.values()) {
+                for (int count = in.readInt(); count > 0; --count) {
+                    comments.addComment(type, paths[in.readInt()], values[in.readInt()]);
+                }
+            }
+            return source;
+        } catch (IOException | RuntimeException e) {
+            if (DEBUG) {
+                e.printStackTrace();
+            }
+            return null; // treat a damaged snapshot as missing
+        }
+    }
+
+    /**
+     * Write a snapshot for a freshly-parsed source. Failures are reported but otherwise ignored,
+     * since the snapshot is only an optimization.
+     *
+     * @param snapshotFile the snapshot
+     * @param xmlFile the XML file that the source was parsed from
+     * @param source the source, which must be a SimpleXMLSource
+     */
+    public static void write(File snapshotFile, File xmlFile, XMLSource source) {
+        if (!(source instanceof SimpleXMLSource)) {
+            throw new IllegalArgumentException("Only SimpleXMLSource can be snapshotted");
+        }
+        SimpleXMLSource simple = (SimpleXMLSource) source;
+        DtdType dtdType = simple.getXMLNormalizingDtdType();
+        if (dtdType == null) {
+            return;
+        }
+        StringTable paths = new StringTable();
+        StringTable values = new StringTable();
+        List<int[]> entries = new ArrayList<>();
+        for (Iterator<String> it = simple.iterator(); it.hasNext(); ) {
+            String dpath = it.next();
+            String fullPath = simple.getFullPathAtDPath(dpath);
+            entries.add(
+                    new int[] {
+                        paths.add(dpath),
+                        values.add(simple.getValueAtDPath(dpath)),
+                        fullPath == null || fullPath.equals(dpath)
+                                ? SAME_AS_DPATH
+                                : paths.add(fullPath)
+                    });
+        }
+        List<int[]> locations = new ArrayList<>();
+        for (Entry<String, SourceLocation> entry : simple.getSourceLocations().entrySet()) {
+            SourceLocation location = entry.getValue();
+            locations.add(
+                    new int[] {
+                        paths.add(entry.getKey()),
+                        values.add(location.getSystem()),
+                        location.getLine(),
+                        location.getColumn()
+                    });
+        }
+        Comments comments = simple.getXpathComments();
+        int initialComment = values.add(comments.getInitialComment());
+        int finalComment = values.add(comments.getFinalComment());
+        Map<CommentType, List<int[]>> commentEntries = new HashMap<>();
+        for (CommentType type : CommentType.values()) {
+            List<int[]> list = new ArrayList<>();
+            for (Entry<String, String> entry : comments.getComments(type).entrySet()) {
+                list.add(new int[] {paths.add(entry.getKey()), values.add(entry.getValue())});
+            }
+            commentEntries.put(type, list);
+        }
+
+        File dir = snapshotFile.getParentFile();
+        dir.mkdirs();
+        try {
+            File temp = File.createTempFile(snapshotFile.getName(), ".tmp", dir);
+            try (DataOutputStream out =
+                    new DataOutputStream(
+                            new BufferedOutputStream(new FileOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(CLDRFile.GEN_VERSION);
+                out.writeUTF(dtdType.name());
+                out.writeLong(getDtdStamp(dtdType));
+                out.writeLong(xmlFile.lastModified());
+                out.writeLong(xmlFile.length());
+                out.writeLong(getCrc(xmlFile));
+                out.writeUTF(simple.getLocaleID());
+                out.writeBoolean(simple.isNonInheriting());
+                VersionInfo dtdVersion = simple.getDtdVersionInfo();
+                out.writeUTF(dtdVersion == null ? "" : dtdVersion.toString());
+
+                paths.write(out);
+                values.write(out);
+
+                out.writeInt(entries.size());
+                for (int[] entry : entries) {
+                    out.writeInt(entry[0]);
+                    out.writeInt(entry[1]);
+                    out.writeInt(entry[2]);
+                }
+                out.writeInt(locations.size());
+                for (int[] location : locations) {
+                    for (int item : location) {
+                        out.writeInt(item);
+                    }
+                }
+                out.writeInt(initialComment);
+                out.writeInt(finalComment);
+                for (CommentType type : CommentType.values()) {
+                    List<int[]> list = commentEntries.get(type);
+                    out.writeInt(list.size());
+                    for (int[] entry : list) {
+                        out.writeInt(entry[0]);
+                        out.writeInt(entry[1]);
+                    }
+                }
+            }
+            // readers either see the old snapshot or the complete new one
+            Files.move(
+                    temp.toPath(),
+                    snapshotFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println(
+                    "XMLSourceSnapshot: could not write " + snapshotFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Get a stamp for the DTD of a type, which changes whenever the DTD file changes. Computed once
+     * per process.
+     */
+    static long getDtdStamp(DtdType dtdType) {
+        return DTD_STAMPS.computeIfAbsent(
+                dtdType,
+                type -> {
+                    File dtdFile = new File(CLDRPaths.BASE_DIRECTORY, type.dtdPath);
+                    return dtdFile.canRead() ? getCrc(dtdFile) : 0L;
+                });
+    }
+
+    private static long getCrc(File file) {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = new FileInputStream(file)) {
+            int count;
+            while ((count = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, count);
+            }
+        } catch (IOException e) {
+            return -1L; // never matches a stored CRC
+        }
+        return crc.getValue();
+    }
+
+    private static String[] readTable(DataInputStream in) throws IOException {
+        String[] result = new String[in.readInt()];
+        byte[] buffer = new byte[256];
+        for (int i = 0; i < result.length; ++i) {
+            int length = in.readInt();
+            if (length > buffer.length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            in.readFully(buffer, 0, length);
+            result[i] = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    /**
+     * Interns strings to indexes while writing. The strings are written as length-prefixed UTF-8,
+     * since values such as collation rules can exceed the 64K limit of writeUTF.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> stringToIndex = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int add(String string) {
+            Integer index = stringToIndex.get(string);
+            if (index == null) {
+                index = strings.size();
+                stringToIndex.put(string, index);
+                strings.add(string);
+            }
+            return index;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.unicode.cldr.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide table of interned xpaths, each given a small dense int ID. IDs are handed out in
+ * order of first use and never change or get reused during the life of the process, so two paths
+ * are equal iff their IDs are equal. Unlike {@link StringId}, the IDs are not stable across runs
+ * (use {@link #getStringId(int)} for that); they are suitable as array indexes and for compact
+ * in-memory storage such as {@link CompactXMLSource}.
+ */
+public final class XPathIdTable {
+    /** Returned by {@link #peekId(String)} for a path that has no ID. */
+    public static final int NO_ID = -1;
+
+    private static final Map<String, Integer> PATH_TO_ID = new ConcurrentHashMap<>(1 << 16);
+    private static volatile String[] ID_TO_PATH = new String[1 << 16];
+    private static int size = 0; // guarded by the class
+
+    private XPathIdTable() {}
+
+    /**
+     * Get the ID for a path, assigning a new one if needed. The path is also interned, so the
+     * String returned by {@link #getPath(int)} is shared.
+     */
+    public static int getId(String path) {
+        Integer result = PATH_TO_ID.get(path);
+        return result != null ? result : add(path);
+    }
+
+    /** Get the ID for a path, or {@link #NO_ID} if it has never been assigned one. */
+    public static int peekId(String path) {
+        Integer result = PATH_TO_ID.get(path);
+        return result != null ? result : NO_ID;
+    }
+
+    /** Get the path for an ID. */
+    public static String getPath(int id) {
+        if (id < 0 || id >= ID_TO_PATH.length) {
+            throw new IllegalArgumentException("No path for ID " + id);
+        }
+        return ID_TO_PATH[id];
+    }
+
+    /** Get the stable (cross-process) StringId for the path with this ID. */
+    public static long getStringId(int id) {
+        return StringId.getId(getPath(id));
+    }
+
+    /** The number of paths that have been assigned IDs. */
+    public static synchronized int size() {
+        return size;
+    }
+
+    private static synchronized int add(String path) {
+        Integer result = PATH_TO_ID.get(path); // recheck under the lock
+        if (result != null) {
+            return result;
+        }
+        String[] table = ID_TO_PATH;
+        if (size == table.length) {
+            table = Arrays.copyOf(table, table.length * 2);
+            ID_TO_PATH = table;
+        }
+        int id = size++;
+        table[id] = path.intern();
+        // publish after the array is filled in, so anyone seeing the ID can get the path
+        PATH_TO_ID.put(table[id], id);
+        return id;
+    }
+}
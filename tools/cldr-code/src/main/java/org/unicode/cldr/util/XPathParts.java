@@ -6,6 +6,8 @@
  */
 package org.unicode.cldr.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -25,7 +27,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Parser for XPath
@@ -45,7 +46,13 @@ public final class XPathParts extends XPathParser
 
     private DtdData dtdData = null;
 
-    private static final Map<String, XPathParts> cache = new ConcurrentHashMap<>();
+    /**
+     * Frozen instances, by path. Bounded, so that memory stays flat when many file versions are
+     * read; see {@link BoundedCaches} for the settings.
+     */
+    private static final Cache<String, XPathParts> cache =
+            BoundedCaches.build(
+                    "XPathParts", "maximumSize=100000,recordStats", (path, parts) -> path.length());
 
     /**
      * Construct a new empty XPathParts object.
@@ -194,6 +201,11 @@ public final class XPathParts extends XPathParser
             return comments.get(style).get(xpath);
         }
 
+        /** Get an unmodifiable view of the comments of one style, keyed by xpath. */
+        public Map<String, String> getComments(CommentType style) {
+            return Collections.unmodifiableMap(comments.get(style));
+        }
+
         public Comments addComment(CommentType style, String xpath, String comment) {
             String existing = comments.get(style).get(xpath);
             if (existing != null) {
@@ -1211,13 +1223,24 @@ public final class XPathParts extends XPathParser
     }
 
     public static XPathParts getFrozenInstance(String path) {
-        XPathParts result =
-                cache.computeIfAbsent(
-                        path,
-                        (String forPath) -> new XPathParts().addInternal(forPath, true).freeze());
+        XPathParts result = cache.getIfPresent(path);
+        if (result == null) {
+            // a racing thread may build an equal instance; either one can be used
+            result = new XPathParts().addInternal(path, true).freeze();
+            cache.put(path, result);
+        }
         return result;
     }
 
+    /**
+     * Get Statistics for the cache behind getFrozenInstance.
+     *
+     * @return
+     */
+    public static CacheStats getStatistics() {
+        return cache.stats();
+    }
+
     public DtdData getDtdData() {
         return dtdData;
     }
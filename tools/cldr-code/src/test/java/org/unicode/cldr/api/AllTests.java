@@ -15,6 +15,7 @@ public class AllTests extends TestGroup {
                     CldrPathTest.class,
                     CldrValueTest.class,
                     FilteredDataTest.class,
+                    MappedDataTest.class,
                     PathMatcherTest.class,
                     PrefixVisitorTest.class,
                     XmlDataSourceTest.class);
@@ -0,0 +1,107 @@
+package org.unicode.cldr.api;
+
+import static org.unicode.cldr.api.CldrData.PathOrder.ARBITRARY;
+import static org.unicode.cldr.api.CldrData.PathOrder.DTD;
+import static org.unicode.cldr.api.CldrDataSupplier.CldrResolution.RESOLVED;
+import static org.unicode.cldr.api.CldrDataType.BCP47;
+import static org.unicode.cldr.api.CldrDataType.SUPPLEMENTAL;
+import static org.unicode.cldr.api.CldrDraftStatus.CONTRIBUTED;
+import static org.unicode.cldr.api.CldrDraftStatus.UNCONFIRMED;
+
+import com.google.common.collect.ImmutableSet;
+import com.ibm.icu.dev.test.TestFmwk;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.unicode.cldr.api.CldrDataSupplier.CldrResolution;
+import org.unicode.cldr.util.CLDRPaths;
+
+/** Tests that precompiled, memory-mapped data is the same as the data it was written from. */
+public class MappedDataTest extends TestFmwk {
+    private static final ImmutableSet<String> LOCALES = ImmutableSet.of("root", "en", "en_GB");
+
+    public void TestParityWithXml() throws IOException {
+        CldrDataSupplier xml =
+                CldrDataSupplier.forCldrFilesIn(Paths.get(CLDRPaths.BASE_DIRECTORY))
+                        .withDraftStatusAtLeast(CONTRIBUTED);
+        Path storeDir = Files.createTempDirectory("precompiled");
+        try {
+            CldrDataSupplier.writePrecompiledData(xml, CONTRIBUTED, LOCALES, storeDir);
+            CldrDataSupplier mapped = CldrDataSupplier.forPrecompiledData(storeDir);
+
+            assertEquals("locales", LOCALES, mapped.getAvailableLocaleIds());
+            assertSameData("bcp47", xml.getDataForType(BCP47), mapped.getDataForType(BCP47));
+            assertSameData(
+                    "supplemental",
+                    xml.getDataForType(SUPPLEMENTAL),
+                    mapped.getDataForType(SUPPLEMENTAL));
+            for (String localeId : LOCALES) {
+                for (CldrResolution resolution : CldrResolution.values()) {
+                    assertSameData(
+                            localeId + " " + resolution,
+                            xml.getDataForLocale(localeId, resolution),
+                            mapped.getDataForLocale(localeId, resolution));
+                }
+            }
+
+            // Unknown locales are empty, as for the XML backend.
+            List<CldrValue> values = new ArrayList<>();
+            mapped.getDataForLocale("xx", RESOLVED).accept(DTD, values::add);
+            assertEquals("unknown locale", 0, values.size());
+
+            // Only the draft status the data was written with is supported.
+            assertSame("same status", mapped, mapped.withDraftStatusAtLeast(CONTRIBUTED));
+            try {
+                mapped.withDraftStatusAtLeast(UNCONFIRMED);
+                errln("expected IllegalArgumentException");
+            } catch (IllegalArgumentException expected) {
+                // Expected.
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(storeDir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    public void TestNotPrecompiled() throws IOException {
+        Path storeDir = Files.createTempDirectory("precompiled");
+        try {
+            CldrDataSupplier.forPrecompiledData(storeDir);
+            errln("expected UncheckedIOException");
+        } catch (UncheckedIOException expected) {
+            // Expected.
+        } finally {
+            Files.delete(storeDir);
+        }
+    }
+
+    private void assertSameData(String msg, CldrData expected, CldrData actual) {
+        List<CldrValue> expectedValues = new ArrayList<>();
+        expected.accept(DTD, expectedValues::add);
+        List<CldrValue> actualValues = new ArrayList<>();
+        actual.accept(DTD, actualValues::add);
+        assertEquals(msg + " (DTD order)", expectedValues, actualValues);
+        assertEquals(msg + " size", expectedValues.size(), ((MappedData) actual).size());
+
+        // Values are stored in DTD order, which is used for all orders.
+        List<CldrValue> arbitraryValues = new ArrayList<>();
+        actual.accept(ARBITRARY, arbitraryValues::add);
+        assertEquals(msg + " (arbitrary order)", actualValues, arbitraryValues);
+
+        for (CldrValue value : expectedValues) {
+            assertEquals(msg + " get " + value.getPath(), value, actual.get(value.getPath()));
+        }
+        assertNull(msg + " get missing path", actual.get(MISSING_PATH));
+    }
+
+    private static final CldrPath MISSING_PATH =
+            CldrPath.parseDistinguishingPath(
+                    "//ldml/localeDisplayNames/languages/language[@type=\"zxx_Zzzz\"]");
+}
@@ -16,10 +16,14 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import org.unicode.cldr.api.CldrDataSupplier.ParseStatistics;
 
 /**
  * Tests XML file parsing and path/value generation. These focus on end-to-end parsing of fake data
@@ -223,6 +227,51 @@ public class XmlDataSourceTest extends TestFmwk {
                                 v.getPath().toString().startsWith("//supplementalData/version")));
     }
 
+    public void TestParsedOnce() {
+        ListMultimap<Path, String> files = LinkedListMultimap.create();
+        addFile(
+                files,
+                "foo.xml",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>",
+                "<!DOCTYPE supplementalData SYSTEM \"../../common/dtd/ldmlSupplemental.dtd\">",
+                "<supplementalData>",
+                "  <version number=\"42\"/>",
+                "  <characters>",
+                "    <character-fallback>",
+                "      <character value=\"'\">",
+                "        <substitute>single-quote</substitute>",
+                "      </character>",
+                "    </character-fallback>",
+                "  </characters>",
+                "</supplementalData>");
+        AtomicInteger openCount = new AtomicInteger();
+        Function<Path, Reader> openFn = openFileFn(files);
+        XmlDataSource src =
+                new XmlDataSource(
+                        SUPPLEMENTAL,
+                        files.keySet(),
+                        UNCONFIRMED,
+                        p -> {
+                            openCount.incrementAndGet();
+                            return openFn.apply(p);
+                        });
+        assertSame("not parsed", ParseStatistics.NONE, src.getParseStatistics());
+
+        List<CldrValue> values = new ArrayList<>();
+        src.accept(DTD, values::add);
+        src.accept(ARBITRARY, values::add);
+        src.accept(DTD, values::add);
+        assertEquals("values", 3, values.size());
+        assertEquals("get", values.get(0), src.get(values.get(0).getPath()));
+        assertEquals("files opened", 1, openCount.get());
+
+        ParseStatistics stats = src.getParseStatistics();
+        assertEquals("file count", 1, stats.getFileCount());
+        assertEquals("value count", 1, stats.getValueCount());
+        // supplementalData, characters, character-fallback, character, substitute
+        assertEquals("path element count", 5, stats.getPathElementCount());
+    }
+
     private static void addFile(ListMultimap<Path, String> files, String path, String... lines) {
         files.putAll(Paths.get(path), Arrays.asList(lines));
     }
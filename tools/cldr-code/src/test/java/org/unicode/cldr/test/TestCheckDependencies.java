@@ -0,0 +1,56 @@
+package org.unicode.cldr.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class TestCheckDependencies {
+    private static final String FRENCH =
+            "//ldml/localeDisplayNames/languages/language[@type=\"fr\"]";
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                // exemplars are read by CheckForExemplars for every path
+                "//ldml/characters/exemplarCharacters",
+                // symbols are read by CheckNumbers
+                "//ldml/numbers/symbols[@numberSystem=\"latn\"]/decimal",
+                // other patterns are read by CheckDates
+                "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/dateTimeFormats/availableFormats/dateFormatItem[@id=\"yMd\"]",
+                // exemplar cities are compared with territory names
+                "//ldml/dates/timeZoneNames/zone[@type=\"Europe/Paris\"]/exemplarCity",
+                "//ldml/localeDisplayNames/territories/territory[@type=\"FR\"]",
+                // English, Scotland and Wales are compared with territory names
+                "//ldml/localeDisplayNames/subdivisions/subdivision[@type=\"gbsct\"]",
+            })
+    void testNoGroup(String path) {
+        assertNull(CheckDependencies.getGroup(path), path);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                FRENCH,
+                "//ldml/numbers/currencies/currency[@type=\"EUR\"]/displayName[@count=\"one\"]",
+                "//ldml/units/unitLength[@type=\"long\"]/unit[@type=\"length-meter\"]/displayName",
+                "//ldml/annotations/annotation[@cp=\"🐈\"][@type=\"tts\"]",
+            })
+    void testGroup(String path) {
+        assertNotNull(CheckDependencies.getGroup(path), path);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                // alt forms are checked for collisions with the others
+                "//ldml/localeDisplayNames/languages/language[@type=\"en_GB\"][@alt=\"short\"]",
+                // starred paths, as in ExampleDependencies
+                "//ldml/localeDisplayNames/languages/language[@type=\"*\"]",
+            })
+    void testSameGroup(String path) {
+        assertEquals(CheckDependencies.getGroup(FRENCH), CheckDependencies.getGroup(path), path);
+    }
+}
@@ -0,0 +1,50 @@
+package org.unicode.cldr.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @see {@link ConsoleCheckCLDR}
+ */
+public class TestConsoleCheckCLDR {
+    // With an organization, sublocales are checked for coverage too.
+    private static final String[] ARGS = {
+        "-f", "(de|de_AT|fr|fr_CA|sr_Latn|sr_Latn_BA)", "-o", "google"
+    };
+
+    /** Run ConsoleCheckCLDR, returning its output without the times, which vary. */
+    private static String run(String... extraArgs) throws IOException {
+        final String[] args = Arrays.copyOf(ARGS, ARGS.length + extraArgs.length);
+        System.arraycopy(extraArgs, 0, args, ARGS.length, extraArgs.length);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final PrintStream out = System.out;
+        System.setOut(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        try {
+            ConsoleCheckCLDR.run(args);
+        } finally {
+            System.setOut(out);
+        }
+        return bytes.toString(StandardCharsets.UTF_8)
+                .lines()
+                .filter(
+                        line ->
+                                !line.startsWith("# Elapsed time")
+                                        && !line.startsWith("# Total elapsed time"))
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Test
+    public void TestParallelMatchesSerial() throws IOException {
+        // Each thread checks a different sequence of locales, so state shared between the checks
+        // of different threads would show up as differences.
+        final String serial = run();
+        assertEquals(serial, run("-P3"));
+    }
+}
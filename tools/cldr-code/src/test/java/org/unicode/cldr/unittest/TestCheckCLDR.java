@@ -18,6 +18,8 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
@@ -185,6 +187,95 @@ public class TestCheckCLDR extends TestFmwk {
         }
     }
 
+    /**
+     * Test that TestResultBundle.warmUp gives the same results as checking each path, and that the
+     * cached results are still correct after values change in a source that notifies the cache
+     */
+    public void TestTestCacheWarmUp() {
+        CheckCLDR.setDisplayInformation(english);
+        final String localeString = "fr";
+        final CLDRLocale locale = CLDRLocale.getInstance(localeString);
+        final String names = ".*(CheckDisplayCollisions|CheckForExemplars)";
+        final CheckCLDR.Options checkCldrOptions =
+                new Options(locale, Phase.SUBMISSION, "default", "basic");
+
+        // A copy of the language names and exemplars, which can be changed
+        final String languagePrefix = "//ldml/localeDisplayNames/languages/";
+        final String exemplarPath = "//ldml/characters/exemplarCharacters";
+        final XMLSource frSource = new SimpleXMLSource(localeString);
+        final CLDRFile original = factory.make(localeString, false);
+        for (String path : original) {
+            if (path.startsWith(languagePrefix) || path.startsWith(exemplarPath)) {
+                frSource.putValueAtPath(original.getFullXPath(path), original.getStringValue(path));
+            }
+        }
+        final TestFactory testFactory = new TestFactory();
+        testFactory.setSupplementalDirectory(factory.getSupplementalDirectory());
+        testFactory.addFile(new CLDRFile(frSource));
+
+        final TestCache testCache = new TestCache();
+        testCache.setFactory(testFactory, names);
+        frSource.addListener(testCache);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        testCache.setWarmUpExecutor(executor);
+        try {
+            final TestResultBundle bundle = testCache.warmUp(checkCldrOptions);
+            final String frenchPath = languagePrefix + "language[@type=\"fr\"]";
+            final String germanPath = languagePrefix + "language[@type=\"de\"]";
+            final long misses = testCache.getCheckMissCount();
+            assertCachedResults(testFactory, bundle, names, checkCldrOptions, null);
+            assertEquals(
+                    "checks not answered from the warmed-up cache",
+                    misses,
+                    testCache.getCheckMissCount());
+
+            // German gets the same name as French: the French name collides with it now.
+            final String german = frSource.getValueAtPath(germanPath);
+            frSource.putValueAtPath(germanPath, frSource.getValueAtPath(frenchPath));
+            frSource.notifyListeners(germanPath);
+            assertCachedResults(testFactory, bundle, names, checkCldrOptions, frenchPath);
+            frSource.putValueAtPath(germanPath, german);
+            frSource.notifyListeners(germanPath);
+            assertCachedResults(testFactory, bundle, names, checkCldrOptions, null);
+
+            // Without "ç" in the exemplars, "français" has a character that isn't allowed.
+            frSource.putValueAtPath(
+                    exemplarPath, frSource.getValueAtPath(exemplarPath).replace("ç", ""));
+            frSource.notifyListeners(exemplarPath);
+            assertCachedResults(testFactory, bundle, names, checkCldrOptions, frenchPath);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Check that the results cached in the bundle are the same as those of new checks
+     *
+     * @param problemPath if not null, a path that must have problems
+     */
+    private void assertCachedResults(
+            Factory testFactory,
+            TestResultBundle bundle,
+            String names,
+            CheckCLDR.Options checkCldrOptions,
+            String problemPath) {
+        final CLDRFile cldrFile =
+                testFactory.make(checkCldrOptions.getLocale().getBaseName(), true);
+        final CheckCLDR checkCldr = CheckCLDR.getCheckAll(testFactory, names);
+        checkCldr.setCldrFileToCheck(cldrFile, checkCldrOptions, new ArrayList<>());
+        final List<CheckStatus> cached = new ArrayList<>();
+        final List<CheckStatus> expected = new ArrayList<>();
+        for (String path : cldrFile) {
+            final String value = cldrFile.getStringValue(path);
+            bundle.check(path, cached, value);
+            checkCldr.check(path, cldrFile.getFullXPath(path), value, checkCldrOptions, expected);
+            assertEquals(path, expected.toString(), cached.toString());
+            if (path.equals(problemPath)) {
+                assertFalse(path + " has problems", expected.isEmpty());
+            }
+        }
+    }
+
     /** Test the "collisionless" error/warning messages. */
     public static final String INDIVIDUAL_TESTS =
             ".*(CheckCasing|CheckCurrencies|CheckDates|CheckExemplars|CheckForCopy|CheckForExemplars|CheckMetazones|CheckNumbers)";
@@ -499,6 +499,29 @@ public class TestLocale extends TestFmwkPlus {
         assertEquals("Locale name", "中国語 (アラビア文字\u3001アメリカ合衆国)", japanese.getName("zh-Arab-US"));
     }
 
+    /** Names are memoized for frozen files, but must follow changes to the sources under them. */
+    public void TestFrozenNameFollowsChanges() {
+        final String languagePath = CLDRFile.getKey(CLDRFile.LANGUAGE_NAME, "fr");
+        final String patternPath = "//ldml/localeDisplayNames/localeDisplayPattern/localePattern";
+        SimpleXMLSource dxs = new SimpleXMLSource("xx");
+        dxs.putValueAtDPath(languagePath, "Frenchish");
+        dxs.putValueAtDPath(CLDRFile.getKey(CLDRFile.TERRITORY_NAME, "FR"), "Franceland");
+        SimpleXMLSource root = new SimpleXMLSource("root");
+        root.putValueAtDPath(patternPath, "{0} ({1})");
+        root.putValueAtDPath(
+                "//ldml/localeDisplayNames/localeDisplayPattern/localeSeparator", "{0}, {1}");
+        CLDRFile f = new CLDRFile(dxs, root).freeze();
+        assertEquals("before", "Frenchish (Franceland)", f.getName("fr_FR"));
+
+        dxs.putValueAtDPath(languagePath, "Frankish");
+        dxs.notifyListeners(languagePath);
+        assertEquals("changed name", "Frankish (Franceland)", f.getName("fr_FR"));
+
+        dxs.putValueAtDPath(patternPath, "{0} [{1}]");
+        dxs.notifyListeners(patternPath);
+        assertEquals("changed pattern", "Frankish [Franceland]", f.getName("fr_FR"));
+    }
+
     public void TestLocaleDisplay() {
         if (!isVerbose()) {
             warnln("\nUse -v to get samples for tests");
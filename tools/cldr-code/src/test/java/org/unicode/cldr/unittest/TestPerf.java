@@ -1,18 +1,59 @@
 package org.unicode.cldr.unittest;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.ibm.icu.util.Output;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.unicode.cldr.json.Ldml2JsonConverter;
+import org.unicode.cldr.test.CoverageLevel2;
+import org.unicode.cldr.unittest.TestUtilities.TestUser;
 import org.unicode.cldr.util.CLDRConfig;
 import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRFile.DraftStatus;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.CLDRPaths;
 import org.unicode.cldr.util.DtdData;
 import org.unicode.cldr.util.DtdData.AttributeValueComparator;
 import org.unicode.cldr.util.DtdType;
+import org.unicode.cldr.util.Factory;
+import org.unicode.cldr.util.PathHeader;
+import org.unicode.cldr.util.SupplementalDataInfo;
 import org.unicode.cldr.util.Timer;
+import org.unicode.cldr.util.VoteResolver;
+import org.unicode.cldr.util.VoteResolver.Status;
+import org.unicode.cldr.util.VoterInfoList;
+import org.unicode.cldr.util.XMLNormalizingLoader;
+import org.unicode.cldr.util.XMLSource;
+import org.unicode.cldr.util.XMLSourceSnapshot;
 import org.unicode.cldr.util.XPathParts;
 
 public class TestPerf extends TestFmwkPlus {
@@ -192,5 +233,495 @@ public class TestPerf extends TestFmwkPlus {
         return timer.getSeconds() / iterations;
     }
 
+    /**
+     * Compare loading all of common/main and common/annotations with SAX against loading the same
+     * files from binary snapshots, and check that the results are identical.
+     */
+    public void TestSnapshotLoad() throws IOException {
+        List<File> xmlFiles = new ArrayList<>();
+        for (String dir :
+                Arrays.asList(CLDRPaths.MAIN_DIRECTORY, CLDRPaths.ANNOTATIONS_DIRECTORY)) {
+            File[] files = new File(dir).listFiles((d, name) -> name.endsWith(".xml"));
+            Arrays.sort(files);
+            xmlFiles.addAll(Arrays.asList(files));
+        }
+        File snapshotDir = Files.createTempDirectory("cldr-snapshots").toFile();
+        try {
+            Timer timer = new Timer();
+            List<XMLSource> saxSources = new ArrayList<>();
+            for (File xmlFile : xmlFiles) {
+                saxSources.add(
+                        XMLNormalizingLoader.loadXMLFile(
+                                xmlFile, getLocaleId(xmlFile), DraftStatus.unconfirmed));
+            }
+            double saxSeconds = timer.getSeconds();
+
+            for (int i = 0; i < xmlFiles.size(); ++i) {
+                File xmlFile = xmlFiles.get(i);
+                XMLSourceSnapshot.write(
+                        getSnapshotFile(snapshotDir, xmlFile), xmlFile, saxSources.get(i));
+            }
+
+            timer.start();
+            List<XMLSource> snapshotSources = new ArrayList<>();
+            for (File xmlFile : xmlFiles) {
+                snapshotSources.add(
+                        XMLSourceSnapshot.read(
+                                getSnapshotFile(snapshotDir, xmlFile),
+                                xmlFile,
+                                getLocaleId(xmlFile)));
+            }
+            double snapshotSeconds = timer.getSeconds();
+
+            int mismatches = 0;
+            for (int i = 0; i < xmlFiles.size(); ++i) {
+                XMLSource expected = saxSources.get(i);
+                XMLSource actual = snapshotSources.get(i);
+                if (actual == null) {
+                    errln("No snapshot for " + xmlFiles.get(i));
+                    continue;
+                }
+                for (Iterator<String> it = expected.iterator(); it.hasNext(); ) {
+                    String path = it.next();
+                    if (!Objects.equals(
+                                    expected.getValueAtDPath(path), actual.getValueAtDPath(path))
+                            || !Objects.equals(
+                                    expected.getFullPathAtDPath(path),
+                                    actual.getFullPathAtDPath(path))) {
+                        ++mismatches;
+                    }
+                }
+            }
+            assertEquals("Snapshot mismatches", 0, mismatches);
+            logln(
+                    "Files: "
+                            + xmlFiles.size()
+                            + "\tSAX: "
+                            + saxSeconds
+                            + "s\tSnapshot: "
+                            + snapshotSeconds
+                            + "s");
+            assertRelation("Snapshot load vs SAX", true, snapshotSeconds, LEQ, saxSeconds);
+        } finally {
+            for (File dir : snapshotDir.listFiles()) {
+                for (File file : dir.listFiles()) {
+                    file.delete();
+                }
+                dir.delete();
+            }
+            snapshotDir.delete();
+        }
+    }
+
+    private static String getLocaleId(File xmlFile) {
+        String name = xmlFile.getName();
+        return name.substring(0, name.length() - ".xml".length());
+    }
+
+    private static File getSnapshotFile(File snapshotDir, File xmlFile) {
+        return XMLSourceSnapshot.getSnapshotFile(
+                snapshotDir, xmlFile, getLocaleId(xmlFile), DraftStatus.unconfirmed);
+    }
+
+    /**
+     * Measure the throughput of getName over all available locales on a shared resolved file, from
+     * one thread and then from several at once. Since getName takes no lock, adding threads should
+     * not lower the throughput.
+     */
+    public void TestGetNameThroughput() throws InterruptedException, ExecutionException {
+        final CLDRFile english = CLDRConfig.getInstance().getEnglish();
+        final List<String> locales =
+                new ArrayList<>(CLDRConfig.getInstance().getCldrFactory().getAvailable());
+        final Map<String, String> expected = new HashMap<>();
+        for (String locale : locales) {
+            expected.put(locale, english.getName(locale)); // also warms up
+        }
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final Callable<Integer> task =
+                () -> {
+                    int mismatches = 0;
+                    for (int i = 0; i < ITERATIONS; ++i) {
+                        for (String locale : locales) {
+                            if (!expected.get(locale).equals(english.getName(locale))) {
+                                ++mismatches;
+                            }
+                        }
+                    }
+                    return mismatches;
+                };
+        Timer timer = new Timer();
+        int mismatches = task.call();
+        double singleSeconds = timer.getSeconds();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            timer.start();
+            for (Future<Integer> future : pool.invokeAll(Collections.nCopies(threads, task))) {
+                mismatches += future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        double multiSeconds = timer.getSeconds();
+        assertEquals("getName mismatches", 0, mismatches);
+
+        double calls = ITERATIONS * (double) locales.size();
+        double singleThroughput = calls / singleSeconds;
+        double multiThroughput = calls * threads / multiSeconds;
+        logln(
+                "Locales: "
+                        + locales.size()
+                        + "\tThreads: "
+                        + threads
+                        + "\t1 thread: "
+                        + Math.round(singleThroughput)
+                        + " calls/s\t"
+                        + threads
+                        + " threads: "
+                        + Math.round(multiThroughput)
+                        + " calls/s");
+        assertRelation(
+                "getName multi-threaded throughput", true, multiThroughput, GEQ, singleThroughput);
+    }
+
+    /**
+     * Measure the throughput of PathHeader.Factory.fromPath over all the paths of root and en,
+     * from one thread and then from several at once. Cache hits don't lock, so adding threads
+     * should not lower the throughput.
+     */
+    public void TestPathHeaderThroughput() throws InterruptedException, ExecutionException {
+        final PathHeader.Factory phf = PathHeader.getFactory();
+        final Set<String> pathSet = new HashSet<>(testPaths);
+        CLDRConfig.getInstance().getRoot().forEach(pathSet::add);
+        final List<String> paths = new ArrayList<>(pathSet);
+        final Map<String, PathHeader> expected = new HashMap<>();
+        for (String path : paths) {
+            expected.put(path, phf.fromPath(path)); // also warms up
+        }
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final Callable<Integer> task =
+                () -> {
+                    int mismatches = 0;
+                    for (int i = 0; i < ITERATIONS; ++i) {
+                        for (String path : paths) {
+                            if (!Objects.equals(expected.get(path), phf.fromPath(path))) {
+                                ++mismatches;
+                            }
+                        }
+                    }
+                    return mismatches;
+                };
+        Timer timer = new Timer();
+        int mismatches = task.call();
+        double singleSeconds = timer.getSeconds();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            timer.start();
+            for (Future<Integer> future : pool.invokeAll(Collections.nCopies(threads, task))) {
+                mismatches += future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        double multiSeconds = timer.getSeconds();
+        assertEquals("fromPath mismatches", 0, mismatches);
+
+        double calls = ITERATIONS * (double) paths.size();
+        double singleThroughput = calls / singleSeconds;
+        double multiThroughput = calls * threads / multiSeconds;
+        logln(
+                "Paths: "
+                        + paths.size()
+                        + "\tThreads: "
+                        + threads
+                        + "\t1 thread: "
+                        + Math.round(singleThroughput)
+                        + " calls/s\t"
+                        + threads
+                        + " threads: "
+                        + Math.round(multiThroughput)
+                        + " calls/s\t"
+                        + PathHeader.Factory.getCacheStatistics());
+        assertRelation(
+                "fromPath multi-threaded throughput", true, multiThroughput, GEQ, singleThroughput);
+    }
+
+    /**
+     * Measure CoverageLevel2.getLevel over every path of every locale (or of a few locales, unless
+     * run with -e5 or higher). The STAR_PATTERN_LOOKUP behind it dominates the cost.
+     */
+    public void TestCoverageLevelLookup() {
+        final Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        final SupplementalDataInfo sdi = CLDRConfig.getInstance().getSupplementalDataInfo();
+        final Collection<String> locales =
+                getInclusion() >= 5
+                        ? factory.getAvailable()
+                        : Arrays.asList("root", "en", "de", "ja", "zh_Hant");
+        long pathCount = 0;
+        double seconds = 0;
+        Timer timer = new Timer();
+        for (String locale : locales) {
+            final List<String> paths = new ArrayList<>();
+            factory.make(locale, true).forEach(paths::add);
+            final CoverageLevel2 coverage = CoverageLevel2.getInstance(sdi, locale);
+            timer.start();
+            for (String path : paths) {
+                coverage.getLevel(path);
+            }
+            seconds += timer.getSeconds();
+            pathCount += paths.size();
+        }
+        logln(
+                "Locales: "
+                        + locales.size()
+                        + "\tPaths: "
+                        + pathCount
+                        + "\t"
+                        + Math.round(pathCount / seconds)
+                        + " paths/s");
+    }
+
+    /**
+     * Resolve synthetic votes for every path of a large locale, once with a new VoteResolver per
+     * path and once reusing a single resolver, as the Survey Tool does when loading a locale's
+     * votes. Compare the throughput and the bytes allocated, and check that the winners agree.
+     */
+    public void TestVoteResolution() {
+        final String locale = "de";
+        final CLDRFile file = CLDRConfig.getInstance().getCldrFactory().make(locale, true);
+        final List<String> paths = new ArrayList<>();
+        final List<String> values = new ArrayList<>();
+        final List<String> baileyValues = new ArrayList<>();
+        for (String path : file) {
+            paths.add(path);
+            values.add(file.getStringValue(path));
+            baileyValues.add(file.getBaileyValue(path, null, null));
+        }
+        final VoterInfoList voterInfoList = TestUtilities.getTestVoterInfoList();
+        final TestUser[] voters = TestUser.values();
+        final CLDRLocale cldrLocale = CLDRLocale.getInstance(locale);
+        final Date date = new Date();
+        final int passes = getInclusion() >= 5 ? 10 : 2;
+
+        final List<String> freshWinners = new ArrayList<>();
+        final List<String> reusedWinners = new ArrayList<>();
+        final double[] seconds = new double[2];
+        final long[] bytes = new long[2];
+        for (int pass = 0; pass < passes; pass++) {
+            for (int reuse = 0; reuse < 2; reuse++) {
+                final List<String> winners = reuse == 0 ? freshWinners : reusedWinners;
+                winners.clear();
+                final long startBytes = getThreadAllocatedBytes();
+                final Timer timer = new Timer();
+                VoteResolver<String> resolver = null;
+                for (int i = 0; i < paths.size(); i++) {
+                    if (resolver == null || reuse == 0) {
+                        resolver = new VoteResolver<>(voterInfoList);
+                    } else {
+                        resolver.clear();
+                    }
+                    final String value = values.get(i);
+                    resolver.setLocale(cldrLocale, null);
+                    resolver.setBaseline(value, Status.approved);
+                    resolver.setBaileyValue(baileyValues.get(i));
+                    resolver.add(value);
+                    // A few voters per path, some of them for another value.
+                    for (int v = i % 3; v < voters.length; v += 3) {
+                        final String vote = (i + v) % 4 == 0 ? value + "-alt" : value;
+                        resolver.add(vote, voters[v].voterId, null, date);
+                    }
+                    winners.add(resolver.getWinningValue());
+                }
+                seconds[reuse] += timer.getSeconds();
+                bytes[reuse] += getThreadAllocatedBytes() - startBytes;
+            }
+            assertEquals("same winners with a reused resolver", freshWinners, reusedWinners);
+        }
+        final long pathCount = (long) paths.size() * passes;
+        for (int reuse = 0; reuse < 2; reuse++) {
+            logln(
+                    (reuse == 0 ? "New resolver per path" : "Reused resolver")
+                            + "\tPaths: "
+                            + pathCount
+                            + "\t"
+                            + Math.round(pathCount / seconds[reuse])
+                            + " paths/s\t"
+                            + (bytes[reuse] < 0 ? "?" : String.valueOf(bytes[reuse] / pathCount))
+                            + " bytes/path");
+        }
+        if (bytes[0] >= 0 && bytes[1] >= 0) {
+            assertRelation("bytes allocated with a reused resolver", true, bytes[1], LEQ, bytes[0]);
+        }
+    }
+
+    /** The bytes allocated by this thread so far, or -1 if the JVM can't tell. */
+    private static long getThreadAllocatedBytes() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * Run Ldml2JsonConverter over a few resolved locales with and without shared sections, writing
+     * both the -modern and -full packages, and check that the files are byte-identical and that
+     * fewer sections were built.
+     */
+    public void TestJsonConverterSharedSections() throws IOException, ParseException {
+        final String match = getInclusion() >= 5 ? ".*" : "(de|en|fr|ja|zh_Hant)";
+        final Map<Boolean, Path> outputDirs = new TreeMap<>();
+        final Map<Boolean, Integer> sectionsBuilt = new TreeMap<>();
+        try {
+            for (boolean shareSections : Arrays.asList(false, true)) {
+                final Path outputDir = Files.createTempDirectory("cldr-json");
+                outputDirs.put(shareSections, outputDir);
+                final Ldml2JsonConverter converter =
+                        new Ldml2JsonConverter(
+                                CLDRPaths.COMMON_DIRECTORY,
+                                outputDir + "/",
+                                "main",
+                                false, // fullNumbers
+                                true, // resolve
+                                "optional",
+                                match,
+                                true, // writePackages
+                                null, // default config
+                                CLDRFile.GEN_VERSION,
+                                true, // strictBcp47
+                                true, // skipBcp47LocalesWithSubtags
+                                true, // writeModernPackage
+                                false, // includeRedundant
+                                shareSections,
+                                false); // incremental
+                Timer timer = new Timer();
+                converter.processDirectory("main", DraftStatus.unconfirmed);
+                double seconds = timer.getSeconds();
+                sectionsBuilt.put(shareSections, converter.getSectionsBuilt());
+                logln(
+                        (shareSections ? "Shared" : "Unshared")
+                                + ":\t"
+                                + seconds
+                                + "s\tSections: "
+                                + converter.getSectionsBuilt());
+            }
+
+            // The modern locales are in both -modern and -full, but their sections are built once.
+            assertTrue(
+                    "Fewer sections built: " + sectionsBuilt,
+                    sectionsBuilt.get(true) < sectionsBuilt.get(false));
+            final Path expectedDir = outputDirs.get(false);
+            final Path actualDir = outputDirs.get(true);
+            final List<Path> expectedFiles = listFiles(expectedDir);
+            assertEquals("JSON files", expectedFiles.size(), listFiles(actualDir).size());
+            for (Path expected : expectedFiles) {
+                final Path actual = actualDir.resolve(expectedDir.relativize(expected));
+                assertTrue(
+                        "Identical " + expectedDir.relativize(expected),
+                        Arrays.equals(Files.readAllBytes(expected), Files.readAllBytes(actual)));
+            }
+        } finally {
+            for (Path outputDir : outputDirs.values()) {
+                for (Path path : Lists.reverse(listAll(outputDir))) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Run Ldml2JsonConverter incrementally twice over the same output directory. The second run
+     * finds no changed inputs, so it should write no locale files and be much faster.
+     */
+    public void TestJsonConverterIncremental() throws IOException, ParseException {
+        checkJsonConverterIncremental(false);
+    }
+
+    /**
+     * Like TestJsonConverterIncremental, but also writing the packages. The package files are
+     * written by both runs, from the value counts and locale lists that the second run takes from
+     * the manifest, so they should be identical.
+     */
+    public void TestJsonConverterIncrementalPackages() throws IOException, ParseException {
+        checkJsonConverterIncremental(true);
+    }
+
+    private void checkJsonConverterIncremental(boolean writePackages)
+            throws IOException, ParseException {
+        final String match = getInclusion() >= 5 ? ".*" : "(de|en|fr|ja|zh_Hant)";
+        final Path outputDir = Files.createTempDirectory("cldr-json");
+        try {
+            double[] seconds = new double[2];
+            List<Long> modified = null;
+            Map<Path, String> otherFiles = null;
+            for (int run = 0; run < 2; ++run) {
+                final Ldml2JsonConverter converter =
+                        new Ldml2JsonConverter(
+                                CLDRPaths.COMMON_DIRECTORY,
+                                outputDir + "/",
+                                "main",
+                                false, // fullNumbers
+                                true, // resolve
+                                "optional",
+                                match,
+                                writePackages,
+                                null, // default config
+                                CLDRFile.GEN_VERSION,
+                                true, // strictBcp47
+                                true, // skipBcp47LocalesWithSubtags
+                                true, // writeModernPackage
+                                false, // includeRedundant
+                                true, // shareSections
+                                true); // incremental
+                Timer timer = new Timer();
+                converter.processDirectory("main", DraftStatus.unconfirmed);
+                seconds[run] = timer.getSeconds();
+                List<Long> lastModified = new ArrayList<>();
+                Map<Path, String> lastOtherFiles = new TreeMap<>();
+                for (Path path : listFiles(outputDir)) {
+                    final Path relative = outputDir.relativize(path);
+                    if (Iterables.contains(relative, Paths.get("main"))) {
+                        lastModified.add(Files.getLastModifiedTime(path).toMillis());
+                    } else { // package files and the manifest, rewritten by each run
+                        lastOtherFiles.put(relative, Files.readString(path));
+                    }
+                }
+                if (modified != null) {
+                    assertEquals("JSON files rewritten by the second run", modified, lastModified);
+                    assertEquals("Package files of the second run", otherFiles, lastOtherFiles);
+                }
+                modified = lastModified;
+                otherFiles = lastOtherFiles;
+            }
+            if (writePackages) {
+                assertTrue("Package files written", !otherFiles.isEmpty());
+            }
+            logln("Full run: " + seconds[0] + "s\tUnchanged run: " + seconds[1] + "s");
+            assertRelation("Incremental run vs full run", true, seconds[1], LEQ, seconds[0]);
+        } finally {
+            for (Path path : Lists.reverse(listAll(outputDir))) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static List<Path> listAll(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static List<Path> listFiles(Path dir) throws IOException {
+        List<Path> result = new ArrayList<>();
+        for (Path path : listAll(dir)) {
+            if (Files.isRegularFile(path)) {
+                result.add(path);
+            }
+        }
+        return result;
+    }
+
     public void TestUnused() {}
 }
@@ -0,0 +1,54 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.cache.Cache;
+import org.junit.jupiter.api.Test;
+
+public class TestBoundedCaches {
+    @Test
+    void testMaximumSize() {
+        final Cache<String, String> cache =
+                BoundedCaches.build(
+                        "testMaximumSize", "maximumSize=2,recordStats", (k, v) -> k.length());
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.getIfPresent("a");
+        cache.put("c", "3");
+        cache.cleanUp();
+        assertEquals(2, cache.size());
+        assertNull(cache.getIfPresent("b")); // least recently used
+        assertEquals(1, BoundedCaches.getStatistics("testMaximumSize").evictionCount());
+        assertTrue(BoundedCaches.getAllStatistics().containsKey("testMaximumSize"));
+    }
+
+    @Test
+    void testMaximumWeight() {
+        System.setProperty("CLDR_CACHE_testMaximumWeight", "maximumWeight=10");
+        try {
+            final Cache<String, String> cache =
+                    BoundedCaches.build("testMaximumWeight", "maximumSize=1", (k, v) -> v.length());
+            cache.put("a", "12345");
+            cache.put("b", "12345");
+            cache.cleanUp();
+            assertEquals(2, cache.size());
+            cache.put("c", "1");
+            cache.cleanUp();
+            assertEquals(2, cache.size());
+        } finally {
+            System.clearProperty("CLDR_CACHE_testMaximumWeight");
+        }
+    }
+
+    @Test
+    void testXPathParts() {
+        final String path = "//ldml/localeDisplayNames/languages/language[@type=\"en\"]";
+        final long hits = XPathParts.getStatistics().hitCount();
+        final XPathParts parts = XPathParts.getFrozenInstance(path);
+        assertSame(parts, XPathParts.getFrozenInstance(path));
+        assertTrue(XPathParts.getStatistics().hitCount() > hits);
+    }
+}
@@ -0,0 +1,72 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+public class TestCompactXMLSource {
+    private static final String LANGUAGE = "//ldml/localeDisplayNames/languages/language[@type=\"x";
+
+    @Test
+    void testPathIds() {
+        final String path = "//ldml/localeDisplayNames/languages/language[@type=\"xx\"]";
+        final int id = XPathIdTable.getId(path);
+        assertEquals(id, XPathIdTable.getId(new String(path)));
+        assertEquals(id, XPathIdTable.peekId(path));
+        assertSame(XPathIdTable.getPath(id), XPathIdTable.getPath(XPathIdTable.getId(path)));
+        assertEquals(XPathIdTable.NO_ID, XPathIdTable.peekId("//ldml/never/used/path"));
+    }
+
+    @Test
+    void testMatchesSimpleXMLSource() {
+        final XMLSource simple = CLDRConfig.getInstance().getCldrFactory().makeSource("en");
+        final CompactXMLSource compact = new CompactXMLSource(simple);
+        assertTrue(compact.isFrozen());
+        Set<String> simplePaths = new TreeSet<>();
+        simple.forEach(simplePaths::add);
+        Set<String> compactPaths = new TreeSet<>();
+        compact.forEach(compactPaths::add);
+        assertEquals(simplePaths, compactPaths);
+        for (String path : simplePaths) {
+            assertEquals(simple.getValueAtDPath(path), compact.getValueAtDPath(path), path);
+            assertEquals(
+                    simple.getFullPathAtDPath(path), compact.getFullPathAtDPath(path), path);
+            assertEquals(
+                    simple.getValueAtDPath(path),
+                    compact.getValueAtPathId(XPathIdTable.peekId(path)),
+                    path);
+        }
+    }
+
+    @Test
+    void testModify() {
+        final CompactXMLSource source = new CompactXMLSource("xx");
+        final int count = 1000;
+        for (int i = 0; i < count; ++i) {
+            source.putValueAtPath(LANGUAGE + i + "\"][@draft=\"contributed\"]", "v" + i);
+        }
+        for (int i = 0; i < count; i += 2) {
+            source.removeValueAtPath(LANGUAGE + i + "\"]");
+        }
+        for (int i = 0; i < count; ++i) {
+            final String dpath = LANGUAGE + i + "\"]";
+            if (i % 2 == 0) {
+                assertNull(source.getValueAtDPath(dpath));
+            } else {
+                assertEquals("v" + i, source.getValueAtDPath(dpath));
+                assertEquals(
+                        LANGUAGE + i + "\"][@draft=\"contributed\"]",
+                        source.getFullPathAtDPath(dpath));
+            }
+        }
+        Set<String> found = new TreeSet<>();
+        source.getPathsWithValue("V3", "", found);
+        assertEquals(ImmutableSet.of(LANGUAGE + "3\"]"), found);
+    }
+}
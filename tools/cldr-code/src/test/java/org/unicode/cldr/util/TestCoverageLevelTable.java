@@ -0,0 +1,63 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.unicode.cldr.test.CoverageLevel2;
+
+public class TestCoverageLevelTable {
+    private static final List<String> LOCALES = ImmutableList.of("en", "en_GB", "fr", "ja");
+
+    @TempDir File tempDir;
+
+    @Test
+    void testMatchesCoverageLevel2() throws IOException {
+        final SupplementalDataInfo sdi = CLDRConfig.getInstance().getSupplementalDataInfo();
+        final List<String> paths = new ArrayList<>();
+        CLDRConfig.getInstance().getEnglish().forEach(paths::add);
+        final File file = new File(tempDir, "coverageLevels.bin");
+        CoverageLevelTable.write(file, sdi, LOCALES, paths);
+
+        final CoverageLevelTable table = CoverageLevelTable.open(file, sdi.getDirectory());
+        assertNotNull(table);
+        assertEquals(paths.size(), table.getPathCount());
+        assertTrue(table.getGroupCount() <= LOCALES.size());
+        for (String locale : LOCALES) {
+            assertTrue(table.hasLocale(locale));
+            final CoverageLevel2 coverage = CoverageLevel2.getInstance(sdi, locale);
+            for (String path : paths) {
+                assertEquals(coverage.getLevel(path), table.get(path, locale), path);
+            }
+        }
+        assertNull(table.get("//ldml/never/used/path", "en"));
+        assertNull(table.get(paths.get(0), "de"));
+        assertNull(table.get(null, "en"));
+    }
+
+    @Test
+    void testNullPath() {
+        final SupplementalDataInfo sdi = CLDRConfig.getInstance().getSupplementalDataInfo();
+        assertEquals(Level.UNDETERMINED, sdi.getCoverageLevel(null, "en"));
+        assertEquals(Level.UNDETERMINED, new CoverageInfo(sdi).getCoverageLevel(null, "en"));
+    }
+
+    @Test
+    void testStale() throws IOException {
+        final SupplementalDataInfo sdi = CLDRConfig.getInstance().getSupplementalDataInfo();
+        final File file = new File(tempDir, "coverageLevels.bin");
+        CoverageLevelTable.write(file, sdi, LOCALES, ImmutableList.of("//ldml/identity/version"));
+        // a table computed from other supplemental data is not used
+        final File otherSupplemental = new File(tempDir, "supplemental");
+        otherSupplemental.mkdirs();
+        assertNull(CoverageLevelTable.open(file, otherSupplemental));
+    }
+}
@@ -0,0 +1,36 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.unicode.cldr.util.CLDRFile.DraftStatus;
+
+public class TestMakeResolvedChild {
+    @ParameterizedTest
+    @ValueSource(strings = {"en_GB", "en_AU", "de_CH", "fr_CA", "sr_Latn", "zh_Hant_HK"})
+    void testSameAsMake(String locale) {
+        final Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        final String parent = LocaleIDParser.getParent(locale);
+        final CLDRFile resolvedParent = factory.make(parent, true, DraftStatus.unconfirmed);
+        final CLDRFile expected = factory.make(locale, true, DraftStatus.unconfirmed);
+        final CLDRFile actual =
+                factory.makeResolvedChild(locale, resolvedParent, DraftStatus.unconfirmed);
+
+        final Set<String> expectedPaths = new TreeSet<>();
+        expected.forEach(expectedPaths::add);
+        final Set<String> actualPaths = new TreeSet<>();
+        actual.forEach(actualPaths::add);
+        assertEquals(expectedPaths, actualPaths);
+        for (String path : expectedPaths) {
+            assertEquals(expected.getStringValue(path), actual.getStringValue(path), path);
+            assertEquals(expected.getFullXPath(path), actual.getFullXPath(path), path);
+            assertEquals(
+                    expected.getSourceLocaleID(path, null),
+                    actual.getSourceLocaleID(path, null),
+                    path);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+public class TestResolvingSourceCache {
+    private static final String ERAS = "//ldml/dates/calendars/calendar[@type=\"buddhist\"]/eras/";
+    private static final String ERA_ABBR = ERAS + "eraAbbr/era[@type=\"0\"]";
+    private static final String ERA_NAME = ERAS + "eraNames/era[@type=\"0\"]"; // aliased in root
+
+    private XMLSource.ResolvingSource makeResolvingSource(XMLSource child) {
+        final XMLSource root = CLDRConfig.getInstance().getCldrFactory().makeSource("root");
+        return new XMLSource.ResolvingSource(ImmutableList.of(child, root));
+    }
+
+    @Test
+    void testStatistics() {
+        final XMLSource.ResolvingSource resolving =
+                makeResolvingSource(new SimpleXMLSource("xx"));
+        final long misses = resolving.getSourceLocaleIDCacheStatistics().missCount();
+        assertEquals("BE", resolving.getValueAtDPath(ERA_ABBR));
+        assertEquals("BE", resolving.getValueAtDPath(ERA_ABBR));
+        assertEquals(misses + 1, resolving.getSourceLocaleIDCacheStatistics().missCount());
+        assertTrue(resolving.getSourceLocaleIDCacheStatistics().hitCount() >= 1);
+    }
+
+    @Test
+    void testAliasInvalidation() {
+        final XMLSource child = new SimpleXMLSource("xx");
+        final XMLSource.ResolvingSource resolving = makeResolvingSource(child);
+        // only the aliasing path is cached, not the path it aliases to
+        assertEquals("BE", resolving.getValueAtDPath(ERA_NAME));
+        child.putValueAtPath(ERA_ABBR, "XX");
+        child.notifyListeners(ERA_ABBR);
+        assertEquals("XX", resolving.getValueAtDPath(ERA_NAME));
+        assertEquals("XX", resolving.getValueAtDPath(ERA_ABBR));
+        child.removeValueAtPath(ERA_ABBR);
+        child.notifyListeners(ERA_ABBR);
+        assertEquals("BE", resolving.getValueAtDPath(ERA_NAME));
+    }
+}
@@ -0,0 +1,43 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.ibm.icu.util.Output;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.util.RegexLookup.LookupType;
+import org.unicode.cldr.util.RegexLookup.RegexFinder;
+
+public class TestStarPatternLookup {
+    private static final String A = "//ldml/a[@type=\"";
+
+    private RegexLookup<String> makeLookup() {
+        return new RegexLookup<String>(LookupType.STAR_PATTERN_LOOKUP)
+                .add(new RegexFinder("^//ldml/a\\[@type=\"x\"\\]$"), "x")
+                .add(new RegexFinder("^//ldml/a\\[@type=\"([^\"]*)\"\\]$"), "any")
+                .add(new RegexFinder("^//ldml/a\\[@type=\"y\"\\]$"), "y") // never reached
+                .add(new RegexFinder("^//ldml/a\\[@type=\"(?:p|q)\"\\]/b$"), "pq")
+                .add(new RegexFinder("^//ldml/a\\[@type=\"r\"\\]/b$"), "r");
+    }
+
+    @Test
+    void testFirstMatchInRuleOrder() {
+        final RegexLookup<String> lookup = makeLookup();
+        assertEquals("x", lookup.get(A + "x\"]"));
+        assertEquals("any", lookup.get(A + "y\"]"));
+        assertEquals("any", lookup.get(A + "z\"]"));
+        assertEquals("pq", lookup.get(A + "q\"]/b"));
+        assertEquals("r", lookup.get(A + "r\"]/b"));
+        assertNull(lookup.get(A + "s\"]/b"));
+        assertNull(lookup.get("//ldml/c"));
+    }
+
+    @Test
+    void testArguments() {
+        final RegexLookup<String> lookup = makeLookup();
+        Output<String[]> arguments = new Output<>();
+        assertEquals("any", lookup.get(A + "z\"]", null, arguments));
+        assertEquals("z", arguments.value[1]);
+        assertEquals(2, lookup.getAll(A + "x\"]", null, null, null).size());
+    }
+}
@@ -0,0 +1,102 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.unicode.cldr.util.CLDRFile.DraftStatus;
+
+/** A snapshot must not be used once the XML it was made from, or the generation, changes. */
+public class TestXMLSourceSnapshot {
+    private static final String LOCALE = "aa";
+    private static final String PATH = "//ldml/identity/language[@type=\"aa\"]";
+
+    @TempDir Path dir;
+
+    private XMLSource parsed;
+    private File xmlFile;
+    private File snapshotFile;
+
+    @BeforeEach
+    void writeSnapshot() throws IOException {
+        final File original = new File(CLDRPaths.MAIN_DIRECTORY, LOCALE + ".xml");
+        parsed = XMLNormalizingLoader.loadXMLFile(original, LOCALE, DraftStatus.unconfirmed);
+        // The snapshot is stamped with a copy of the XML, which the tests then change.
+        xmlFile = dir.resolve(LOCALE + ".xml").toFile();
+        Files.copy(original.toPath(), xmlFile.toPath());
+        snapshotFile =
+                XMLSourceSnapshot.getSnapshotFile(
+                        dir.resolve("snapshots").toFile(),
+                        xmlFile,
+                        LOCALE,
+                        DraftStatus.unconfirmed);
+        XMLSourceSnapshot.write(snapshotFile, xmlFile, parsed);
+    }
+
+    private XMLSource read() {
+        return XMLSourceSnapshot.read(snapshotFile, xmlFile, LOCALE);
+    }
+
+    @Test
+    void testCurrent() {
+        final XMLSource snapshot = read();
+        assertNotNull(snapshot);
+        assertEquals(parsed.getFullPathAtDPath(PATH), snapshot.getFullPathAtDPath(PATH));
+    }
+
+    @Test
+    void testTouched() {
+        // Only the time changed, and the content still matches the checksum.
+        xmlFile.setLastModified(xmlFile.lastModified() + 10_000);
+        assertNotNull(read());
+    }
+
+    @Test
+    void testModifiedSameLength() throws IOException {
+        final byte[] bytes = Files.readAllBytes(xmlFile.toPath());
+        final int i = new String(bytes, StandardCharsets.ISO_8859_1).indexOf("<ldml");
+        bytes[i + 1] = 'L';
+        final long lastModified = xmlFile.lastModified();
+        Files.write(xmlFile.toPath(), bytes);
+        xmlFile.setLastModified(lastModified + 10_000);
+        assertNull(read(), "snapshot of modified XML");
+    }
+
+    @Test
+    void testModifiedLength() throws IOException {
+        final long lastModified = xmlFile.lastModified();
+        Files.write(
+                xmlFile.toPath(),
+                "<!-- changed -->\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        // Even if the time is the same, the length shows that the file changed.
+        xmlFile.setLastModified(lastModified);
+        assertNull(read(), "snapshot of longer XML");
+    }
+
+    @Test
+    void testOtherGeneration() throws IOException {
+        // The header is the magic number and format version, then GEN_VERSION as modified UTF-8.
+        final byte[] bytes = Files.readAllBytes(snapshotFile.toPath());
+        final int first = 4 + 4 + 2;
+        assertEquals(CLDRFile.GEN_VERSION.charAt(0), (char) bytes[first]);
+        bytes[first] = (byte) (bytes[first] == '0' ? '1' : '0');
+        Files.write(snapshotFile.toPath(), bytes);
+        assertNull(read(), "snapshot from another GEN_VERSION");
+    }
+
+    @Test
+    void testMissing() {
+        snapshotFile.delete();
+        assertNull(read());
+    }
+}